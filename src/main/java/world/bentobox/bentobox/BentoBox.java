@@ -8,6 +8,8 @@ import org.bukkit.Bukkit;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.server.ServerCommandEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.generator.ChunkGenerator;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -32,6 +34,7 @@ import world.bentobox.bentobox.listeners.DeathListener;
 import world.bentobox.bentobox.listeners.JoinLeaveListener;
 import world.bentobox.bentobox.listeners.PanelListenerManager;
 import world.bentobox.bentobox.listeners.PrimaryIslandListener;
+import world.bentobox.bentobox.listeners.SafeLocationListener;
 import world.bentobox.bentobox.listeners.StandardSpawnProtectionListener;
 import world.bentobox.bentobox.listeners.teleports.EntityTeleportListener;
 import world.bentobox.bentobox.listeners.teleports.PlayerTeleportListener;
@@ -136,6 +139,8 @@ public class BentoBox extends JavaPlugin implements Listener {
         if (!this.isEnabled()) {
             return;
         }
+        // Load the names of all players for name lookups and tab completion
+        Bukkit.getScheduler().runTaskAsynchronously(instance, playersManager::loadNames);
         islandsManager = new IslandsManager(this);
         ranksManager = new RanksManager();
 
@@ -311,6 +316,8 @@ public class BentoBox extends JavaPlugin implements Listener {
         manager.registerEvents(islandDeletionManager, this);
         // Primary Island Listener
         manager.registerEvents(new PrimaryIslandListener(this), this);
+        // Remembered safe locations
+        manager.registerEvents(new SafeLocationListener(this), this);
     }
 
     @Override
@@ -339,6 +346,20 @@ public class BentoBox extends JavaPlugin implements Listener {
         }
     }
 
+    @EventHandler
+    public void onWorldLoad(WorldLoadEvent e) {
+        if (islandWorldManager != null) {
+            islandWorldManager.clearOverWorldCache();
+        }
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent e) {
+        if (islandWorldManager != null) {
+            islandWorldManager.clearOverWorldCache();
+        }
+    }
+
     /**
      * Returns the player manager
      * @return the player manager
@@ -51,10 +51,10 @@ public class Settings implements ConfigObject {
     private List<String> readyCommands = new ArrayList<>();
 
     // Database
-    @ConfigComment("JSON, MYSQL, MARIADB, MONGODB, SQLITE, and POSTGRESQL.")
+    @ConfigComment("JSON, BINARY, MYSQL, MARIADB, MONGODB, SQLITE, and POSTGRESQL.")
     @ConfigComment("Transition database options are:")
-    @ConfigComment("  JSON2MARIADB, JSON2MYSQL, JSON2MONGODB, JSON2SQLITE, JSON2POSTGRESQL")
-    @ConfigComment("  MYSQL2JSON, MARIADB2JSON, MONGODB2JSON, SQLITE2JSON, POSTGRESQL2JSON")
+    @ConfigComment("  JSON2MARIADB, JSON2MYSQL, JSON2MONGODB, JSON2SQLITE, JSON2POSTGRESQL, JSON2BINARY")
+    @ConfigComment("  MYSQL2JSON, MARIADB2JSON, MONGODB2JSON, SQLITE2JSON, POSTGRESQL2JSON, BINARY2JSON")
     @ConfigComment("If you need others, please make a feature request.")
     @ConfigComment("Minimum required versions:")
     @ConfigComment("   MySQL versions 5.7 or later")
@@ -64,6 +64,7 @@ public class Settings implements ConfigObject {
     @ConfigComment("   PostgreSQL versions 9.4 or later")
     @ConfigComment("Transition options enable migration from one database type to another. Use /bbox migrate.")
     @ConfigComment("JSON is a file-based database.")
+    @ConfigComment("BINARY is a file-based database that is smaller and faster to load than JSON, but cannot be edited by hand.")
     @ConfigComment("MYSQL might not work with all implementations: if available, use a dedicated database type (e.g. MARIADB).")
     @ConfigComment("BentoBox uses HikariCP for connecting with SQL databases.")
     @ConfigComment("If you use MONGODB, you must also run the BSBMongo plugin (not addon).")
@@ -96,15 +97,29 @@ public class Settings implements ConfigObject {
     @ConfigComment("How many players will be saved in one tick. Default is 200")
     @ConfigComment("Reduce if you experience lag while saving.")
     @ConfigComment("Do not set this too low or data might get lost!")
-    @ConfigEntry(path = "general.database.max-saved-players-per-tick")
+    @ConfigEntry(path = "general.database.max-saved-players-per-tick", hidden = true)
     private int maxSavedPlayersPerTick = 20;
 
     @ConfigComment("How many islands will be saved in one tick. Default is 200")
     @ConfigComment("Reduce if you experience lag while saving.")
     @ConfigComment("Do not set this too low or data might get lost!")
-    @ConfigEntry(path = "general.database.max-saved-islands-per-tick")
+    @ConfigEntry(path = "general.database.max-saved-islands-per-tick", hidden = true)
     private int maxSavedIslandsPerTick = 20;
 
+    @ConfigComment("How many milliseconds of each tick can be spent on the auto save of players and islands. Default is 10.")
+    @ConfigComment("Only players and islands that have changed since they were last saved are saved.")
+    @ConfigComment("At least one is saved each tick, so the auto save always finishes.")
+    @ConfigComment("Reduce if you experience lag while saving.")
+    @ConfigEntry(path = "general.database.max-save-time-per-tick", since = "2.0.0")
+    private int maxSaveTimePerTick = 10;
+
+    @ConfigComment("How many offline players are kept in memory. Default is 1000.")
+    @ConfigComment("Online players are always kept in memory. When there are more offline players than this,")
+    @ConfigComment("the ones that were used least recently are removed and loaded again when they are needed.")
+    @ConfigComment("Set to 0 to keep every player that was loaded in memory.")
+    @ConfigEntry(path = "general.database.player-cache-size", since = "2.0.0")
+    private int playerCacheSize = 1000;
+
     @ConfigComment("Number of active connections to the SQL database at the same time.")
     @ConfigComment("Default 10.")
     @ConfigEntry(path = "general.database.max-pool-size", since = "1.21.0")
@@ -114,6 +129,13 @@ public class Settings implements ConfigObject {
     @ConfigEntry(path = "general.database.use-ssl", since = "1.12.0")
     private boolean useSSL = false;
 
+    @ConfigComment("Store indexed fields, like the world and owner of islands, in their own indexed columns in SQL databases.")
+    @ConfigComment("This makes admin commands that search the database, like the team fix command, faster on large databases.")
+    @ConfigComment("SQL databases can search the data without this, just more slowly.")
+    @ConfigComment("Requires MySQL 5.7.13, MariaDB 10.2.3, SQLite 3.31 or PostgreSQL 12 or later.")
+    @ConfigEntry(path = "general.database.indexed-columns", since = "2.0.0")
+    private boolean indexedColumns = false;
+
     @ConfigComment("Database table prefix. Adds a prefix to the database tables. Not used by flatfile databases.")
     @ConfigComment("Only the characters A-Z, a-z, 0-9 can be used. Invalid characters will become an underscore.")
     @ConfigComment("Set this to a unique value if you are running multiple BentoBox instances that share a database.")
@@ -417,6 +439,22 @@ public class Settings implements ConfigObject {
         this.useSSL = useSSL;
     }
 
+    /**
+     * @return true if SQL databases should store indexed fields in indexed columns
+     * @since 2.0.0
+     */
+    public boolean isIndexedColumns() {
+        return indexedColumns;
+    }
+
+    /**
+     * @param indexedColumns true if SQL databases should store indexed fields in indexed columns
+     * @since 2.0.0
+     */
+    public void setIndexedColumns(boolean indexedColumns) {
+        this.indexedColumns = indexedColumns;
+    }
+
     public void setDatabasePort(int databasePort) {
         this.databasePort = databasePort;
     }
@@ -455,32 +493,72 @@ public class Settings implements ConfigObject {
 
     /**
      * @since 1.15.3
+     * @deprecated no longer used, the auto save is limited by {@link #getMaxSaveTimePerTick()}
      */
+    @Deprecated(since="2.0.0")
     public int getMaxSavedPlayersPerTick() {
         return maxSavedPlayersPerTick;
     }
 
     /**
      * @since 1.15.3
+     * @deprecated no longer used, the auto save is limited by {@link #getMaxSaveTimePerTick()}
      */
+    @Deprecated(since="2.0.0")
     public void setMaxSavedPlayersPerTick(int maxSavedPlayersPerTick) {
         this.maxSavedPlayersPerTick = maxSavedPlayersPerTick;
     }
 
     /**
      * @since 1.15.3
+     * @deprecated no longer used, the auto save is limited by {@link #getMaxSaveTimePerTick()}
      */
+    @Deprecated(since="2.0.0")
     public int getMaxSavedIslandsPerTick() {
         return maxSavedIslandsPerTick;
     }
 
     /**
      * @since 1.15.3
+     * @deprecated no longer used, the auto save is limited by {@link #getMaxSaveTimePerTick()}
      */
+    @Deprecated(since="2.0.0")
     public void setMaxSavedIslandsPerTick(int maxSavedIslandsPerTick) {
         this.maxSavedIslandsPerTick = maxSavedIslandsPerTick;
     }
 
+    /**
+     * @return the number of milliseconds each tick that the auto save can use
+     * @since 2.0.0
+     */
+    public int getMaxSaveTimePerTick() {
+        return maxSaveTimePerTick;
+    }
+
+    /**
+     * @param maxSaveTimePerTick the number of milliseconds each tick that the auto save can use
+     * @since 2.0.0
+     */
+    public void setMaxSaveTimePerTick(int maxSaveTimePerTick) {
+        this.maxSaveTimePerTick = maxSaveTimePerTick;
+    }
+
+    /**
+     * @return the number of offline players that are kept in memory, or 0 for no limit
+     * @since 2.0.0
+     */
+    public int getPlayerCacheSize() {
+        return playerCacheSize;
+    }
+
+    /**
+     * @param playerCacheSize the number of offline players that are kept in memory, or 0 for no limit
+     * @since 2.0.0
+     */
+    public void setPlayerCacheSize(int playerCacheSize) {
+        this.playerCacheSize = playerCacheSize;
+    }
+
     public Set<String> getFakePlayers() {
         return fakePlayers;
     }
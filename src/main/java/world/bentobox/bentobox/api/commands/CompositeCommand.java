@@ -12,6 +12,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.logging.Logger;
 
+import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
@@ -40,6 +41,7 @@ import world.bentobox.bentobox.util.Util;
 public abstract class CompositeCommand extends Command implements PluginIdentifiableCommand, BentoBoxCommand {
 
     private static final String COMMANDS = "commands.";
+    private static final int MAX_TAB_COMPLETE_NAMES = 50;
 
     private final BentoBox plugin;
 
@@ -402,6 +404,23 @@ public abstract class CompositeCommand extends Command implements PluginIdentifi
         return plugin.getPlayers();
     }
 
+    /**
+     * Lists the names of players that start with some letters, for tab completion.
+     * Online players that the user can see come first, then players that are offline.
+     * @param user - the user who is tab completing
+     * @param start - first few letters of the name
+     * @return list of names
+     * @since 2.0.0
+     */
+    protected List<String> tabCompletePlayerNames(User user, String start) {
+        List<String> options = new ArrayList<>(Util.tabLimit(Util.getOnlinePlayerList(user), start));
+        // Online players are not listed again, so players who are invisible stay hidden
+        getPlayers().getNames(start, MAX_TAB_COMPLETE_NAMES).stream()
+        .filter(name -> Bukkit.getPlayerExact(name) == null)
+        .forEach(options::add);
+        return options;
+    }
+
     @Override
     public @NonNull BentoBox getPlugin() {
         return plugin;
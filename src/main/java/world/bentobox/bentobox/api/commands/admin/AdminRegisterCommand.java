@@ -1,6 +1,5 @@
 package world.bentobox.bentobox.api.commands.admin;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -137,8 +136,7 @@ public class AdminRegisterCommand extends ConfirmableCommand {
             // Don't show every player on the server. Require at least the first letter
             return Optional.empty();
         }
-        List<String> options = new ArrayList<>(Util.getOnlinePlayerList(user));
-        return Optional.of(Util.tabLimit(options, lastArg));
+        return Optional.of(tabCompletePlayerNames(user, lastArg));
     }
 
 }
\ No newline at end of file
@@ -78,6 +78,7 @@ public class AdminUnregisterCommand extends ConfirmableCommand {
         oldIsland.getMemberSet().forEach(m -> getIslands().removePlayer(getWorld(), m));
         // Remove all island players that reference this island
         oldIsland.getMembers().clear();
+        oldIsland.setChanged();
         getIslands().save(oldIsland);
         user.sendMessage("commands.admin.unregister.unregistered-island", TextVariables.XYZ, Util.xyz(oldIsland.getCenter().toVector()),
                 TextVariables.NAME, targetName);
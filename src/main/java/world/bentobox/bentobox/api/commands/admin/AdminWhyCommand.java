@@ -5,11 +5,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
-
 import world.bentobox.bentobox.api.commands.CompositeCommand;
 import world.bentobox.bentobox.api.commands.ConfirmableCommand;
+import world.bentobox.bentobox.api.flags.WhyDebug;
 import world.bentobox.bentobox.api.localization.TextVariables;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.bentobox.util.Util;
@@ -25,6 +23,8 @@ public class AdminWhyCommand extends ConfirmableCommand {
         setPermission("admin.why");
         setParametersHelp("commands.admin.why.parameters");
         setDescription("commands.admin.why.description");
+
+        new AdminWhyDumpCommand(this);
     }
 
     @Override
@@ -40,24 +40,18 @@ public class AdminWhyCommand extends ConfirmableCommand {
             user.sendMessage("general.errors.unknown-player", TextVariables.NAME, args.get(0));
             return false;
         }
-        // Set meta data on player
         User target = User.getInstance(targetUUID);
         if (!target.isOnline()) {
             user.sendMessage("general.errors.offline-player");
             return false;
         }
         // Determine the debug mode and toggle if required
-        boolean newValue = !target.getPlayer().getMetadata(getWorld().getName() + "_why_debug").stream()
-                .filter(p -> getPlugin().equals(p.getOwningPlugin())).findFirst().map(MetadataValue::asBoolean).orElse(false);
-        if (newValue) {
+        if (WhyDebug.getSession(targetUUID, getWorld().getName()) == null) {
             user.sendMessage("commands.admin.why.turning-on", TextVariables.NAME, target.getName());
+            WhyDebug.start(targetUUID, getWorld().getName(), user.isPlayer() ? user.getUniqueId() : null);
         } else {
             user.sendMessage("commands.admin.why.turning-off", TextVariables.NAME, target.getName());
-        }
-        // Set the debug meta
-        target.getPlayer().setMetadata(getWorld().getName() + "_why_debug", new FixedMetadataValue(getPlugin(), newValue));
-        if (user.isPlayer()) {
-            target.getPlayer().setMetadata(getWorld().getName() + "_why_debug_issuer", new FixedMetadataValue(getPlugin(), user.getUniqueId().toString()));
+            WhyDebug.stop(targetUUID, getWorld().getName());
         }
         return true;
     }
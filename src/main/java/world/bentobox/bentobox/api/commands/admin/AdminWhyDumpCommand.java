@@ -0,0 +1,41 @@
+package world.bentobox.bentobox.api.commands.admin;
+
+import java.util.List;
+
+import world.bentobox.bentobox.api.commands.CompositeCommand;
+import world.bentobox.bentobox.api.flags.WhyDebug;
+import world.bentobox.bentobox.api.user.User;
+
+/**
+ * Shows the recent protection decisions of players that are being debugged with the why command
+ * @since 2.0.0
+ */
+public class AdminWhyDumpCommand extends CompositeCommand {
+
+    public AdminWhyDumpCommand(CompositeCommand parent) {
+        super(parent, "dump");
+    }
+
+    @Override
+    public void setup() {
+        setPermission("admin.why");
+        setParametersHelp("commands.admin.why.dump.parameters");
+        setDescription("commands.admin.why.dump.description");
+    }
+
+    @Override
+    public boolean execute(User user, String label, List<String> args) {
+        if (args.size() > 1) {
+            showHelp(this, user);
+            return false;
+        }
+        List<WhyDebug.Trace> trace = WhyDebug.getTrace().stream()
+                .filter(t -> args.isEmpty() || t.player().equalsIgnoreCase(args.get(0))).toList();
+        if (trace.isEmpty()) {
+            user.sendMessage("commands.admin.why.dump.empty");
+            return true;
+        }
+        trace.forEach(t -> user.sendRawMessage("Why: " + t));
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+package world.bentobox.bentobox.api.flags;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.World;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Remembers the protection bypass permissions of a user for a short time, so that
+ * {@link FlagListener#checkIsland} does not build permission strings and ask the permission
+ * plugin on every event. Each {@link world.bentobox.bentobox.api.user.User user} has one.
+ * <p>
+ * Only the parts of a decision that depend on the user are kept: the bypass permissions and whether
+ * the admin switch is on. Island ranks, flag settings and where the island is are quick to look up and
+ * are always checked again, so they can change without clearing this. The cache is cleared when
+ * permissions or meta data are changed with the user's methods, and forgotten after a second in case
+ * they were changed another way, e.g. by a permissions plugin.
+ *
+ * @since 2.0.0
+ */
+public final class BypassCache {
+
+    /**
+     * How long the results are kept
+     */
+    private static final long LIFETIME = TimeUnit.SECONDS.toNanos(1);
+
+    static final int EVERYWHERE_KNOWN = 1;
+    static final int EVERYWHERE = 2;
+    static final int ISLAND_KNOWN = 4;
+    static final int ISLAND = 8;
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private World world;
+    private byte[] bits = EMPTY;
+    private long expires;
+    private volatile boolean valid;
+
+    /**
+     * Gets what is known about a flag
+     * @param world - world, as the permission prefix depends on it
+     * @param flag - flag
+     * @return bits, or 0 if nothing is known
+     */
+    int get(@NonNull World world, @NonNull Flag flag) {
+        long now = System.nanoTime();
+        if (!valid || world != this.world || now - expires > 0) {
+            valid = true;
+            this.world = world;
+            Arrays.fill(bits, (byte) 0);
+            expires = now + LIFETIME;
+            return 0;
+        }
+        int o = flag.getOrdinal();
+        return o < bits.length ? bits[o] : 0;
+    }
+
+    /**
+     * Adds to what is known about a flag. Must be called after {@link #get(World, Flag)} for the same world.
+     * @param flag - flag
+     * @param known - bits to add
+     */
+    void add(@NonNull Flag flag, int known) {
+        int o = flag.getOrdinal();
+        if (o >= bits.length) {
+            bits = Arrays.copyOf(bits, Math.max(o + 1, Flag.getOrdinalCount()));
+        }
+        bits[o] |= known;
+    }
+
+    /**
+     * Forgets everything, e.g. because the user's permissions changed
+     */
+    public void clear() {
+        valid = false;
+    }
+}
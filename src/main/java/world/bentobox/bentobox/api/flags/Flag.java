@@ -1,8 +1,11 @@
 package world.bentobox.bentobox.api.flags;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -118,6 +121,12 @@ public class Flag implements Comparable<Flag> {
 
     private static final String PROTECTION_FLAGS = "protection.flags.";
 
+    /**
+     * Ordinal of each flag ID. An ID keeps its ordinal even if its flag is unregistered,
+     * because islands may still have a value for it.
+     */
+    private static final Map<String, Integer> ORDINALS = new HashMap<>();
+
     private final String id;
     private final Material icon;
     private final Listener listener;
@@ -131,9 +140,15 @@ public class Flag implements Comparable<Flag> {
     private final int cooldown;
     private final Mode mode;
     private final Set<Flag> subflags;
+    private final int ordinal;
+    /**
+     * Bypass permissions by permission prefix, so they are not built again for every protection check
+     */
+    private final Map<String, BypassPermissions> bypassPermissions = Collections.synchronizedMap(new HashMap<>());
 
     private Flag(Builder builder) {
         this.id = builder.id;
+        this.ordinal = ordinal(builder.id);
         this.icon = builder.icon;
         this.listener = builder.listener;
         this.type = builder.type;
@@ -154,6 +169,55 @@ public class Flag implements Comparable<Flag> {
         return id;
     }
 
+    /**
+     * Gets a small number that is unique to this flag's ID, so flag values can be kept in arrays.
+     * Flags with the same ID have the same ordinal. Ordinals are given out in order from 0.
+     * @return the ordinal
+     * @since 2.0.0
+     * @see FlagMap
+     */
+    public int getOrdinal() {
+        return ordinal;
+    }
+
+    private static synchronized int ordinal(String id) {
+        return ORDINALS.computeIfAbsent(id, k -> ORDINALS.size());
+    }
+
+    /**
+     * @param id - flag ID
+     * @return the ordinal of this ID, or -1 if no flag with this ID has been made
+     */
+    static synchronized int findOrdinal(String id) {
+        return ORDINALS.getOrDefault(id, -1);
+    }
+
+    /**
+     * @return the number of ordinals that have been given out
+     */
+    static synchronized int getOrdinalCount() {
+        return ORDINALS.size();
+    }
+
+    /**
+     * Permissions that let moderators ignore a flag
+     * @param all - permission to ignore all protection flags, e.g. {@code bskyblock.mod.bypassprotect}
+     * @param everywhere - permission to ignore this flag everywhere
+     * @param island - permission to ignore this flag on islands
+     */
+    record BypassPermissions(String all, String everywhere, String island) {}
+
+    /**
+     * Gets the bypass permissions of this flag. They are made once for each game mode and then reused.
+     * @param permissionPrefix - permission prefix of the game mode, e.g. {@code bskyblock.}
+     * @return bypass permissions
+     */
+    @NonNull
+    BypassPermissions getBypassPermissions(@NonNull String permissionPrefix) {
+        return bypassPermissions.computeIfAbsent(permissionPrefix, p -> new BypassPermissions(p + "mod.bypassprotect",
+                p + "mod.bypass." + id + ".everywhere", p + "mod.bypass." + id + ".island"));
+    }
+
     public Material getIcon() {
         return icon;
     }
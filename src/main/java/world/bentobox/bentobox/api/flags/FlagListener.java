@@ -1,7 +1,6 @@
 package world.bentobox.bentobox.api.flags;
 
 import java.util.Optional;
-import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -9,7 +8,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.Listener;
-import org.bukkit.metadata.MetadataValue;
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -151,9 +149,7 @@ public abstract class FlagListener implements Listener {
         // Protection flag
 
         // Ops or "bypass everywhere" moderators can do anything unless they have switched it off
-        if (!user.getMetaData(AdminSwitchCommand.META_TAG).map(MetaDataValue::asBoolean).orElse(false)
-                && (user.hasPermission(getIWM().getPermissionPrefix(loc.getWorld()) + "mod.bypassprotect")
-                        || user.hasPermission(getIWM().getPermissionPrefix(loc.getWorld()) + "mod.bypass." + flag.getID() + ".everywhere"))) {
+        if (canBypass(loc.getWorld(), flag, BypassCache.EVERYWHERE)) {
             if (user.isOp()) {
                 report(user, e, loc, flag,  Why.OP);
             } else {
@@ -189,8 +185,7 @@ public abstract class FlagListener implements Listener {
         if (island.isAllowed(user, flag)) {
             report(user, e, loc, flag,  Why.RANK_ALLOWED);
             return true;
-        } else if (!user.getMetaData(AdminSwitchCommand.META_TAG).map(MetaDataValue::asBoolean).orElse(false)
-                && (user.hasPermission(getIWM().getPermissionPrefix(loc.getWorld()) + "mod.bypass." + flag.getID() + ".island"))) {
+        } else if (canBypass(loc.getWorld(), flag, BypassCache.ISLAND)) {
             report(user, e, loc, flag,  Why.BYPASS_ISLAND);
             return true;
         }
@@ -199,6 +194,32 @@ public abstract class FlagListener implements Listener {
         return false;
     }
 
+    /**
+     * Checks if the user has a bypass permission for this flag and has not switched bypassing off.
+     * The answer is kept for a short time in the user's {@link BypassCache}.
+     * @param world - world
+     * @param flag - flag
+     * @param bypass - {@link BypassCache#EVERYWHERE} or {@link BypassCache#ISLAND}
+     * @return true if the user can bypass the flag
+     */
+    private boolean canBypass(@NonNull World world, @NonNull Flag flag, int bypass) {
+        BypassCache cache = user.getBypassCache();
+        int known = bypass == BypassCache.EVERYWHERE ? BypassCache.EVERYWHERE_KNOWN : BypassCache.ISLAND_KNOWN;
+        int bits = cache.get(world, flag);
+        if ((bits & known) != 0) {
+            return (bits & bypass) != 0;
+        }
+        boolean result = false;
+        if (!user.getMetaData(AdminSwitchCommand.META_TAG).map(MetaDataValue::asBoolean).orElse(false)) {
+            Flag.BypassPermissions permissions = flag.getBypassPermissions(getIWM().getPermissionPrefix(world));
+            result = bypass == BypassCache.EVERYWHERE
+                    ? user.hasPermission(permissions.all()) || user.hasPermission(permissions.everywhere())
+                            : user.hasPermission(permissions.island());
+        }
+        cache.add(flag, result ? known | bypass : known);
+        return result;
+    }
+
     private boolean processWorldSetting(@NonNull Flag flag, @NonNull Location loc, @NonNull Event e, boolean silent) {
         if (flag.isSetForWorld(loc.getWorld())) {
             report(user, e, loc, flag,  Why.ALLOWED_IN_WORLD);
@@ -229,23 +250,27 @@ public abstract class FlagListener implements Listener {
      */
     protected void report(@Nullable User user, @NonNull Event e, @NonNull Location loc, @NonNull Flag flag, @NonNull Why why) {
         // A quick way to debug flag listener unit tests is to add this line here: System.out.println(why.name()); NOSONAR
-        if (user != null && user.isPlayer() && user.getPlayer().getMetadata(loc.getWorld().getName() + "_why_debug").stream()
-                .filter(p -> p.getOwningPlugin().equals(getPlugin())).findFirst().map(MetadataValue::asBoolean).orElse(false)) {
-            String whyEvent = "Why: " + e.getEventName() + " in world " + loc.getWorld().getName() + " at " + Util.xyz(loc.toVector());
-            String whyBypass = "Why: " + user.getName() + " " + flag.getID() + " - " + why.name();
-
-            plugin.log(whyEvent);
-            plugin.log(whyBypass);
-
-            // See if there is a player that issued the debug
-            String issuerUUID = user.getPlayer().getMetadata(loc.getWorld().getName() + "_why_debug_issuer").stream()
-                    .filter(p -> getPlugin().equals(p.getOwningPlugin())).findFirst().map(MetadataValue::asString).orElse("");
-            if (!issuerUUID.isEmpty()) {
-                User issuer = User.getInstance(UUID.fromString(issuerUUID));
-                if (issuer.isPlayer()) {
-                    user.sendRawMessage(whyEvent);
-                    user.sendRawMessage(whyBypass);
-                }
+        if (!WhyDebug.isActive() || user == null || !user.isPlayer()) {
+            return;
+        }
+        WhyDebug.Session session = WhyDebug.getSession(user.getUniqueId(), loc.getWorld().getName());
+        if (session == null) {
+            return;
+        }
+        WhyDebug.trace(new WhyDebug.Trace(System.currentTimeMillis(), user.getName(), flag.getID(), why.name(),
+                e.getEventName(), loc.getWorld().getName(), loc.getBlockX(), loc.getBlockY(), loc.getBlockZ()));
+        String whyEvent = "Why: " + e.getEventName() + " in world " + loc.getWorld().getName() + " at " + Util.xyz(loc.toVector());
+        String whyBypass = "Why: " + user.getName() + " " + flag.getID() + " - " + why.name();
+
+        plugin.log(whyEvent);
+        plugin.log(whyBypass);
+
+        // See if there is a player that issued the debug
+        if (session.issuer() != null) {
+            User issuer = User.getInstance(session.issuer());
+            if (issuer.isPlayer()) {
+                user.sendRawMessage(whyEvent);
+                user.sendRawMessage(whyBypass);
             }
         }
     }
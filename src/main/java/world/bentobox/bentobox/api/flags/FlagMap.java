@@ -0,0 +1,193 @@
+package world.bentobox.bentobox.api.flags;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * A map of flag IDs to values, e.g. the flags of an island, that also keeps the values in an array
+ * by {@link Flag#getOrdinal() flag ordinal}. It is stored like any other map, but {@link #getValue(Flag)}
+ * does not hash the ID, box the value or change the map, so it is cheap enough for every protection check.
+ * <p>
+ * The array is filled in as flags are looked up and kept up to date when the map is changed.
+ * Not thread safe.
+ *
+ * @since 2.0.0
+ */
+public class FlagMap extends AbstractMap<String, Integer> {
+
+    /**
+     * The flag has not been looked up yet
+     */
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+    /**
+     * The flag is not in the map
+     */
+    private static final int ABSENT = Integer.MIN_VALUE + 1;
+    private static final int[] EMPTY = new int[0];
+
+    private final Map<String, Integer> map;
+    private int[] values = EMPTY;
+    private final Set<Entry<String, Integer>> entrySet = new EntrySet();
+
+    public FlagMap() {
+        map = new HashMap<>();
+    }
+
+    /**
+     * @param flags - flag IDs and values to copy
+     */
+    public FlagMap(@NonNull Map<String, Integer> flags) {
+        map = new HashMap<>(flags);
+    }
+
+    /**
+     * Gets the value of a flag
+     * @param flag - flag
+     * @return the value, or the flag's default rank if it is not in the map
+     */
+    public int getValue(@NonNull Flag flag) {
+        int o = flag.getOrdinal();
+        int[] v = values;
+        if (o < v.length) {
+            int value = v[o];
+            if (value == ABSENT) {
+                return flag.getDefaultRank();
+            }
+            if (value != UNKNOWN) {
+                return value;
+            }
+        }
+        return lookup(flag, o);
+    }
+
+    private int lookup(Flag flag, int o) {
+        if (o >= values.length) {
+            int old = values.length;
+            // Make room for all flags that exist, not just this one
+            values = Arrays.copyOf(values, Math.max(o + 1, Flag.getOrdinalCount()));
+            Arrays.fill(values, old, values.length, UNKNOWN);
+        }
+        Integer value = map.get(flag.getID());
+        if (value == null) {
+            values[o] = ABSENT;
+            return flag.getDefaultRank();
+        }
+        values[o] = toSlot(value);
+        return value;
+    }
+
+    /**
+     * Keeps the array in line with a change to the map
+     * @param id - flag ID
+     * @param value - new value or null if removed
+     */
+    private void update(Object id, Integer value) {
+        int o = id instanceof String s ? Flag.findOrdinal(s) : -1;
+        if (o >= 0 && o < values.length) {
+            values[o] = value == null ? ABSENT : toSlot(value);
+        }
+    }
+
+    private static int toSlot(int value) {
+        // Values that clash with the markers are not kept in the array
+        return value == UNKNOWN || value == ABSENT ? UNKNOWN : value;
+    }
+
+    @Override
+    public Integer get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public Integer put(String key, Integer value) {
+        Integer old = map.put(key, value);
+        update(key, value);
+        return old;
+    }
+
+    @Override
+    public Integer remove(Object key) {
+        Integer old = map.remove(key);
+        update(key, null);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        values = EMPTY;
+    }
+
+    @Override
+    public Set<Entry<String, Integer>> entrySet() {
+        return entrySet;
+    }
+
+    /**
+     * A view of the map that keeps the array up to date when it is used to change the map
+     */
+    private final class EntrySet extends AbstractSet<Entry<String, Integer>> {
+
+        @Override
+        public Iterator<Entry<String, Integer>> iterator() {
+            Iterator<Entry<String, Integer>> it = map.entrySet().iterator();
+            return new Iterator<>() {
+                private String last;
+
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Entry<String, Integer> next() {
+                    Entry<String, Integer> e = it.next();
+                    last = e.getKey();
+                    return new SimpleEntry<>(e) {
+                        private static final long serialVersionUID = 1L;
+
+                        @Override
+                        public Integer setValue(Integer value) {
+                            super.setValue(value);
+                            // Replacing a value is not a structural change, so this is safe while iterating
+                            return FlagMap.this.put(getKey(), value);
+                        }
+                    };
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                    update(last, null);
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            FlagMap.this.clear();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package world.bentobox.bentobox.api.flags;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The players whose protection decisions are being reported by the admin why command, and a trace of
+ * the most recent decisions that admins can dump.
+ * <p>
+ * Flag listeners report every decision, so when nobody is being debugged, the check is one read of a
+ * volatile boolean. Thread safe.
+ *
+ * @since 2.0.0
+ */
+public final class WhyDebug {
+
+    /**
+     * Number of decisions kept in the trace
+     */
+    public static final int TRACE_SIZE = 500;
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
+    /**
+     * Sessions by player UUID and world name
+     */
+    private static final Map<UUID, Map<String, Session>> sessions = new ConcurrentHashMap<>();
+    private static volatile boolean active;
+
+    private static final Trace[] trace = new Trace[TRACE_SIZE];
+    private static int next;
+    private static int count;
+
+    private WhyDebug() {}
+
+    /**
+     * A player being debugged in a world
+     * @param issuer - UUID of the player who started debugging, or null if it was the console
+     */
+    public record Session(@Nullable UUID issuer) {}
+
+    /**
+     * A protection decision
+     * @param time - when it was made, in milliseconds
+     * @param player - name of the player
+     * @param flag - flag ID
+     * @param why - the reason for the decision
+     * @param event - name of the event
+     * @param world - name of the world
+     * @param x - block x
+     * @param y - block y
+     * @param z - block z
+     */
+    public record Trace(long time, String player, String flag, String why, String event, String world, int x, int y, int z) {
+        @Override
+        public String toString() {
+            return TIME.format(Instant.ofEpochMilli(time)) + " " + player + " " + flag + " - " + why
+                    + " (" + event + " in world " + world + " at " + x + "," + y + "," + z + ")";
+        }
+    }
+
+    /**
+     * @return true if any player is being debugged
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Starts debugging a player in a world
+     * @param player - UUID of the player
+     * @param world - name of the world
+     * @param issuer - UUID of the player who wants to see the reports, or null for the console only
+     */
+    public static synchronized void start(@NonNull UUID player, @NonNull String world, @Nullable UUID issuer) {
+        sessions.computeIfAbsent(player, k -> new ConcurrentHashMap<>()).put(world, new Session(issuer));
+        active = true;
+    }
+
+    /**
+     * Stops debugging a player in a world
+     * @param player - UUID of the player
+     * @param world - name of the world
+     */
+    public static synchronized void stop(@NonNull UUID player, @NonNull String world) {
+        sessions.computeIfPresent(player, (k, worlds) -> {
+            worlds.remove(world);
+            return worlds.isEmpty() ? null : worlds;
+        });
+        active = !sessions.isEmpty();
+    }
+
+    /**
+     * Stops debugging a player in all worlds, e.g. when they log out
+     * @param player - UUID of the player
+     */
+    public static synchronized void stop(@NonNull UUID player) {
+        sessions.remove(player);
+        active = !sessions.isEmpty();
+    }
+
+    /**
+     * Gets the debug session of a player
+     * @param player - UUID of the player
+     * @param world - name of the world
+     * @return the session, or null if the player is not being debugged in this world
+     */
+    @Nullable
+    public static Session getSession(@NonNull UUID player, @NonNull String world) {
+        if (!active) {
+            return null;
+        }
+        Map<String, Session> worlds = sessions.get(player);
+        return worlds == null ? null : worlds.get(world);
+    }
+
+    /**
+     * Adds a decision to the trace. The oldest decision is dropped if the trace is full.
+     * @param entry - decision
+     */
+    public static synchronized void trace(@NonNull Trace entry) {
+        trace[next] = entry;
+        next = (next + 1) % TRACE_SIZE;
+        count = Math.min(count + 1, TRACE_SIZE);
+    }
+
+    /**
+     * @return the decisions in the trace, oldest first
+     */
+    @NonNull
+    public static synchronized List<Trace> getTrace() {
+        List<Trace> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(trace[(next - count + i + TRACE_SIZE) % TRACE_SIZE]);
+        }
+        return result;
+    }
+
+    /**
+     * Stops all debugging and empties the trace
+     */
+    public static synchronized void clear() {
+        sessions.clear();
+        active = false;
+        Arrays.fill(trace, null);
+        next = 0;
+        count = 0;
+    }
+}
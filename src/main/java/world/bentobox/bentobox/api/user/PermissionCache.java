@@ -0,0 +1,97 @@
+package world.bentobox.bentobox.api.user;
+
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.World;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Remembers the permissions and numeric permission values of a {@link User} for a short time.
+ * <p>
+ * Bukkit does not say when permissions are recalculated, so everything is forgotten after a second,
+ * when the player changes world, as permission plugins often give different permissions in each world,
+ * and when permissions are changed with {@link User#addPerm(String)} or {@link User#removePerm(String)}.
+ * Permission strings are used as keys, so callers that keep their permission strings, e.g. commands,
+ * do not make new strings or hash them again.
+ *
+ * @since 2.0.0
+ */
+final class PermissionCache {
+
+    /**
+     * How long the results are kept
+     */
+    private static final long LIFETIME = TimeUnit.SECONDS.toNanos(1);
+
+    private final Map<String, Boolean> permissions = new ConcurrentHashMap<>();
+    /**
+     * Permission values by prefix. Empty means the caller's default value is used.
+     */
+    private final Map<String, OptionalInt> values = new ConcurrentHashMap<>();
+    @Nullable
+    private volatile World world;
+    private volatile long expires;
+    private volatile boolean valid;
+
+    /**
+     * Gets a permission that has been looked up recently
+     * @param world - the world the player is in
+     * @param permission - permission
+     * @return true or false, or null if it is not known
+     */
+    @Nullable
+    Boolean getPermission(@Nullable World world, @NonNull String permission) {
+        refresh(world);
+        return permissions.get(permission);
+    }
+
+    /**
+     * @param permission - permission
+     * @param value - whether the player has it
+     */
+    void putPermission(@NonNull String permission, boolean value) {
+        permissions.put(permission, value);
+    }
+
+    /**
+     * Gets a permission value that has been worked out recently
+     * @param world - the world the player is in
+     * @param permissionPrefix - permission prefix
+     * @return the value, empty if the default value is used, or null if it is not known
+     */
+    @Nullable
+    OptionalInt getValue(@Nullable World world, @NonNull String permissionPrefix) {
+        refresh(world);
+        return values.get(permissionPrefix);
+    }
+
+    /**
+     * @param permissionPrefix - permission prefix
+     * @param value - the value, or empty if the default value is used
+     */
+    void putValue(@NonNull String permissionPrefix, @NonNull OptionalInt value) {
+        values.put(permissionPrefix, value);
+    }
+
+    /**
+     * Forgets everything
+     */
+    void clear() {
+        valid = false;
+    }
+
+    private void refresh(@Nullable World world) {
+        long now = System.nanoTime();
+        if (!valid || world != this.world || now - expires > 0) {
+            permissions.clear();
+            values.clear();
+            this.world = world;
+            expires = now + LIFETIME;
+            valid = true;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 import java.util.UUID;
 
@@ -36,6 +37,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.addons.Addon;
 import world.bentobox.bentobox.api.events.OfflineMessageEvent;
+import world.bentobox.bentobox.api.flags.BypassCache;
 import world.bentobox.bentobox.api.metadata.MetaDataAble;
 import world.bentobox.bentobox.api.metadata.MetaDataValue;
 import world.bentobox.bentobox.database.objects.Players;
@@ -163,6 +165,9 @@ public class User implements MetaDataAble {
 
     private Addon addon;
 
+    private final BypassCache bypassCache = new BypassCache();
+    private final PermissionCache permissionCache = new PermissionCache();
+
     private User(@Nullable CommandSender sender) {
         player = null;
         playerUUID = null;
@@ -288,7 +293,19 @@ public class User implements MetaDataAble {
      * @return true if permission is empty or null or if the player has that permission or if the player is op.
      */
     public boolean hasPermission(@Nullable String permission) {
-        return permission == null || permission.isEmpty() || isOp() || sender.hasPermission(permission);
+        if (permission == null || permission.isEmpty() || isOp()) {
+            return true;
+        }
+        if (player == null) {
+            return sender.hasPermission(permission);
+        }
+        Boolean cached = permissionCache.getPermission(player.getWorld(), permission);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = sender.hasPermission(permission);
+        permissionCache.putPermission(permission, result);
+        return result;
     }
 
     /**
@@ -305,6 +322,7 @@ public class User implements MetaDataAble {
             }
         }
         player.recalculatePermissions();
+        clearPermissionCache();
         return !player.hasPermission(name);
     }
 
@@ -315,7 +333,30 @@ public class User implements MetaDataAble {
      * @since 1.5.0
      */
     public PermissionAttachment addPerm(String name) {
-        return player.addAttachment(plugin, name, true);
+        PermissionAttachment attachment = player.addAttachment(plugin, name, true);
+        clearPermissionCache();
+        return attachment;
+    }
+
+    /**
+     * Forgets the permissions that have been looked up recently. Permissions are only remembered for a
+     * second, but this should be called if they are changed another way than with {@link #addPerm(String)}
+     * or {@link #removePerm(String)} and must be used straight away.
+     * @since 2.0.0
+     */
+    public void clearPermissionCache() {
+        permissionCache.clear();
+        bypassCache.clear();
+    }
+
+    /**
+     * Get the protection bypass permissions that have been looked up recently
+     * @return bypass cache
+     * @since 2.0.0
+     */
+    @NonNull
+    public BypassCache getBypassCache() {
+        return bypassCache;
     }
 
     public boolean isOnline() {
@@ -347,6 +388,20 @@ public class User implements MetaDataAble {
         // If requester is console, then return the default value
         if (!isPlayer()) return defaultValue;
 
+        OptionalInt cached = permissionCache.getValue(player.getWorld(), permissionPrefix);
+        if (cached == null) {
+            cached = findPermissionValue(permissionPrefix);
+            permissionCache.putValue(permissionPrefix, cached);
+        }
+        return cached.orElse(defaultValue);
+    }
+
+    /**
+     * Works out the value of a numerical permission setting
+     * @param permissionPrefix the start of the perm
+     * @return max value, or empty if the default value should be used
+     */
+    private OptionalInt findPermissionValue(String permissionPrefix) {
         // If there is a dot at the end of the permissionPrefix, remove it
         if (permissionPrefix.endsWith(".")) {
             permissionPrefix = permissionPrefix.substring(0, permissionPrefix.length()-1);
@@ -360,18 +415,18 @@ public class User implements MetaDataAble {
                 .filter(permission -> permission.startsWith(permPrefix))
                 .toList();
 
-        if (permissions.isEmpty()) return defaultValue;
+        if (permissions.isEmpty()) return OptionalInt.empty();
 
-        return iteratePerms(permissions, permPrefix, defaultValue);
+        return iteratePerms(permissions, permPrefix);
 
     }
 
-    private int iteratePerms(List<String> permissions, String permPrefix, int defaultValue) {
+    private OptionalInt iteratePerms(List<String> permissions, String permPrefix) {
         int value = 0;
         for (String permission : permissions) {
             if (permission.contains(permPrefix + "*")) {
                 // 'Star' permission
-                return defaultValue;
+                return OptionalInt.empty();
             } else {
                 String[] spl = permission.split(permPrefix);
                 if (spl.length > 1) {
@@ -380,7 +435,7 @@ public class User implements MetaDataAble {
                     } else {
                         int v = Integer.parseInt(spl[1]);
                         if (v < 0) {
-                            return v;
+                            return OptionalInt.of(v);
                         }
                         value = Math.max(value, v);
                     }
@@ -388,7 +443,7 @@ public class User implements MetaDataAble {
             }
         }
 
-        return value;
+        return OptionalInt.of(value);
     }
 
     /**
@@ -783,7 +838,34 @@ public class User implements MetaDataAble {
                 .getPlayers()
                 .getPlayer(playerUUID);
 
+        bypassCache.clear();
         Objects.requireNonNull(p, "Unknown player for " + playerUUID).setMetaData(metaData);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MetaDataValue> putMetaData(String key, MetaDataValue value) {
+        Players p = plugin
+                .getPlayers()
+                .getPlayer(playerUUID);
+
+        bypassCache.clear();
+        return Objects.requireNonNull(p, "Unknown player for " + playerUUID).putMetaData(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MetaDataValue> removeMetaData(String key) {
+        Players p = plugin
+                .getPlayers()
+                .getPlayer(playerUUID);
+
+        bypassCache.clear();
+        return Objects.requireNonNull(p, "Unknown player for " + playerUUID).removeMetaData(key);
+    }
+
 }
@@ -50,6 +50,9 @@ public class BentoBoxReloadCommand extends ConfirmableCommand {
                 getPlugin().loadSettings();
                 user.sendMessage("commands.bentobox.reload.settings-reloaded");
 
+                // Block tags may have changed
+                getPlugin().getIslands().rebuildSafeBlockTable();
+
                 // Reload locales
                 getPlugin().getLocalesManager().reloadLanguages();
                 user.sendMessage("commands.bentobox.reload.locales-reloaded");
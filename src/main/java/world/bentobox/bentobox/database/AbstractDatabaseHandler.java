@@ -2,10 +2,12 @@ package world.bentobox.bentobox.database;
 
 import java.beans.IntrospectionException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
 
 import org.bukkit.Bukkit;
 import org.bukkit.scheduler.BukkitTask;
@@ -14,6 +16,7 @@ import org.eclipse.jdt.annotation.Nullable;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.addons.Addon;
+import world.bentobox.bentobox.database.objects.DataObject;
 
 /**
  * An abstract class that handles insert/select-operations into/from a database
@@ -109,10 +112,14 @@ public abstract class AbstractDatabaseHandler<T> {
                 asyncSaveTask.cancel();
             } else if (!inSave && !processQueue.isEmpty()) {
                 inSave = true;
-                while(!processQueue.isEmpty()) {
-                    processQueue.poll().run();
+                try {
+                    while(!processQueue.isEmpty()) {
+                        processQueue.poll().run();
+                    }
+                } finally {
+                    // A failed save must not stop the queue for good
+                    inSave = false;
                 }
-                inSave = false;
             }
         }, 0L, 1L);
     }
@@ -125,6 +132,36 @@ public abstract class AbstractDatabaseHandler<T> {
      */
     public abstract List<T> loadObjects() throws InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException, IntrospectionException, NoSuchMethodException;
 
+    /**
+     * Loads all the records in this table as a stream, in the order they are stored, so that they do not all
+     * have to be held in memory at once. Handlers may decode records in parallel ahead of the stream.
+     * The stream must be closed after use, for example with try-with-resources.
+     * By default, this streams the list from {@link #loadObjects()}.
+     * @return stream of <T>
+     * @since 2.0.0
+     */
+    public Stream<T> streamObjects() throws InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException, IntrospectionException, NoSuchMethodException {
+        return loadObjects().stream();
+    }
+
+    /**
+     * Streams the objects that match a query, in uniqueId order if the query is paged.
+     * The stream must be closed after use.
+     * By default, every object is loaded and checked with {@link DatabaseQuery#test(Object)}.
+     * Databases that can filter on the server should override this.
+     * @param query - query
+     * @return stream of matching <T>
+     * @since 2.0.0
+     */
+    public Stream<T> query(@NonNull DatabaseQuery<T> query) throws InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException, IntrospectionException, NoSuchMethodException {
+        Stream<T> results = streamObjects().filter(query::test);
+        if (query.getAfter() == null && query.getLimit() == 0) {
+            return results;
+        }
+        results = results.sorted(Comparator.comparing(o -> ((DataObject) o).getUniqueId()));
+        return query.getLimit() > 0 ? results.limit(query.getLimit()) : results;
+    }
+
     /**
      * Creates a <T> filled with values from the corresponding
      * database file
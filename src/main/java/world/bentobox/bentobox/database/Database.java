@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNull;
 import org.eclipse.jdt.annotation.Nullable;
@@ -62,6 +63,43 @@ public class Database<T> {
         return result;
     }
 
+    /**
+     * Stream all the objects without loading them all into memory first. Objects may be decoded in parallel,
+     * but are supplied in the order they are stored. The stream must be closed after use.
+     * @return stream of objects, which is empty if they cannot be loaded
+     * @since 2.0.0
+     */
+    @NonNull
+    public Stream<T> streamObjects() {
+        try {
+            return handler.streamObjects();
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException | ClassNotFoundException | IntrospectionException
+                | NoSuchMethodException | SecurityException e) {
+            logger.severe(() -> "Could not load objects from database! Error: " + e.getMessage());
+        }
+        return Stream.empty();
+    }
+
+    /**
+     * Stream the objects that match a query. SQL databases filter the objects on the server,
+     * other databases load every object and filter them. The stream must be closed after use.
+     * @param query - query
+     * @return stream of matching objects, which is empty if they cannot be loaded
+     * @since 2.0.0
+     */
+    @NonNull
+    public Stream<T> query(@NonNull DatabaseQuery<T> query) {
+        try {
+            return handler.query(query);
+        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException
+                | InvocationTargetException | ClassNotFoundException | IntrospectionException
+                | NoSuchMethodException | SecurityException e) {
+            logger.severe(() -> "Could not query objects from database! Error: " + e.getMessage());
+        }
+        return Stream.empty();
+    }
+
     /**
      * Loads the config object
      * @param uniqueId - unique id of the object
@@ -0,0 +1,165 @@
+package world.bentobox.bentobox.database;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import world.bentobox.bentobox.database.objects.DataObject;
+
+/**
+ * A query for the objects in a {@link Database} whose {@link IndexedField}s have certain values.
+ * Results are in uniqueId order and can be read in pages, e.g.
+ * <pre>
+ * DatabaseQuery&lt;Island&gt; query = DatabaseQuery.where(IslandIndexes.WORLD, "bskyblock_world")
+ *         .and(IslandIndexes.DO_NOT_LOAD, false).limit(500);
+ * </pre>
+ * The next page is {@code query.after(uniqueId of the last object)}. Pages are found by uniqueId rather
+ * than by position, so objects that are deleted while reading do not make other objects be skipped.
+ * <p>
+ * Queries cannot be changed. Every method returns a new query.
+ *
+ * @param <T> the type of data object
+ * @since 2.0.0
+ */
+public final class DatabaseQuery<T> {
+
+    private final List<Condition<T, ?>> conditions;
+    @Nullable
+    private final String after;
+    private final int limit;
+
+    private DatabaseQuery(List<Condition<T, ?>> conditions, @Nullable String after, int limit) {
+        this.conditions = conditions;
+        this.after = after;
+        this.limit = limit;
+    }
+
+    /**
+     * Starts a query
+     * @param <T> the type of data object
+     * @param <V> the type of the field's value
+     * @param field - field
+     * @param value - value the field must have, not null
+     * @return query
+     */
+    public static <T, V> DatabaseQuery<T> where(@NonNull IndexedField<T, V> field, @NonNull V value) {
+        return new DatabaseQuery<T>(Collections.emptyList(), null, 0).and(field, value);
+    }
+
+    /**
+     * Starts a query for all objects, which is only useful to read them in pages
+     * @param <T> the type of data object
+     * @return query
+     */
+    public static <T> DatabaseQuery<T> all() {
+        return new DatabaseQuery<>(Collections.emptyList(), null, 0);
+    }
+
+    /**
+     * Adds a condition
+     * @param <V> the type of the field's value
+     * @param field - field
+     * @param value - value the field must have, not null
+     * @return new query
+     */
+    public <V> DatabaseQuery<T> and(@NonNull IndexedField<T, V> field, @NonNull V value) {
+        List<Condition<T, ?>> list = new ArrayList<>(conditions);
+        list.add(new Condition<>(field, Objects.requireNonNull(value, "Query values cannot be null")));
+        return new DatabaseQuery<>(Collections.unmodifiableList(list), after, limit);
+    }
+
+    /**
+     * Only return objects with a uniqueId after this one
+     * @param uniqueId - uniqueId of the last object of the previous page, or null for the first page
+     * @return new query
+     */
+    public DatabaseQuery<T> after(@Nullable String uniqueId) {
+        return new DatabaseQuery<>(conditions, uniqueId, limit);
+    }
+
+    /**
+     * Return at most this many objects
+     * @param limit - page size, or 0 for no limit
+     * @return new query
+     */
+    public DatabaseQuery<T> limit(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative");
+        }
+        return new DatabaseQuery<>(conditions, after, limit);
+    }
+
+    /**
+     * @return the conditions, which must all be met
+     */
+    public List<Condition<T, ?>> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * @return the uniqueId that results must come after, or null
+     */
+    @Nullable
+    public String getAfter() {
+        return after;
+    }
+
+    /**
+     * @return the maximum number of results, or 0 for no limit
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Checks an object against the conditions and the page start. Used by databases that cannot query.
+     * @param object - data object
+     * @return true if the object is in the results of this query
+     */
+    public boolean test(T object) {
+        if (object == null) {
+            return false;
+        }
+        if (after != null && (!(object instanceof DataObject dataObject) || dataObject.getUniqueId().compareTo(after) <= 0)) {
+            return false;
+        }
+        return conditions.stream().allMatch(c -> c.test(object));
+    }
+
+    /**
+     * A field that must have a value
+     * @param <T> the type of data object
+     * @param <V> the type of the field's value
+     */
+    public static final class Condition<T, V> {
+        private final IndexedField<T, V> field;
+        private final V value;
+
+        private Condition(IndexedField<T, V> field, V value) {
+            this.field = field;
+            this.value = value;
+        }
+
+        /**
+         * @return the field
+         */
+        public IndexedField<T, V> getField() {
+            return field;
+        }
+
+        /**
+         * @return the value in the way the database compares it
+         */
+        public Object getDatabaseValue() {
+            return field.toDatabaseValue(value);
+        }
+
+        private boolean test(T object) {
+            return getDatabaseValue().equals(field.getDatabaseValue(object));
+        }
+    }
+}
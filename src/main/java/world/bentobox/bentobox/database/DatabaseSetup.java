@@ -3,12 +3,15 @@ package world.bentobox.bentobox.database;
 import java.util.Arrays;
 
 import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.database.binary.BinaryDatabase;
 import world.bentobox.bentobox.database.json.JSONDatabase;
 import world.bentobox.bentobox.database.mongodb.MongoDBDatabase;
 import world.bentobox.bentobox.database.sql.mariadb.MariaDBDatabase;
 import world.bentobox.bentobox.database.sql.mysql.MySQLDatabase;
 import world.bentobox.bentobox.database.sql.postgresql.PostgreSQLDatabase;
 import world.bentobox.bentobox.database.sql.sqlite.SQLiteDatabase;
+import world.bentobox.bentobox.database.transition.Binary2JsonDatabase;
+import world.bentobox.bentobox.database.transition.Json2BinaryDatabase;
 import world.bentobox.bentobox.database.transition.Json2MariaDBDatabase;
 import world.bentobox.bentobox.database.transition.Json2MongoDBDatabase;
 import world.bentobox.bentobox.database.transition.Json2MySQLDatabase;
@@ -33,7 +36,7 @@ public interface DatabaseSetup {
 
     /**
      * Gets the type of database being used.
-     * Currently supported options are YAML, JSON, MYSQL, MARIADB and MONGODB.
+     * Currently supported options are YAML, JSON, BINARY, MYSQL, MARIADB, MONGODB, SQLITE and POSTGRESQL.
      * Default is JSON.
      * @return Database type
      */
@@ -156,7 +159,25 @@ public interface DatabaseSetup {
          * Transition database, from PostgreSQL to JSON
          * @since 1.6.0
          */
-        POSTGRESQL2JSON(new PostgreSQL2JsonDatabase());
+        POSTGRESQL2JSON(new PostgreSQL2JsonDatabase()),
+
+        /**
+         * Compact binary files
+         * @since 2.0.0
+         */
+        BINARY(new BinaryDatabase()),
+
+        /**
+         * Transition database, from JSON to binary
+         * @since 2.0.0
+         */
+        JSON2BINARY(new Json2BinaryDatabase()),
+
+        /**
+         * Transition database, from binary to JSON
+         * @since 2.0.0
+         */
+        BINARY2JSON(new Binary2JsonDatabase());
 
         DatabaseSetup database;
 
@@ -0,0 +1,145 @@
+package world.bentobox.bentobox.database;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import world.bentobox.bentobox.database.objects.Indexes;
+
+/**
+ * A field of a data object that a {@link DatabaseQuery} can filter on.
+ * SQL databases filter on the field's value in the stored JSON, or on an indexed column if
+ * {@link world.bentobox.bentobox.Settings#isIndexedColumns()} is on. Other databases filter the loaded objects.
+ * <p>
+ * Data objects list their indexed fields with the {@link Indexes} annotation.
+ *
+ * @param <T> the type of data object
+ * @param <V> the type of the field's value
+ * @since 2.0.0
+ */
+public final class IndexedField<T, V> {
+
+    /**
+     * How the value is compared in the database
+     */
+    public enum Type {
+        /**
+         * Compared as a string, e.g. names and UUIDs
+         */
+        TEXT,
+        /**
+         * Compared as a double
+         */
+        NUMBER,
+        /**
+         * Compared as true or false
+         */
+        BOOLEAN
+    }
+
+    private final String name;
+    private final Type type;
+    private final List<String> path;
+    private final Function<T, V> getter;
+
+    /**
+     * @param name - name of the field, used to name columns and indexes. Letters, numbers and underscores only.
+     * @param type - how the value is compared
+     * @param getter - gets the value from an object, as it is stored in the JSON
+     * @param path - path to the value in the JSON, e.g. "center", "1" for the x coordinate of the center
+     */
+    public IndexedField(@NonNull String name, @NonNull Type type, @NonNull Function<T, V> getter, @NonNull String... path) {
+        if (!name.matches("\\w+")) {
+            throw new IllegalArgumentException("Indexed field names can only use letters, numbers and underscores: " + name);
+        }
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.path = List.of(path);
+    }
+
+    /**
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return the path to the value in the JSON. Numbers are array indexes.
+     */
+    public List<String> getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the value of this field in the way the database compares it
+     * @param object - data object
+     * @return value or null if the object has no value for this field
+     */
+    @Nullable
+    public Object getDatabaseValue(T object) {
+        return toDatabaseValue(getter.apply(object));
+    }
+
+    /**
+     * Converts a value into the way the database compares it
+     * @param value - value
+     * @return a String, Double or Boolean, or null
+     */
+    @Nullable
+    public Object toDatabaseValue(@Nullable Object value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (type) {
+        case NUMBER -> ((Number) value).doubleValue();
+        case BOOLEAN -> (Boolean) value;
+        default -> value.toString();
+        };
+    }
+
+    /**
+     * Gets the indexed fields of a data object class from its {@link Indexes} annotation
+     * @param <T> the type of data object
+     * @param dataObject - data object class
+     * @return list of indexed fields, which is empty if there are none
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<IndexedField<T, ?>> of(Class<T> dataObject) {
+        Indexes indexes = dataObject.getAnnotation(Indexes.class);
+        if (indexes == null) {
+            return Collections.emptyList();
+        }
+        List<IndexedField<T, ?>> result = new ArrayList<>();
+        for (Field field : indexes.value().getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && IndexedField.class.isAssignableFrom(field.getType())) {
+                try {
+                    result.add((IndexedField<T, ?>) Objects.requireNonNull(field.get(null)));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Could not read indexed field " + field.getName(), e);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "IndexedField [name=" + name + ", type=" + type + ", path=" + path + "]";
+    }
+}
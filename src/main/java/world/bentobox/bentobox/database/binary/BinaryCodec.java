@@ -0,0 +1,430 @@
+package world.bentobox.bentobox.database.binary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Encodes the JSON tree of a data object into a compact binary record and back. Using the JSON tree
+ * means that every type adapter used by the JSON database works unchanged.
+ * <p>
+ * A record is a header, which is a magic number and the format version, followed by one value.
+ * Each value starts with a one byte tag. Whole numbers are variable length, doubles that are
+ * exactly a float take four bytes, UUIDs take sixteen bytes, and strings in the table's vocabulary,
+ * like field names, flag IDs and world names, are replaced by their index in the table's {@link StringDictionary}.
+ * Other strings, like player names, island names and home names, are stored in the record, because the
+ * dictionary is never made smaller and would otherwise grow with every value ever saved.
+ * <p>
+ * The format version must be increased if the meaning of a tag changes. Old versions must still be read.
+ *
+ * @since 2.0.0
+ */
+final class BinaryCodec {
+
+    /**
+     * "BBOB"
+     */
+    private static final int MAGIC = 0x42424F42;
+    static final int VERSION = 1;
+
+    // Tags
+    private static final int NULL = 0;
+    private static final int FALSE = 1;
+    private static final int TRUE = 2;
+    private static final int INT = 3;
+    private static final int FLOAT = 4;
+    private static final int DOUBLE = 5;
+    private static final int NUMBER = 6;
+    private static final int STRING = 7;
+    private static final int STRING_REF = 8;
+    private static final int UUID_VALUE = 9;
+    private static final int ARRAY = 10;
+    private static final int OBJECT = 11;
+
+    /**
+     * Whole doubles up to this size are stored as integers
+     */
+    private static final double MAX_EXACT_DOUBLE = 1L << 53;
+    private static final long NEGATIVE_ZERO = Double.doubleToRawLongBits(-0D);
+    private static final int MAX_DEPTH = 512;
+
+    private BinaryCodec() {}
+
+    /**
+     * Encodes a JSON tree. New strings are added to the dictionary, which must be flushed before the record is stored.
+     * @param element - JSON tree
+     * @param dictionary - table dictionary
+     * @param vocabulary - tests if a string may be added to the dictionary. It must only accept a bounded set of strings.
+     * @return record
+     */
+    static byte[] encode(JsonElement element, StringDictionary dictionary, Predicate<String> vocabulary) {
+        Output out = new Output(256);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        writeValue(out, element, dictionary, vocabulary);
+        return Arrays.copyOf(out.array(), out.size());
+    }
+
+    /**
+     * Decodes a record into a JSON tree
+     * @param data - record
+     * @param dictionary - table dictionary
+     * @return JSON tree
+     * @throws IOException if the record is damaged or was written by a newer version
+     */
+    static JsonElement decode(byte[] data, StringDictionary dictionary) throws IOException {
+        Input in = new Input(data);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary database record");
+        }
+        int version = in.readByte();
+        if (version > VERSION) {
+            throw new IOException("Record was written by a newer version (" + version + ")");
+        }
+        JsonElement element = readValue(in, dictionary, 0);
+        if (in.remaining() != 0) {
+            throw new IOException("Record has " + in.remaining() + " unexpected bytes at the end");
+        }
+        return element;
+    }
+
+    private static void writeValue(Output out, JsonElement element, StringDictionary dictionary, Predicate<String> vocabulary) {
+        if (element == null || element.isJsonNull()) {
+            out.writeByte(NULL);
+        } else if (element.isJsonObject()) {
+            JsonObject object = element.getAsJsonObject();
+            out.writeByte(OBJECT);
+            out.writeVarLong(object.size());
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                writeString(out, entry.getKey(), dictionary, vocabulary);
+                writeValue(out, entry.getValue(), dictionary, vocabulary);
+            }
+        } else if (element.isJsonArray()) {
+            JsonArray array = element.getAsJsonArray();
+            out.writeByte(ARRAY);
+            out.writeVarLong(array.size());
+            for (JsonElement e : array) {
+                writeValue(out, e, dictionary, vocabulary);
+            }
+        } else {
+            JsonPrimitive primitive = element.getAsJsonPrimitive();
+            if (primitive.isBoolean()) {
+                out.writeByte(primitive.getAsBoolean() ? TRUE : FALSE);
+            } else if (primitive.isNumber()) {
+                writeNumber(out, primitive.getAsNumber());
+            } else {
+                writeString(out, primitive.getAsString(), dictionary, vocabulary);
+            }
+        }
+    }
+
+    private static void writeNumber(Output out, Number number) {
+        if (number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte) {
+            out.writeByte(INT);
+            out.writeVarLong(zigZag(number.longValue()));
+            return;
+        }
+        double d;
+        if (number instanceof Double || number instanceof Float) {
+            d = number.doubleValue();
+        } else {
+            // Numbers parsed from JSON text, or big numbers. Only store them as a double if that is exact.
+            String text = number.toString();
+            try {
+                if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+                    long l = Long.parseLong(text);
+                    out.writeByte(INT);
+                    out.writeVarLong(zigZag(l));
+                    return;
+                }
+                d = Double.parseDouble(text);
+                if (!Double.toString(d).equals(text) && !isExact(text, d)) {
+                    writeBigNumber(out, text);
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                writeBigNumber(out, text);
+                return;
+            }
+        }
+        if (d == Math.rint(d) && Math.abs(d) < MAX_EXACT_DOUBLE && Double.doubleToRawLongBits(d) != NEGATIVE_ZERO) {
+            out.writeByte(INT);
+            out.writeVarLong(zigZag((long) d));
+        } else if ((float) d == d) {
+            out.writeByte(FLOAT);
+            out.writeInt(Float.floatToIntBits((float) d));
+        } else {
+            out.writeByte(DOUBLE);
+            out.writeLong(Double.doubleToLongBits(d));
+        }
+    }
+
+    private static boolean isExact(String text, double d) {
+        return !Double.isInfinite(d) && !Double.isNaN(d) && new BigDecimal(text).compareTo(BigDecimal.valueOf(d)) == 0;
+    }
+
+    private static void writeBigNumber(Output out, String text) {
+        out.writeByte(NUMBER);
+        out.writeString(text);
+    }
+
+    private static void writeString(Output out, String value, StringDictionary dictionary, Predicate<String> vocabulary) {
+        if (isUUID(value)) {
+            UUID uuid = UUID.fromString(value);
+            out.writeByte(UUID_VALUE);
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (vocabulary.test(value)) {
+            out.writeByte(STRING_REF);
+            out.writeVarLong(dictionary.intern(value));
+        } else {
+            out.writeByte(STRING);
+            out.writeString(value);
+        }
+    }
+
+    /**
+     * Only lower case UUIDs are stored as bits, because that is how {@link UUID#toString()} writes them back
+     * @param value - string
+     * @return true if this string is a UUID that can be stored as sixteen bytes
+     */
+    static boolean isUUID(String value) {
+        if (value.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = value.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static JsonElement readValue(Input in, StringDictionary dictionary, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Record is nested too deeply");
+        }
+        int tag = in.readByte();
+        switch (tag) {
+        case NULL:
+            return JsonNull.INSTANCE;
+        case FALSE:
+            return new JsonPrimitive(false);
+        case TRUE:
+            return new JsonPrimitive(true);
+        case INT:
+            return new JsonPrimitive(unZigZag(in.readVarLong()));
+        case FLOAT:
+            return new JsonPrimitive(Float.intBitsToFloat(in.readInt()));
+        case DOUBLE:
+            return new JsonPrimitive(Double.longBitsToDouble(in.readLong()));
+        case NUMBER:
+            return new JsonPrimitive(new BigDecimal(in.readString()));
+        case OBJECT:
+            int fields = in.readLength();
+            JsonObject object = new JsonObject();
+            for (int i = 0; i < fields; i++) {
+                String key = readString(in, in.readByte(), dictionary);
+                object.add(key, readValue(in, dictionary, depth + 1));
+            }
+            return object;
+        case ARRAY:
+            int length = in.readLength();
+            JsonArray array = new JsonArray(length);
+            for (int i = 0; i < length; i++) {
+                array.add(readValue(in, dictionary, depth + 1));
+            }
+            return array;
+        default:
+            return new JsonPrimitive(readString(in, tag, dictionary));
+        }
+    }
+
+    private static String readString(Input in, int tag, StringDictionary dictionary) throws IOException {
+        switch (tag) {
+        case STRING:
+            return in.readString();
+        case STRING_REF:
+            long index = in.readVarLong();
+            if (index > Integer.MAX_VALUE) {
+                throw new IOException("Unknown dictionary index " + index);
+            }
+            return dictionary.get((int) index);
+        case UUID_VALUE:
+            return new UUID(in.readLong(), in.readLong()).toString();
+        default:
+            throw new IOException("Unknown tag " + tag);
+        }
+    }
+
+    private static long zigZag(long n) {
+        return (n << 1) ^ (n >> 63);
+    }
+
+    private static long unZigZag(long n) {
+        return (n >>> 1) ^ -(n & 1);
+    }
+
+    /**
+     * Growable byte buffer
+     */
+    static class Output {
+        private byte[] buf;
+        private int size;
+
+        Output(int capacity) {
+            buf = new byte[capacity];
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buf.length) {
+                buf = Arrays.copyOf(buf, Math.max(buf.length * 2, size + extra));
+            }
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        byte[] array() {
+            return buf;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void writeByte(int b) {
+            ensure(1);
+            buf[size++] = (byte) b;
+        }
+
+        void writeInt(int v) {
+            ensure(4);
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                buf[size++] = (byte) (v >>> shift);
+            }
+        }
+
+        void writeLong(long v) {
+            ensure(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buf[size++] = (byte) (v >>> shift);
+            }
+        }
+
+        void writeVarLong(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buf[size++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buf[size++] = (byte) v;
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buf, size, bytes.length);
+            size += bytes.length;
+        }
+    }
+
+    /**
+     * Reader over a byte array. Running out of bytes throws an {@link EOFException}.
+     */
+    static class Input {
+        private final byte[] buf;
+        private int pos;
+
+        Input(byte[] buf) {
+            this.buf = buf;
+        }
+
+        int position() {
+            return pos;
+        }
+
+        int remaining() {
+            return buf.length - pos;
+        }
+
+        private void need(int n) throws EOFException {
+            if (n < 0 || n > buf.length - pos) {
+                throw new EOFException();
+            }
+        }
+
+        int readByte() throws EOFException {
+            need(1);
+            return buf[pos++] & 0xFF;
+        }
+
+        int readInt() throws EOFException {
+            need(4);
+            int v = 0;
+            for (int i = 0; i < 4; i++) {
+                v = (v << 8) | (buf[pos++] & 0xFF);
+            }
+            return v;
+        }
+
+        long readLong() throws EOFException {
+            need(8);
+            long v = 0;
+            for (int i = 0; i < 8; i++) {
+                v = (v << 8) | (buf[pos++] & 0xFF);
+            }
+            return v;
+        }
+
+        long readVarLong() throws IOException {
+            long v = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                v |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return v;
+                }
+            }
+            throw new IOException("Malformed variable length number");
+        }
+
+        /**
+         * Reads a length or count. Every byte, element or field takes at least one byte,
+         * so it cannot be more than the bytes left.
+         */
+        int readLength() throws IOException {
+            long v = readVarLong();
+            if (v < 0 || v > remaining()) {
+                throw new IOException("Length out of range: " + v);
+            }
+            return (int) v;
+        }
+
+        String readString() throws IOException {
+            int length = readLength();
+            need(length);
+            String value = new String(buf, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+    }
+}
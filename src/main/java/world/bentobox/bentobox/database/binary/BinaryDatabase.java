@@ -0,0 +1,23 @@
+package world.bentobox.bentobox.database.binary;
+
+import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.database.AbstractDatabaseHandler;
+import world.bentobox.bentobox.database.DatabaseSetup;
+
+/**
+ * File-based database that stores objects in a compact binary format.
+ * It is smaller and faster to load than JSON, but the files cannot be edited by hand.
+ * @since 2.0.0
+ */
+public class BinaryDatabase implements DatabaseSetup {
+
+    private final BinaryDatabaseConnector connector = new BinaryDatabaseConnector(BentoBox.getInstance());
+
+    /* (non-Javadoc)
+     * @see world.bentobox.bentobox.database.DatabaseSetup#getHandler(java.lang.Class)
+     */
+    @Override
+    public <T> AbstractDatabaseHandler<T> getHandler(Class<T> dataObjectClass) {
+        return new BinaryDatabaseHandler<>(BentoBox.getInstance(), dataObjectClass, connector);
+    }
+}
@@ -0,0 +1,57 @@
+package world.bentobox.bentobox.database.binary;
+
+import java.io.File;
+import java.util.UUID;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.database.DatabaseConnector;
+
+/**
+ * @since 2.0.0
+ */
+public class BinaryDatabaseConnector implements DatabaseConnector {
+
+    private static final int MAX_LOOPS = 100;
+    private static final String DATABASE_FOLDER_NAME = "database";
+    private final File dataFolder;
+
+    BinaryDatabaseConnector(BentoBox plugin) {
+        dataFolder = new File(plugin.getDataFolder(), DATABASE_FOLDER_NAME);
+    }
+
+    @Override
+    @NonNull
+    public String getUniqueId(String tableName) {
+        UUID uuid = UUID.randomUUID();
+        int limit = 0;
+        while (uniqueIdExists(tableName, uuid.toString()) && limit++ < MAX_LOOPS) {
+            uuid = UUID.randomUUID();
+        }
+        return uuid.toString();
+    }
+
+    @Override
+    public boolean uniqueIdExists(String tableName, String key) {
+        File file = new File(dataFolder, tableName + File.separator + key + BinaryDatabaseHandler.BIN);
+        return file.exists();
+    }
+
+    @Override
+    public String getConnectionUrl() {
+        return null; // Not used
+    }
+
+    @Override
+    public Object createConnection(Class<?> type) {
+        // Not used
+        return null;
+    }
+
+    @Override
+    public void closeConnection(Class<?> type) {
+        // Not used
+    }
+
+}
@@ -0,0 +1,322 @@
+package world.bentobox.bentobox.database.binary;
+
+import java.beans.IntrospectionException;
+import java.beans.PropertyDescriptor;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.bukkit.Bukkit;
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonParser;
+
+import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.database.DatabaseConnector;
+import world.bentobox.bentobox.database.json.AbstractJSONDatabaseHandler;
+import world.bentobox.bentobox.database.objects.DataObject;
+import world.bentobox.bentobox.managers.FlagsManager;
+
+/**
+ * Stores each object in its own binary file, next to a dictionary file for the table.
+ * <p>
+ * The files are in the same folders as the JSON database, {@code database/<class simple name>/},
+ * as {@code <uniqueId>.bin}, plus one {@code dictionary.dic} per folder. See {@link BinaryCodec}
+ * for the record format and {@link StringDictionary} for the dictionary.
+ * Objects are converted to and from JSON trees by the same Gson as the JSON database, so all the
+ * type adapters are shared and the two databases can be converted into each other.
+ *
+ * @param <T> the type of object stored
+ * @since 2.0.0
+ */
+public class BinaryDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
+
+    static final String BIN = ".bin";
+    private static final String TMP = ".tmp";
+    private static final String DICTIONARY = "dictionary.dic";
+
+    private final File tableFolder;
+    private final StringDictionary dictionary;
+    /**
+     * Names of the fields of the stored class and of the BentoBox classes in it
+     */
+    private final Set<String> fieldNames;
+
+    /**
+     * Constructor
+     *
+     * @param plugin            BentoBox plugin
+     * @param type              The type of the objects that should be created and filled with
+     *                          values from the database or inserted into the database
+     * @param databaseConnector Contains the settings to create a connection to the database
+     */
+    BinaryDatabaseHandler(BentoBox plugin, Class<T> type, DatabaseConnector databaseConnector) {
+        super(plugin, type, databaseConnector);
+        tableFolder = new File(new File(plugin.getDataFolder(), DATABASE_FOLDER_NAME), type.getSimpleName());
+        // Other handlers of the same table share the dictionary
+        dictionary = StringDictionary.open(new File(tableFolder, DICTIONARY));
+        fieldNames = fieldNames(type);
+        IOException loadError = dictionary.getLoadError();
+        if (loadError != null) {
+            plugin.logError("Could not load binary database dictionary for " + type.getSimpleName() + ": " + loadError.getMessage());
+            plugin.logError("Objects of this type will not be saved until this is fixed.");
+        }
+    }
+
+    @Override
+    public List<T> loadObjects() {
+        try (Stream<T> objects = streamObjects()) {
+            return objects.collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+    /**
+     * Streams the objects in this table. Files are read and decoded in parallel, but the objects are
+     * returned in the order of the files.
+     */
+    @Override
+    public Stream<T> streamObjects() {
+        if (!tableFolder.exists()) {
+            // Nothing there...
+            tableFolder.mkdirs();
+        }
+        File[] files = Objects.requireNonNull(tableFolder.listFiles((dir, name) -> name.toLowerCase(Locale.ENGLISH).endsWith(BIN)));
+        Iterator<Callable<T>> tasks = Arrays.stream(files).<Callable<T>>map(file -> () -> loadFile(file)).iterator();
+        return loadInParallel(tasks, () -> {});
+    }
+
+    /**
+     * Loads an object from a file
+     * @param file - binary file
+     * @return object or null if it could not be loaded
+     */
+    @Nullable
+    private T loadFile(File file) {
+        try {
+            T object = getGson().fromJson(BinaryCodec.decode(Files.readAllBytes(file.toPath()), dictionary), dataObject);
+            if (object == null) {
+                plugin.logError("Binary file created a null object: " + file.getPath());
+            }
+            return object;
+        } catch (Exception e) {
+            plugin.logError("Could not load object " + file.getName() + " " + e.getMessage());
+        }
+        return null;
+    }
+
+    @Override
+    public T loadObject(@NonNull String uniqueId) {
+        File file = new File(tableFolder, uniqueId.endsWith(BIN) ? uniqueId : uniqueId + BIN);
+        if (!file.exists()) {
+            plugin.logError("Could not load file '" + file.getName() + "': File not found.");
+            return null;
+        }
+        return loadFile(file);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveObject(T instance) throws IntrospectionException, IllegalAccessException, InvocationTargetException {
+        CompletableFuture<Boolean> completableFuture = new CompletableFuture<>();
+        // Null check
+        if (instance == null) {
+            plugin.logError("Binary database request to store a null. ");
+            completableFuture.complete(false);
+            return completableFuture;
+        }
+        if (!(instance instanceof DataObject)) {
+            plugin.logError("This class is not a DataObject: " + instance.getClass().getName());
+            completableFuture.complete(false);
+            return completableFuture;
+        }
+        // Obtain the value of uniqueId within the instance (which must be a DataObject)
+        PropertyDescriptor propertyDescriptor = new PropertyDescriptor("uniqueId", dataObject);
+        Method method = propertyDescriptor.getReadMethod();
+        String uniqueId = (String) method.invoke(instance);
+
+        // Saves are coalesced per uniqueId and encoded by the thread that writes them
+        queueSave(uniqueId, toJson(instance), completableFuture);
+        return completableFuture;
+    }
+
+    /**
+     * Encodes the saves, appends any new strings to the dictionary and then writes the files.
+     * Each file is written to a temporary file first and then moved into place, so a crash cannot
+     * leave a partly written object.
+     * @param batch - writes to do
+     */
+    @Override
+    protected void writeBatch(List<PendingWrite> batch) {
+        if (!tableFolder.exists()) {
+            tableFolder.mkdirs();
+        }
+        Map<PendingWrite, byte[]> records = new IdentityHashMap<>();
+        for (PendingWrite write : batch) {
+            if (!write.isDelete()) {
+                try {
+                    records.put(write, BinaryCodec.encode(JsonParser.parseString(write.getJson()), dictionary, this::isVocabulary));
+                } catch (RuntimeException e) {
+                    plugin.logError("Could not encode binary object " + write.getUniqueId() + " " + e.getMessage());
+                }
+            }
+        }
+        // Records must not refer to strings that are not on disk
+        try {
+            dictionary.flush();
+        } catch (IOException e) {
+            plugin.logError("Could not save binary database dictionary for " + tableFolder.getName() + " " + e.getMessage());
+            records.clear();
+        }
+        for (PendingWrite write : batch) {
+            if (write.isDelete()) {
+                delete(write.getUniqueId());
+                write.complete(true);
+            } else {
+                byte[] record = records.get(write);
+                write.complete(record != null && store(write.getUniqueId(), record));
+            }
+        }
+    }
+
+    /**
+     * Checks if a string goes in the dictionary. Only field names, flag IDs and world names do, so the
+     * dictionary does not grow with player names, island names and other values that are saved.
+     * @param value - string
+     * @return true if the string should be stored in the dictionary
+     */
+    private boolean isVocabulary(String value) {
+        if (fieldNames.contains(value)) {
+            return true;
+        }
+        FlagsManager flagsManager = plugin.getFlagsManager();
+        if (flagsManager != null && flagsManager.getFlag(value).isPresent()) {
+            return true;
+        }
+        return Bukkit.getServer() != null && Bukkit.getWorld(value) != null;
+    }
+
+    /**
+     * Gets the names of the fields of a class, and of the fields of any BentoBox classes it holds
+     * @param type - class
+     * @return field names
+     */
+    static Set<String> fieldNames(Class<?> type) {
+        Set<String> names = new HashSet<>();
+        addFieldNames(type, names, new HashSet<>());
+        return names;
+    }
+
+    private static void addFieldNames(Type type, Set<String> names, Set<Class<?>> seen) {
+        if (type instanceof ParameterizedType parameterized) {
+            addFieldNames(parameterized.getRawType(), names, seen);
+            for (Type argument : parameterized.getActualTypeArguments()) {
+                addFieldNames(argument, names, seen);
+            }
+        } else if (type instanceof GenericArrayType array) {
+            addFieldNames(array.getGenericComponentType(), names, seen);
+        } else if (type instanceof Class<?> c) {
+            if (c.isArray()) {
+                addFieldNames(c.getComponentType(), names, seen);
+                return;
+            }
+            // Only BentoBox classes, so the names are bounded
+            for (Class<?> k = c; k != null && k.getName().startsWith("world.bentobox.") && seen.add(k); k = k.getSuperclass()) {
+                for (Field field : k.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                        names.add(field.getName());
+                        addFieldNames(field.getGenericType(), names, seen);
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean store(String uniqueId, byte[] record) {
+        File file = new File(tableFolder, uniqueId + BIN);
+        File tmpFile = new File(tableFolder, uniqueId + BIN + TMP);
+        try {
+            Files.write(tmpFile.toPath(), record);
+            try {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            plugin.logError("Could not save binary file: " + tableFolder.getName() + " " + file.getName() + " " + e.getMessage());
+            return false;
+        }
+    }
+
+    /* (non-Javadoc)
+     * @see world.bentobox.bentobox.database.AbstractDatabaseHandler#deleteID(java.lang.String)
+     */
+    @Override
+    public void deleteID(String uniqueId) {
+        // Sometimes the .bin is already appended, so remove it to coalesce with saves of the same object
+        queueDelete(uniqueId.endsWith(BIN) ? uniqueId.substring(0, uniqueId.length() - BIN.length()) : uniqueId);
+    }
+
+    private void delete(String uniqueId) {
+        File file = new File(tableFolder, uniqueId + BIN);
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            plugin.logError("Could not delete binary database object! " + file.getName() + " - " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void deleteObject(T instance) {
+        // Null check
+        if (instance == null) {
+            plugin.logError("Binary database request to delete a null.");
+            return;
+        }
+        if (!(instance instanceof DataObject)) {
+            plugin.logError("This class is not a DataObject: " + instance.getClass().getName());
+            return;
+        }
+        try {
+            Method getUniqueId = dataObject.getMethod("getUniqueId");
+            deleteID((String) getUniqueId.invoke(instance));
+        } catch (Exception e) {
+            plugin.logError("Could not delete object " + instance.getClass().getName() + " " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean objectExists(String uniqueId) {
+        return databaseConnector.uniqueIdExists(dataObject.getSimpleName(), uniqueId);
+    }
+
+    @Override
+    public void close() {
+        // The async queue is not run again once the plugin is disabled
+        flushPendingWrites();
+        shutdown = true;
+    }
+}
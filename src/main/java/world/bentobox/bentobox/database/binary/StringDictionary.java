@@ -0,0 +1,231 @@
+package world.bentobox.bentobox.database.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * An append-only table of strings that records refer to by index, so strings that repeat across
+ * a table, like flag IDs, field names and world names, are only stored once.
+ * An index never changes once it has been given out.
+ * <p>
+ * New strings are held in memory until {@link #flush()} appends them to the file. Records that use
+ * them must only be written after a successful flush. Lookups can be done from any thread, and interning
+ * and flushing are synchronized.
+ * <p>
+ * There must only be one dictionary for each file, otherwise two of them would give out the same index
+ * for different strings. Handlers get theirs with {@link #open(File)}.
+ *
+ * @since 2.0.0
+ */
+class StringDictionary {
+
+    /**
+     * "BBDC"
+     */
+    private static final int MAGIC = 0x42424443;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 5;
+
+    /**
+     * Dictionaries that have been opened, by canonical file
+     */
+    private static final Map<File, StringDictionary> OPEN = new ConcurrentHashMap<>();
+
+    private final File file;
+    private final Map<String, Integer> index = new HashMap<>();
+    private volatile String[] entries = new String[64];
+    private volatile int size;
+    /**
+     * Number of entries that are on disk
+     */
+    private int flushed;
+    @Nullable
+    private IOException loadError;
+
+    /**
+     * @param file - dictionary file. It does not have to exist yet.
+     */
+    StringDictionary(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Gets the dictionary for a file, loading it the first time it is asked for. Every caller asking
+     * for the same file gets the same dictionary.
+     * @param file - dictionary file. It does not have to exist yet.
+     * @return dictionary. If it could not be loaded, {@link #getLoadError()} says why.
+     */
+    static StringDictionary open(File file) {
+        File key;
+        try {
+            key = file.getCanonicalFile();
+        } catch (IOException e) {
+            key = file.getAbsoluteFile();
+        }
+        return OPEN.computeIfAbsent(key, f -> {
+            StringDictionary dictionary = new StringDictionary(f);
+            try {
+                dictionary.load();
+            } catch (IOException e) {
+                // Kept in loadError
+            }
+            return dictionary;
+        });
+    }
+
+    /**
+     * @return the error that stopped this dictionary from loading, or null if it loaded
+     */
+    @Nullable
+    synchronized IOException getLoadError() {
+        return loadError;
+    }
+
+    /**
+     * Reads the dictionary file, if there is one. An entry that was only partly written, e.g. because
+     * the server crashed, is cut off; no record can refer to it because records are written after the
+     * dictionary. If the file cannot be read, this dictionary will refuse to be flushed so that it does
+     * not give out indexes that are already used.
+     * @throws IOException if the file cannot be read or was written by a newer version
+     */
+    synchronized void load() throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        try {
+            byte[] data = Files.readAllBytes(file.toPath());
+            if (data.length < HEADER_SIZE) {
+                // Only the header could have been written
+                truncate(0);
+                return;
+            }
+            BinaryCodec.Input in = new BinaryCodec.Input(data);
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a dictionary file: " + file.getPath());
+            }
+            int version = in.readByte();
+            if (version > VERSION) {
+                throw new IOException("Dictionary " + file.getPath() + " was written by a newer version (" + version + ")");
+            }
+            int valid = in.position();
+            while (in.remaining() > 0) {
+                try {
+                    add(in.readString());
+                    valid = in.position();
+                } catch (IOException e) {
+                    // Partly written entry
+                    break;
+                }
+            }
+            flushed = size;
+            if (valid < data.length) {
+                truncate(valid);
+            }
+        } catch (IOException e) {
+            loadError = e;
+            throw e;
+        }
+    }
+
+    private void truncate(long length) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(length);
+        }
+    }
+
+    /**
+     * Gets the index of a string, adding it if it is not in the dictionary yet
+     * @param value - string
+     * @return index
+     */
+    synchronized int intern(String value) {
+        Integer i = index.get(value);
+        return i != null ? i : add(value);
+    }
+
+    private int add(String value) {
+        int i = size;
+        if (i == entries.length) {
+            entries = Arrays.copyOf(entries, i * 2);
+        }
+        entries[i] = value;
+        index.put(value, i);
+        // Publish the entry after it has been stored
+        size = i + 1;
+        return i;
+    }
+
+    /**
+     * Gets a string by its index
+     * @param i - index
+     * @return string
+     * @throws IOException if there is no such index
+     */
+    String get(int i) throws IOException {
+        // Read size first; the array is always replaced before size grows
+        int n = size;
+        String[] e = entries;
+        if (i < 0 || i >= n) {
+            throw new IOException("Unknown dictionary index " + i + ", dictionary has " + n + " entries");
+        }
+        return e[i];
+    }
+
+    /**
+     * @return number of strings in the dictionary
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Appends new strings to the file and syncs it to disk
+     * @throws IOException if the file cannot be written. The new strings are kept and tried again next time.
+     */
+    synchronized void flush() throws IOException {
+        if (loadError != null) {
+            throw new IOException("Dictionary " + file.getPath() + " could not be loaded", loadError);
+        }
+        if (flushed == size) {
+            return;
+        }
+        file.getParentFile().mkdirs();
+        long before = file.exists() ? file.length() : 0;
+        boolean header = before == 0;
+        try (FileOutputStream fos = new FileOutputStream(file, true);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(fos))) {
+            if (header) {
+                out.writeInt(MAGIC);
+                out.writeByte(VERSION);
+            }
+            BinaryCodec.Output entry = new BinaryCodec.Output(64);
+            for (int i = flushed; i < size; i++) {
+                entry.reset();
+                entry.writeString(entries[i]);
+                out.write(entry.array(), 0, entry.size());
+            }
+            out.flush();
+            fos.getFD().sync();
+        } catch (IOException e) {
+            // Remove anything that was partly written so the next flush starts at an entry boundary
+            try {
+                truncate(before);
+            } catch (IOException ex) {
+                e.addSuppressed(ex);
+            }
+            throw e;
+        }
+        flushed = size;
+    }
+}
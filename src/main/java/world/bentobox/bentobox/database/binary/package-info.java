@@ -0,0 +1,4 @@
+/**
+ * Contains the binary database managers.
+ */
+package world.bentobox.bentobox.database.binary;
@@ -1,11 +1,28 @@
 package world.bentobox.bentobox.database.json;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.AbstractDatabaseHandler;
 import world.bentobox.bentobox.database.DatabaseConnector;
+import world.bentobox.bentobox.database.objects.DataObject;
 
 /**
  * Abstract class that handles insert/select-operations into/from a database.
@@ -19,6 +36,18 @@ public abstract class AbstractJSONDatabaseHandler<T> extends AbstractDatabaseHan
 
     private final Gson gson;
 
+    /**
+     * Write-behind buffer of saves and deletions, keyed by uniqueId. Only the latest write for each
+     * object is kept, so an object that is saved many times before the queue is processed is only
+     * written once. The buffer is flushed in one go with {@link #writeBatch(List)}.
+     * Guarded by synchronizing on the map itself.
+     */
+    private final Map<String, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    /**
+     * Held while a batch is taken and written, so that batches are written in the order they were taken
+     */
+    private final Object flushLock = new Object();
+
     /**
      * Constructor
      *
@@ -47,4 +76,226 @@ public abstract class AbstractJSONDatabaseHandler<T> extends AbstractDatabaseHan
     protected Gson getGson() {
         return gson;
     }
+
+    /**
+     * Gets the JSON for an object that is being saved. If the object supports {@link DataObject#snapshot()},
+     * only the snapshot is taken on this thread and the JSON is made later by the thread that writes it.
+     * Otherwise, the JSON is made now because the object could change while it is being serialized.
+     * @param instance - object to serialize
+     * @return supplier of the JSON
+     * @since 2.0.0
+     */
+    protected Supplier<String> toJson(T instance) {
+        DataObject snapshot = instance instanceof DataObject dataObj ? dataObj.snapshot() : null;
+        if (snapshot == null) {
+            String json = gson.toJson(instance);
+            return () -> json;
+        }
+        return () -> gson.toJson(snapshot);
+    }
+
+    /**
+     * Runs load tasks on a small pool of threads and streams the results in the same order as the tasks.
+     * Tasks that return null are skipped. The tasks iterator is only used by the thread that consumes the stream.
+     * @param tasks - tasks that each load one object, usually by decoding JSON
+     * @param onClose - run when the stream is closed, to release any resources used by the tasks iterator
+     * @return ordered stream of loaded objects
+     * @since 2.0.0
+     */
+    protected Stream<T> loadInParallel(Iterator<Callable<T>> tasks, Runnable onClose) {
+        ParallelLoader<T> loader = new ParallelLoader<>(tasks);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(loader, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    loader.close();
+                    onClose.run();
+                });
+    }
+
+    /**
+     * Queues a save of this JSON for this uniqueId. If a write for the same uniqueId is already waiting,
+     * it is replaced by this one and its future will complete with the result of this write.
+     * If the plugin is disabled, the write is done immediately on this thread.
+     * @param uniqueId - uniqueId of the object
+     * @param json - serialized object
+     * @param future - future to complete when the write is done
+     * @since 2.0.0
+     */
+    protected void queueSave(@NonNull String uniqueId, @NonNull String json, @NonNull CompletableFuture<Boolean> future) {
+        queueWrite(uniqueId, () -> json, future);
+    }
+
+    /**
+     * Queues a save for this uniqueId where the JSON is made by the thread that writes it.
+     * The supplier must be safe to call from another thread, for example by serializing a snapshot of the object.
+     * Only the latest supplier for each uniqueId is called.
+     * @param uniqueId - uniqueId of the object
+     * @param json - supplies the serialized object
+     * @param future - future to complete when the write is done
+     * @since 2.0.0
+     * @see #queueSave(String, String, CompletableFuture)
+     */
+    protected void queueSave(@NonNull String uniqueId, @NonNull Supplier<String> json, @NonNull CompletableFuture<Boolean> future) {
+        queueWrite(uniqueId, json, future);
+    }
+
+    /**
+     * Queues a deletion of this uniqueId. Any save of the same uniqueId that is still waiting is dropped
+     * and its future will complete with the result of the deletion.
+     * If the plugin is disabled, the deletion is done immediately on this thread.
+     * @param uniqueId - uniqueId of the object
+     * @since 2.0.0
+     */
+    protected void queueDelete(@NonNull String uniqueId) {
+        queueWrite(uniqueId, null, null);
+    }
+
+    private void queueWrite(@NonNull String uniqueId, @Nullable Supplier<String> json, @Nullable CompletableFuture<Boolean> future) {
+        if (processQueue == null || !plugin.isEnabled()) {
+            // Sync
+            synchronized (flushLock) {
+                PendingWrite write;
+                synchronized (pendingWrites) {
+                    // Anything still waiting is older than this write
+                    write = pendingWrites.remove(uniqueId);
+                }
+                if (write == null) {
+                    write = new PendingWrite(uniqueId);
+                }
+                write.update(json, future);
+                List<PendingWrite> batch = new ArrayList<>(1);
+                batch.add(write);
+                flush(batch);
+            }
+            return;
+        }
+        synchronized (pendingWrites) {
+            if (pendingWrites.isEmpty()) {
+                // One flush writes everything that is queued before it runs
+                processQueue.add(this::flushPendingWrites);
+            }
+            pendingWrites.computeIfAbsent(uniqueId, PendingWrite::new).update(json, future);
+        }
+    }
+
+    /**
+     * Writes everything that is waiting on this thread. Handlers call this when they close,
+     * because the async queue is not run again once the plugin is disabled.
+     * @since 2.0.0
+     */
+    protected void flushPendingWrites() {
+        synchronized (flushLock) {
+            List<PendingWrite> batch;
+            synchronized (pendingWrites) {
+                batch = new ArrayList<>(pendingWrites.values());
+                pendingWrites.clear();
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+    }
+
+    /**
+     * Makes the JSON for the saves in the batch and writes them. Saves that cannot be serialized fail
+     * on their own without stopping the rest of the batch. If the write throws, every write in the batch
+     * that has not completed yet fails.
+     * @param batch - writes to do
+     */
+    private void flush(List<PendingWrite> batch) {
+        batch.removeIf(write -> !write.serialize(plugin));
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            writeBatch(batch);
+        } catch (RuntimeException e) {
+            plugin.logError("Could not write " + batch.size() + " " + dataObject.getSimpleName() + " objects " + e.getMessage());
+            batch.forEach(write -> write.complete(false));
+        }
+    }
+
+    /**
+     * Writes a batch of saves and deletions to the database. There is at most one write per uniqueId in the batch.
+     * Implementations must call {@link PendingWrite#complete(boolean)} on every write.
+     * @param batch - writes to do
+     * @since 2.0.0
+     */
+    protected abstract void writeBatch(List<PendingWrite> batch);
+
+    /**
+     * A save or deletion that is waiting to be written to the database
+     * @since 2.0.0
+     */
+    protected static class PendingWrite {
+        private final String uniqueId;
+        @Nullable
+        private Supplier<String> json;
+        @Nullable
+        private String serialized;
+        private final List<CompletableFuture<Boolean>> futures = new ArrayList<>(1);
+
+        private PendingWrite(String uniqueId) {
+            this.uniqueId = uniqueId;
+        }
+
+        private void update(@Nullable Supplier<String> json, @Nullable CompletableFuture<Boolean> future) {
+            this.json = json;
+            this.serialized = null;
+            if (future != null) {
+                futures.add(future);
+            }
+        }
+
+        /**
+         * Makes the JSON for a save. Does nothing for a deletion.
+         * @param plugin - plugin used to report errors
+         * @return true if successful, false if the object could not be serialized, in which case the write is completed as failed
+         */
+        private boolean serialize(BentoBox plugin) {
+            if (json == null || serialized != null) {
+                return true;
+            }
+            try {
+                serialized = json.get();
+            } catch (RuntimeException e) {
+                plugin.logError("Could not serialize object " + uniqueId + " " + e.getMessage());
+            }
+            if (serialized == null) {
+                complete(false);
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * @return the uniqueId of the object
+         */
+        public String getUniqueId() {
+            return uniqueId;
+        }
+
+        /**
+         * @return the serialized object to save, or null if this is a deletion
+         */
+        @Nullable
+        public String getJson() {
+            return serialized;
+        }
+
+        /**
+         * @return true if this write deletes the object
+         */
+        public boolean isDelete() {
+            return json == null;
+        }
+
+        /**
+         * Completes the futures of every save that was merged into this write.
+         * Futures that have already completed are left as they are.
+         * @param result - true if the write succeeded
+         */
+        public void complete(boolean result) {
+            futures.forEach(f -> f.complete(result));
+        }
+    }
 }
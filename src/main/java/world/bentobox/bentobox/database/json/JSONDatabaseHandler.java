@@ -12,12 +12,18 @@ import java.lang.reflect.Method;
 import java.nio.file.Files;
 import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.DatabaseConnector;
@@ -42,8 +48,17 @@ public class JSONDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
     @Override
     public List<T> loadObjects() {
         // In this case, all the objects of a specific type are being loaded.
-        List<T> list = new ArrayList<>();
+        try (Stream<T> objects = streamObjects()) {
+            return objects.collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
 
+    /**
+     * Streams the objects in this table. Files are read and decoded in parallel, but the objects are
+     * returned in the order of the files.
+     */
+    @Override
+    public Stream<T> streamObjects() {
         // The path is the simple name of the class
         String path = dataObject.getSimpleName();
 
@@ -56,23 +71,31 @@ public class JSONDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
             tableFolder.mkdirs();
         }
         // Load each object from the file system, filtered, non-null
-        for (File file: Objects.requireNonNull(tableFolder.listFiles((dir, name) ->  name.toLowerCase(Locale.ENGLISH).endsWith(JSON)))) {
-            try (FileReader reader = new FileReader(file)){
-                T object = getGson().fromJson(reader, dataObject);
-                if (object != null) {
-                    list.add(object);
-                } else {
-                    plugin.logError("JSON file created a null object: " + file.getPath());
-                    reader.close(); // NOSONAR Required to keep OS file handlers low and not rely on GC
-                }
-            } catch (FileNotFoundException e) {
-                plugin.logError("Could not load file '" + file.getName() + "': File not found.");
-
-            } catch (Exception e) {
-                plugin.logError("Could not load objects " + file.getName() + " " + e.getMessage());
+        File[] files = Objects.requireNonNull(tableFolder.listFiles((dir, name) ->  name.toLowerCase(Locale.ENGLISH).endsWith(JSON)));
+        Iterator<Callable<T>> tasks = Arrays.stream(files).<Callable<T>>map(file -> () -> loadFile(file)).iterator();
+        return loadInParallel(tasks, () -> {});
+    }
+
+    /**
+     * Loads an object from a file
+     * @param file - JSON file
+     * @return object or null if it could not be loaded
+     */
+    @Nullable
+    private T loadFile(File file) {
+        try (FileReader reader = new FileReader(file)){
+            T object = getGson().fromJson(reader, dataObject);
+            if (object == null) {
+                plugin.logError("JSON file created a null object: " + file.getPath());
             }
+            return object;
+        } catch (FileNotFoundException e) {
+            plugin.logError("Could not load file '" + file.getName() + "': File not found.");
+
+        } catch (Exception e) {
+            plugin.logError("Could not load objects " + file.getName() + " " + e.getMessage());
         }
-        return list;
+        return null;
     }
 
     @Override
@@ -111,16 +134,27 @@ public class JSONDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
             completableFuture.complete(false);
             return completableFuture;
         }
-        String path = DATABASE_FOLDER_NAME + File.separator + dataObject.getSimpleName();
-        String backupPath = DATABASE_FOLDER_NAME + "_backup" + File.separator + dataObject.getSimpleName();
-
         // Obtain the value of uniqueId within the instance (which must be a DataObject)
         PropertyDescriptor propertyDescriptor = new PropertyDescriptor("uniqueId", dataObject);
         Method method = propertyDescriptor.getReadMethod();
-        String fileName = method.invoke(instance) + JSON;
+        String uniqueId = (String) method.invoke(instance);
+
+        // Only a snapshot is taken on this thread, if the object supports it. Saves are coalesced per uniqueId and written in batches
+        queueSave(uniqueId, toJson(instance), completableFuture);
+        return completableFuture;
+    }
+
+    /**
+     * Writes the saves and deletions. There is no transaction for files, but saves of the same object
+     * that were queued close together have already been coalesced into one write.
+     * @param batch - writes to do
+     */
+    @Override
+    protected void writeBatch(List<PendingWrite> batch) {
+        String path = DATABASE_FOLDER_NAME + File.separator + dataObject.getSimpleName();
+        String backupPath = DATABASE_FOLDER_NAME + "_backup" + File.separator + dataObject.getSimpleName();
 
         File tableFolder = new File(plugin.getDataFolder(), path);
-        File file = new File(tableFolder, fileName);
         if (!tableFolder.exists()) {
             tableFolder.mkdirs();
         }
@@ -130,20 +164,18 @@ public class JSONDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
             backupTableFolder.mkdirs();
         }
 
-        String toStore = getGson().toJson(instance);
-        if (plugin.isEnabled()) {
-            // Async
-            processQueue.add(() -> store(completableFuture, toStore, file, tableFolder, backupTableFolder, fileName, true));
-        } else {
-            // Sync
-            store(completableFuture, toStore, file, tableFolder, backupTableFolder, fileName, false);
+        for (PendingWrite write : batch) {
+            if (write.isDelete()) {
+                delete(write.getUniqueId());
+                write.complete(true);
+            } else {
+                String fileName = write.getUniqueId() + JSON;
+                write.complete(store(write.getJson(), new File(tableFolder, fileName), tableFolder, backupTableFolder, fileName));
+            }
         }
-        return completableFuture;
     }
 
-    private void store(CompletableFuture<Boolean> completableFuture, String toStore, File file, File tableFolder, File backupTableFolder, String fileName, boolean async) {
-        // Do not save anything if plug is disabled and this was an async request
-        if (async && !plugin.isEnabled()) return;
+    private boolean store(String toStore, File file, File tableFolder, File backupTableFolder, String fileName) {
         File tmpFile = new File(backupTableFolder, fileName);
         if (file.exists()) {
             // Make a backup of file
@@ -156,10 +188,10 @@ public class JSONDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
 
         try (FileWriter fileWriter = new FileWriter(file)) {
             fileWriter.write(toStore);
-            completableFuture.complete(true);
+            return true;
         } catch (IOException e) {
             plugin.logError("Could not save JSON file: " + tableFolder.getName() + " " + fileName + " " + e.getMessage());
-            completableFuture.complete(false);
+            return false;
         }
     }
 
@@ -168,11 +200,8 @@ public class JSONDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
      */
     @Override
     public void deleteID(String uniqueId) {
-        if (plugin.isEnabled()) {
-            processQueue.add(() -> delete(uniqueId));
-        } else {
-            delete(uniqueId);
-        }
+        // Sometimes the .json is already appended, so remove it to coalesce with saves of the same object
+        queueDelete(uniqueId.endsWith(JSON) ? uniqueId.substring(0, uniqueId.length() - JSON.length()) : uniqueId);
     }
 
     private void delete(String uniqueId) {
@@ -221,6 +250,8 @@ public class JSONDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
 
     @Override
     public void close() {
+        // The async queue is not run again once the plugin is disabled
+        flushPendingWrites();
         shutdown = true;
     }
 }
@@ -0,0 +1,126 @@
+package world.bentobox.bentobox.database.json;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * Runs load tasks, such as decoding JSON, on a small pool of threads and returns the results
+ * in the same order as the tasks. All loaders share one pool, whose threads stop when they are idle. Only a limited number of tasks are run ahead of the caller,
+ * so the whole table does not have to be held in memory at once.
+ * Tasks that return null are skipped. Tasks should handle their own errors.
+ * <p>
+ * The tasks iterator is only used by the thread that iterates this loader, so it can wrap a
+ * resource that is not thread safe, like a ResultSet.
+ *
+ * @param <T> the type of object loaded
+ * @since 2.0.0
+ */
+class ParallelLoader<T> implements Iterator<T>, AutoCloseable {
+
+    private static final int MAX_THREADS = 4;
+    private static final int TASKS_PER_THREAD = 16;
+    private static final int THREADS = Math.max(1, Math.min(MAX_THREADS, Runtime.getRuntime().availableProcessors() - 1));
+    private static final ExecutorService POOL = createPool();
+
+    private final Iterator<Callable<T>> tasks;
+    private final Deque<Future<T>> window = new ArrayDeque<>();
+    private final int windowSize;
+    @Nullable
+    private T next;
+    private boolean closed;
+
+    /**
+     * @param tasks - tasks that each load one object, in the order the objects should be returned
+     */
+    ParallelLoader(Iterator<Callable<T>> tasks) {
+        this(tasks, THREADS);
+    }
+
+    /**
+     * @param tasks - tasks that each load one object, in the order the objects should be returned
+     * @param threads - number of threads' worth of tasks to run ahead of the caller
+     */
+    ParallelLoader(Iterator<Callable<T>> tasks, int threads) {
+        this.tasks = tasks;
+        this.windowSize = threads * TASKS_PER_THREAD;
+    }
+
+    private static ExecutorService createPool() {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(THREADS, THREADS, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "BentoBox Database Loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (next == null && !closed) {
+            fill();
+            Future<T> head = window.poll();
+            if (head == null) {
+                // Everything has been loaded
+                close();
+                return false;
+            }
+            next = get(head);
+        }
+        return next != null;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T result = next;
+        next = null;
+        return result;
+    }
+
+    /**
+     * Stops loading. This loader's tasks that have not finished are cancelled.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        window.forEach(future -> future.cancel(true));
+        window.clear();
+    }
+
+    /**
+     * Submits tasks until the window is full or there are no more tasks
+     */
+    private void fill() {
+        while (window.size() < windowSize && tasks.hasNext()) {
+            window.add(POOL.submit(tasks.next()));
+        }
+    }
+
+    @Nullable
+    private T get(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            return null;
+        } catch (ExecutionException e) {
+            close();
+            throw new IllegalStateException("Could not load object", e.getCause());
+        }
+    }
+}
@@ -1,24 +1,40 @@
 package world.bentobox.bentobox.database.mongodb;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.bson.types.Decimal128;
 import org.bukkit.Bukkit;
 import org.eclipse.jdt.annotation.NonNull;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoClientException;
 import com.mongodb.MongoNamespace;
 import com.mongodb.MongoTimeoutException;
+import com.mongodb.bulk.BulkWriteError;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
-import com.mongodb.client.model.FindOneAndReplaceOptions;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteOneModel;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
-import com.mongodb.util.JSON;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.WriteModel;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.DatabaseConnector;
@@ -34,11 +50,12 @@ import world.bentobox.bentobox.database.objects.Table;
  *
  * @param <T>
  */
-@SuppressWarnings("deprecation")
 public class MongoDBDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
 
     private static final String UNIQUEID = "uniqueId";
     private static final String MONGO_ID = "_id";
+    private static final ReplaceOptions UPSERT = new ReplaceOptions().upsert(true);
+    private static final BulkWriteOptions UNORDERED = new BulkWriteOptions().ordered(false);
 
     private MongoCollection<Document> collection;
     private final DatabaseConnector dbConnecter;
@@ -113,11 +130,8 @@ public class MongoDBDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
         List<T> list = new ArrayList<>();
         Gson gson = getGson();
         for (Document document : collection.find(new Document())) {
-            // The deprecated serialize option does not have a viable alternative without involving a huge amount of custom code
-            String json = JSON.serialize(document);
-            json = json.replaceFirst(MONGO_ID, UNIQUEID);
             try {
-                list.add(gson.fromJson(json, dataObject));
+                list.add(gson.fromJson(toJsonTree(document), dataObject));
             } catch (Exception e) {
                 plugin.logError("Could not load object :" + e.getMessage());
             }
@@ -128,10 +142,52 @@ public class MongoDBDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
     @Override
     public T loadObject(@NonNull String uniqueId) {
         Document doc = collection.find(new Document(MONGO_ID, uniqueId)).limit(1).first();
-        Gson gson = getGson();
-        String json = JSON.serialize(doc).replaceFirst(MONGO_ID, UNIQUEID);
+        if (doc == null) {
+            return null;
+        }
         // load single object
-        return gson.fromJson(json, dataObject);
+        return getGson().fromJson(toJsonTree(doc), dataObject);
+    }
+
+    /**
+     * Converts a document read from the database into the JSON tree that Gson reads objects from.
+     * The _id is renamed back to uniqueId. This avoids writing the document out as text and parsing it again.
+     * @param document - document
+     * @return JSON tree
+     */
+    private JsonObject toJsonTree(Document document) {
+        JsonObject object = new JsonObject();
+        for (Map.Entry<String, Object> entry : document.entrySet()) {
+            object.add(entry.getKey().equals(MONGO_ID) ? UNIQUEID : entry.getKey(), toJsonElement(entry.getValue()));
+        }
+        return object;
+    }
+
+    private JsonElement toJsonElement(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        } else if (value instanceof Map<?, ?> map) {
+            // Embedded documents
+            JsonObject object = new JsonObject();
+            map.forEach((k, v) -> object.add(String.valueOf(k), toJsonElement(v)));
+            return object;
+        } else if (value instanceof Collection<?> values) {
+            JsonArray array = new JsonArray(values.size());
+            values.forEach(v -> array.add(toJsonElement(v)));
+            return array;
+        } else if (value instanceof String string) {
+            return new JsonPrimitive(string);
+        } else if (value instanceof Boolean bool) {
+            return new JsonPrimitive(bool);
+        } else if (value instanceof Decimal128 decimal) {
+            return new JsonPrimitive(decimal.bigDecimalValue());
+        } else if (value instanceof Number number) {
+            return new JsonPrimitive(number);
+        } else if (value instanceof Date date) {
+            return new JsonPrimitive(date.getTime());
+        }
+        // ObjectIds and anything else that was not written by BentoBox
+        return new JsonPrimitive(value.toString());
     }
 
     @Override
@@ -148,36 +204,75 @@ public class MongoDBDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
             completableFuture.complete(false);
             return completableFuture;
         }
-        try {
-            Gson gson = getGson();
-            String toStore = gson.toJson(instance);
-            // Change uniqueId to _id
-            toStore = toStore.replaceFirst(UNIQUEID, MONGO_ID);
-            // This parses JSON to a Mongo Document
-            Document document = Document.parse(toStore);
-            // Filter based on the id
-            Bson filter = new Document(MONGO_ID, dataObj.getUniqueId());
-            // Set the options to upsert (update or insert if doc is not there)
-            FindOneAndReplaceOptions options = new FindOneAndReplaceOptions().upsert(true);
-            // Do the deed
-            collection.findOneAndReplace(filter, document, options);
-            completableFuture.complete(true);
-        } catch (Exception e) {
-            plugin.logError("Could not save object " + instance.getClass().getName() + " " + e.getMessage());
-            completableFuture.complete(false);
-        }
+        // Saves are coalesced per uniqueId and sent in bulk writes by the async save task
+        queueSave(dataObj.getUniqueId(), toJson(instance), completableFuture);
         return completableFuture;
     }
 
+    /**
+     * Sends the saves as upserts and the deletions in one unordered bulk write, so one failed write
+     * does not stop the others. Each write's future is completed with its own result.
+     * @param batch - writes to do
+     */
     @Override
-    public void deleteID(String uniqueId) {
+    protected void writeBatch(List<PendingWrite> batch) {
+        List<PendingWrite> sent = new ArrayList<>(batch.size());
+        List<WriteModel<Document>> models = new ArrayList<>(batch.size());
+        for (PendingWrite write : batch) {
+            Bson filter = new Document(MONGO_ID, write.getUniqueId());
+            if (write.isDelete()) {
+                models.add(new DeleteOneModel<>(filter));
+            } else {
+                try {
+                    models.add(new ReplaceOneModel<>(filter, toDocument(write.getUniqueId(), write.getJson()), UPSERT));
+                } catch (Exception e) {
+                    plugin.logError("Could not save object " + dataObject.getName() + " " + write.getUniqueId() + " " + e.getMessage());
+                    write.complete(false);
+                    continue;
+                }
+            }
+            sent.add(write);
+        }
+        if (models.isEmpty()) {
+            return;
+        }
         try {
-            collection.findOneAndDelete(new Document(MONGO_ID, uniqueId));
+            collection.bulkWrite(models, UNORDERED);
+            sent.forEach(write -> write.complete(true));
+        } catch (MongoBulkWriteException e) {
+            Set<Integer> failed = new HashSet<>();
+            for (BulkWriteError error : e.getWriteErrors()) {
+                failed.add(error.getIndex());
+                plugin.logError("Could not write object " + getName(plugin, dataObject) + " " + sent.get(error.getIndex()).getUniqueId() + " " + error.getMessage());
+            }
+            for (int i = 0; i < sent.size(); i++) {
+                sent.get(i).complete(!failed.contains(i));
+            }
         } catch (Exception e) {
-            plugin.logError("Could not delete object " + getName(plugin, dataObject) + " " + uniqueId + " " + e.getMessage());
+            plugin.logError("Could not write objects " + getName(plugin, dataObject) + " " + e.getMessage());
+            sent.forEach(write -> write.complete(false));
         }
     }
 
+    /**
+     * Makes the document to store. The uniqueId is stored as the _id.
+     * @param uniqueId - uniqueId
+     * @param json - serialized object
+     * @return document
+     */
+    private Document toDocument(String uniqueId, String json) {
+        Document parsed = Document.parse(json);
+        parsed.remove(UNIQUEID);
+        Document document = new Document(MONGO_ID, uniqueId);
+        document.putAll(parsed);
+        return document;
+    }
+
+    @Override
+    public void deleteID(String uniqueId) {
+        queueDelete(uniqueId);
+    }
+
     @Override
     public void deleteObject(T instance) {
         // Null check
@@ -199,6 +294,8 @@ public class MongoDBDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T> {
 
     @Override
     public void close() {
+        // Queued writes would be lost when the connection closes
+        flushPendingWrites();
         dbConnecter.closeConnection(dataObject);
     }
 }
@@ -1,5 +1,7 @@
 package world.bentobox.bentobox.database.objects;
 
+import org.eclipse.jdt.annotation.Nullable;
+
 import world.bentobox.bentobox.BentoBox;
 
 /**
@@ -24,4 +26,16 @@ public interface DataObject {
      */
     void setUniqueId(String uniqueId);
 
+    /**
+     * Makes a copy of this object that can be serialized on another thread while this object keeps changing.
+     * Database handlers use this to avoid serializing saves on the thread that requests them.
+     * Objects that do not support this return null and are serialized on the thread that saves them.
+     * @return a copy of this object, or null if not supported
+     * @since 2.0.0
+     */
+    @Nullable
+    default DataObject snapshot() {
+        return null;
+    }
+
 }
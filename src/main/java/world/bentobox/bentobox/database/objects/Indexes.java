@@ -0,0 +1,22 @@
+package world.bentobox.bentobox.database.objects;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Names the class that holds the {@link world.bentobox.bentobox.database.IndexedField}s of a data object.
+ * The fields are its public static fields. They are kept out of the data object itself
+ * because the YAML database stores every field of a data object.
+ * @since 2.0.0
+ */
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface Indexes {
+    /**
+     * @return class with the indexed fields as public static fields
+     */
+    Class<?> value();
+}
@@ -33,6 +33,7 @@ import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.commands.CompositeCommand;
 import world.bentobox.bentobox.api.configuration.WorldSettings;
 import world.bentobox.bentobox.api.flags.Flag;
+import world.bentobox.bentobox.api.flags.FlagMap;
 import world.bentobox.bentobox.api.logs.LogEntry;
 import world.bentobox.bentobox.api.metadata.MetaDataAble;
 import world.bentobox.bentobox.api.metadata.MetaDataValue;
@@ -53,6 +54,7 @@ import world.bentobox.bentobox.util.Util;
  * @author Poslovitch
  */
 @Table(name = "Islands")
+@Indexes(IslandIndexes.class)
 public class Island implements DataObject, MetaDataAble {
 
     @Expose
@@ -61,7 +63,7 @@ public class Island implements DataObject, MetaDataAble {
     /**
      * Set to true if this data object has been changed since being loaded from the database
      */
-    private boolean changed;
+    private volatile boolean changed;
 
     // True if this island is deleted and pending deletion from the database
     @Expose
@@ -103,6 +105,23 @@ public class Island implements DataObject, MetaDataAble {
     @Expose
     private int maxEverProtectionRange;
 
+    /**
+     * Protected area worked out from the center, protection center and ranges when it is first needed.
+     * Not stored. Setters that change it must clear it.
+     */
+    private transient volatile ProtectedArea protectedArea;
+
+    /**
+     * Protected area bounds
+     * @param minX - {@link #getMinProtectedX()}
+     * @param maxX - {@link #getMaxProtectedX()}
+     * @param minZ - {@link #getMinProtectedZ()}
+     * @param maxZ - {@link #getMaxProtectedZ()}
+     * @param endX - first x coordinate past the protected area
+     * @param endZ - first z coordinate past the protected area
+     */
+    private record ProtectedArea(int minX, int maxX, int minZ, int maxZ, int endX, int endZ) {}
+
     // World the island started in. This may be different from the island location
     @Expose
     private World world;
@@ -160,7 +179,7 @@ public class Island implements DataObject, MetaDataAble {
 
     //// Protection flags ////
     @Expose
-    private Map<String, Integer> flags = new HashMap<>();
+    private Map<String, Integer> flags = new FlagMap();
 
     //// Island History ////
     @Adapter(LogEntryListAdapter.class)
@@ -241,7 +260,8 @@ public class Island implements DataObject, MetaDataAble {
      * @param island - island to clone
      */
     public Island(Island island) {
-        this.center = island.getCenter().clone();
+        this.primary = island.isPrimary();
+        this.center = island.center == null ? null : island.center.clone();
         this.createdDate = island.getCreatedDate();
         Optional.ofNullable(island.getCommandRanks()).ifPresent(cr -> {
             this.commandRanks = new HashMap<>();
@@ -258,8 +278,8 @@ public class Island implements DataObject, MetaDataAble {
         this.gameMode = island.getGameMode();
         this.homes = new HashMap<>(island.getHomes());
         this.history.addAll(island.getHistory());
-        this.location = island.getProtectionCenter();
-        this.maxEverProtectionRange = island.getMaxEverProtectionRange();
+        this.location = island.location == null ? null : island.location.clone();
+        this.maxEverProtectionRange = island.maxEverProtectionRange;
         this.maxHomes = island.getMaxHomes();
         this.maxMembers = new HashMap<>(island.getMaxMembers());
         this.members.putAll(island.getMembers());
@@ -269,12 +289,12 @@ public class Island implements DataObject, MetaDataAble {
         });
         this.name = island.getName();
         this.owner = island.getOwner();
-        this.protectionRange = island.getProtectionRange();
+        this.protectionRange = island.protectionRange;
         this.purgeProtected = island.getPurgeProtected();
         this.range = island.getRange();
         this.reserved = island.isReserved();
         this.spawn = island.isSpawn();
-        island.getSpawnPoint().forEach((k,v) -> island.spawnPoint.put(k, v.clone()));
+        island.getSpawnPoint().forEach((k,v) -> this.spawnPoint.put(k, v.clone()));
         this.uniqueId = island.getUniqueId();
         this.updatedDate = island.getUpdatedDate();
         this.world = island.getWorld();
@@ -366,14 +386,27 @@ public class Island implements DataObject, MetaDataAble {
      * @return flag value
      */
     public int getFlag(@NonNull Flag flag) {
-        return flags.computeIfAbsent(flag.getID(), k -> flag.getDefaultRank());
+        return getFlagMap().getValue(flag);
     }
 
     /**
      * @return the flags
      */
     public Map<String, Integer> getFlags() {
-        return flags;
+        return getFlagMap();
+    }
+
+    /**
+     * Databases set the flags field directly with their own type of map, so it is swapped on first use
+     * @return flags as a flag map
+     */
+    private FlagMap getFlagMap() {
+        if (flags instanceof FlagMap flagMap) {
+            return flagMap;
+        }
+        FlagMap flagMap = flags == null ? new FlagMap() : new FlagMap(flags);
+        flags = flagMap;
+        return flagMap;
     }
 
     /**
@@ -437,7 +470,7 @@ public class Island implements DataObject, MetaDataAble {
      * @return the minProtectedX
      */
     public int getMinProtectedX() {
-        return Math.max(getMinX(), getProtectionCenter().getBlockX() - protectionRange);
+        return getProtectedArea().minX();
     }
 
     /**
@@ -447,7 +480,7 @@ public class Island implements DataObject, MetaDataAble {
      * @since 1.5.2
      */
     public int getMaxProtectedX() {
-        return Math.min(getMaxX(), getProtectionCenter().getBlockX() + protectionRange);
+        return getProtectedArea().maxX();
     }
 
     /**
@@ -456,7 +489,7 @@ public class Island implements DataObject, MetaDataAble {
      * @return the minProtectedZ
      */
     public int getMinProtectedZ() {
-        return Math.max(getMinZ(), getProtectionCenter().getBlockZ() - protectionRange);
+        return getProtectedArea().minZ();
     }
 
     /**
@@ -466,7 +499,21 @@ public class Island implements DataObject, MetaDataAble {
      * @since 1.5.2
      */
     public int getMaxProtectedZ() {
-        return Math.min(getMaxZ(), getProtectionCenter().getBlockZ() + protectionRange);
+        return getProtectedArea().maxZ();
+    }
+
+    private ProtectedArea getProtectedArea() {
+        ProtectedArea area = protectedArea;
+        if (area == null) {
+            Location pc = location == null ? center : location;
+            int minX = Math.max(getMinX(), pc.getBlockX() - protectionRange);
+            int minZ = Math.max(getMinZ(), pc.getBlockZ() - protectionRange);
+            area = new ProtectedArea(minX, Math.min(getMaxX(), pc.getBlockX() + protectionRange),
+                    minZ, Math.min(getMaxZ(), pc.getBlockZ() + protectionRange),
+                    minX + protectionRange * 2, minZ + protectionRange * 2);
+            protectedArea = area;
+        }
+        return area;
     }
 
     /**
@@ -912,14 +959,26 @@ public class Island implements DataObject, MetaDataAble {
      * @return {@code true} if this location is within this island's protected area, {@code false} otherwise.
      */
     public boolean onIsland(@NonNull Location target) {
-        return Util.sameWorld(this.world, target.getWorld()) &&
-                (target.getWorld().getEnvironment().equals(Environment.NORMAL) ||
-                        this.getPlugin().getIWM().isIslandNether(target.getWorld()) ||
-                        this.getPlugin().getIWM().isIslandEnd(target.getWorld())) &&
-                target.getBlockX() >= this.getMinProtectedX() &&
-                target.getBlockX() < (this.getMinProtectedX() + this.protectionRange * 2) &&
-                target.getBlockZ() >= this.getMinProtectedZ() &&
-                target.getBlockZ() < (this.getMinProtectedZ() + this.protectionRange * 2);
+        return onIsland(target.getWorld(), target.getBlockX(), target.getBlockZ());
+    }
+
+    /**
+     * Checks if a block position is within this island's protected area.
+     * The coordinates are checked first, so this is cheap for positions that are not on the island.
+     *
+     * @param world world of the position, not null
+     * @param x block x
+     * @param z block z
+     * @return {@code true} if this position is within this island's protected area, {@code false} otherwise.
+     * @since 2.0.0
+     */
+    public boolean onIsland(@NonNull World world, int x, int z) {
+        ProtectedArea area = getProtectedArea();
+        return x >= area.minX() && x < area.endX() && z >= area.minZ() && z < area.endZ()
+                && (world == this.world || Util.sameWorld(this.world, world))
+                && (world.getEnvironment().equals(Environment.NORMAL)
+                        || this.getPlugin().getIWM().isIslandNether(world)
+                        || this.getPlugin().getIWM().isIslandEnd(world));
     }
 
     /**
@@ -1000,6 +1059,7 @@ public class Island implements DataObject, MetaDataAble {
     public void setCenter(@NonNull Location center) {
         this.world = center.getWorld();
         this.center = center;
+        protectedArea = null;
         setChanged();
     }
 
@@ -1029,7 +1089,7 @@ public class Island implements DataObject, MetaDataAble {
      * @param doSubflags - whether to set subflags
      */
     public void setFlag(Flag flag, int value, boolean doSubflags) {
-        flags.put(flag.getID(), value);
+        getFlagMap().put(flag.getID(), value);
         // Subflag support
         if (doSubflags && flag.hasSubflags()) {
             // Ensure that a subflag isn't a subflag of itself or else we're in trouble!
@@ -1042,7 +1102,7 @@ public class Island implements DataObject, MetaDataAble {
      * @param flags the flags to set
      */
     public void setFlags(Map<String, Integer> flags) {
-        this.flags = flags;
+        this.flags = flags == null ? new FlagMap() : new FlagMap(flags);
         setChanged();
     }
 
@@ -1111,6 +1171,7 @@ public class Island implements DataObject, MetaDataAble {
      */
     public void setProtectionRange(int protectionRange) {
         this.protectionRange = protectionRange;
+        protectedArea = null;
         this.updateMaxEverProtectionRange();
         setChanged();
     }
@@ -1160,6 +1221,7 @@ public class Island implements DataObject, MetaDataAble {
      */
     public void setRange(int range){
         this.range = range;
+        protectedArea = null;
         setChanged();
     }
 
@@ -1300,7 +1362,7 @@ public class Island implements DataObject, MetaDataAble {
     public void setSettingsFlag(Flag flag, boolean state, boolean doSubflags) {
         int newState = state ? 1 : -1;
         if (flag.getType().equals(Flag.Type.SETTING) || flag.getType().equals(Flag.Type.WORLD_SETTING)) {
-            flags.put(flag.getID(), newState);
+            getFlagMap().put(flag.getID(), newState);
             if (doSubflags && flag.hasSubflags()) {
                 // If we have circular subflags or a flag is a subflag of itself we are in trouble!
                 flag.getSubflags().forEach(subflag -> setSettingsFlag(subflag, state, true));
@@ -1590,6 +1652,35 @@ public class Island implements DataObject, MetaDataAble {
         setChanged();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MetaDataValue> putMetaData(String key, MetaDataValue value) {
+        setChanged();
+        return MetaDataAble.super.putMetaData(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MetaDataValue> removeMetaData(String key) {
+        setChanged();
+        return MetaDataAble.super.removeMetaData(key);
+    }
+
+    /**
+     * Copies the island so that it can be serialized off the main thread. Collections are copied,
+     * so this is much cheaper than serializing the island.
+     * @return a copy of this island
+     * @since 2.0.0
+     */
+    @Override
+    public Island snapshot() {
+        return new Island(this);
+    }
+
     /**
      * @return changed state
      */
@@ -1634,6 +1725,7 @@ public class Island implements DataObject, MetaDataAble {
             throw new IOException("Location must be in island space");
         }
         this.location = location;
+        protectedArea = null;
         this.updateMaxEverProtectionRange();
         setChanged();
     }
@@ -0,0 +1,35 @@
+package world.bentobox.bentobox.database.objects;
+
+import java.util.UUID;
+
+import world.bentobox.bentobox.database.IndexedField;
+import world.bentobox.bentobox.database.IndexedField.Type;
+
+/**
+ * Indexed fields of {@link Island}
+ * @since 2.0.0
+ */
+public final class IslandIndexes {
+
+    /**
+     * Name of the island's world
+     */
+    public static final IndexedField<Island, String> WORLD = new IndexedField<>("world", Type.TEXT,
+            i -> i.getWorld() == null ? null : i.getWorld().getName(), "world");
+    public static final IndexedField<Island, UUID> OWNER = new IndexedField<>("owner", Type.TEXT, Island::getOwner, "owner");
+    public static final IndexedField<Island, String> GAME_MODE = new IndexedField<>("game_mode", Type.TEXT, Island::getGameMode, "gameMode");
+    /**
+     * X coordinate of the island's center, as stored. It is not rounded to the block so that it matches the database.
+     */
+    public static final IndexedField<Island, Double> CENTER_X = new IndexedField<>("center_x", Type.NUMBER,
+            i -> i.getCenter().getX(), "center", "1");
+    /**
+     * Z coordinate of the island's center, as stored. It is not rounded to the block so that it matches the database.
+     */
+    public static final IndexedField<Island, Double> CENTER_Z = new IndexedField<>("center_z", Type.NUMBER,
+            i -> i.getCenter().getZ(), "center", "3");
+    public static final IndexedField<Island, Boolean> DELETED = new IndexedField<>("deleted", Type.BOOLEAN, Island::isDeleted, "deleted");
+    public static final IndexedField<Island, Boolean> DO_NOT_LOAD = new IndexedField<>("do_not_load", Type.BOOLEAN, Island::isDoNotLoad, "doNotLoad");
+
+    private IslandIndexes() {}
+}
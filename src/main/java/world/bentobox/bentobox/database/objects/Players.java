@@ -29,6 +29,7 @@ import world.bentobox.bentobox.util.Util;
  * @author tastybento
  */
 @Table(name = "Players")
+@Indexes(PlayersIndexes.class)
 public class Players implements DataObject, MetaDataAble {
     @Expose
     private Map<Location, Integer> homeLocations = new HashMap<>();
@@ -64,6 +65,12 @@ public class Players implements DataObject, MetaDataAble {
     @Expose
     private Map<String, MetaDataValue> metaData;
 
+    /**
+     * Set to true if this data object has been changed since it was last saved to the database
+     * @since 2.0.0
+     */
+    private volatile boolean changed;
+
     /**
      * This is required for database storage
      */
@@ -84,6 +91,8 @@ public class Players implements DataObject, MetaDataAble {
         if (this.playerName == null) {
             this.playerName = uniqueId.toString();
         }
+        // New players have never been saved
+        setChanged();
     }
 
     /**
@@ -150,6 +159,7 @@ public class Players implements DataObject, MetaDataAble {
         this.homeLocations = homeLocations;
         // Remove any lost worlds/locations
         homeLocations.keySet().removeIf(l -> l == null || l.getWorld() == null);
+        setChanged();
     }
 
     /**
@@ -157,6 +167,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setPlayerName(String playerName) {
         this.playerName = playerName;
+        setChanged();
     }
 
     public Player getPlayer() {
@@ -192,6 +203,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setResets(Map<String, Integer> resets) {
         this.resets = resets;
+        setChanged();
     }
 
     /**
@@ -200,6 +212,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setResets(World world, int resets) {
         this.resets.put(world.getName(), resets);
+        setChanged();
     }
 
     /**
@@ -224,6 +237,7 @@ public class Players implements DataObject, MetaDataAble {
         // Remove any home locations in the same world with the same number
         homeLocations.entrySet().removeIf(e -> e.getKey() == null || (Util.sameWorld(location.getWorld(), e.getKey().getWorld()) && e.getValue().equals(number)));
         homeLocations.put(location, number);
+        setChanged();
     }
 
     /**
@@ -232,6 +246,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setPlayerUUID(UUID uuid) {
         uniqueId = uuid.toString();
+        setChanged();
     }
 
     /**
@@ -242,6 +257,7 @@ public class Players implements DataObject, MetaDataAble {
     @Deprecated(since="1.18.0", forRemoval=true)
     public void clearHomeLocations(World world) {
         homeLocations.keySet().removeIf(l -> l == null || l.getWorld() == null || Util.sameWorld(l.getWorld(), world));
+        setChanged();
     }
 
     /**
@@ -256,6 +272,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setLocale(String locale) {
         this.locale = locale;
+        setChanged();
     }
 
     /**
@@ -271,6 +288,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setDeaths(World world, int deaths) {
         this.deaths.put(world.getName(), Math.min(deaths, getPlugin().getIWM().getDeathsMax(world)));
+        setChanged();
     }
 
     /**
@@ -280,6 +298,7 @@ public class Players implements DataObject, MetaDataAble {
         deaths.putIfAbsent(world.getName(), 0);
         if (deaths.get(world.getName()) < getPlugin().getIWM().getDeathsMax(world)) {
             deaths.put(world.getName(), deaths.get(world.getName()) + 1);
+            setChanged();
         }
     }
 
@@ -291,6 +310,7 @@ public class Players implements DataObject, MetaDataAble {
     @Override
     public void setUniqueId(String uniqueId) {
         this.uniqueId = uniqueId;
+        setChanged();
     }
 
     /**
@@ -299,6 +319,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void addReset(World world) {
         resets.merge(world.getName(), 1, Integer::sum);
+        setChanged();
     }
 
     /**
@@ -315,6 +336,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setDeaths(Map<String, Integer> deaths) {
         this.deaths = deaths;
+        setChanged();
     }
 
     /**
@@ -335,6 +357,7 @@ public class Players implements DataObject, MetaDataAble {
     public void setPendingKicks(Set<String> pendingKicks)
     {
         this.pendingKicks = pendingKicks;
+        setChanged();
     }
 
     /**
@@ -347,6 +370,7 @@ public class Players implements DataObject, MetaDataAble {
         World w = Util.getWorld(world);
         if (w != null) {
             this.pendingKicks.add(w.getName());
+            setChanged();
         }
     }
 
@@ -366,6 +390,7 @@ public class Players implements DataObject, MetaDataAble {
      */
     public void setFlagsDisplayMode(Flag.Mode flagsDisplayMode) {
         this.flagsDisplayMode = flagsDisplayMode;
+        setChanged();
     }
 
     /**
@@ -389,7 +414,49 @@ public class Players implements DataObject, MetaDataAble {
     @Override
     public void setMetaData(Map<String, MetaDataValue> metaData) {
         this.metaData = metaData;
+        setChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MetaDataValue> putMetaData(String key, MetaDataValue value) {
+        setChanged();
+        return MetaDataAble.super.putMetaData(key, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MetaDataValue> removeMetaData(String key) {
+        setChanged();
+        return MetaDataAble.super.removeMetaData(key);
+    }
+
+    /**
+     * @return true if this player has been changed since it was last saved
+     * @since 2.0.0
+     */
+    public boolean isChanged() {
+        return changed;
+    }
+
+    /**
+     * Indicates the fields have been changed and need to be saved
+     * @since 2.0.0
+     */
+    public void setChanged() {
+        this.changed = true;
     }
 
+    /**
+     * @param changed the changed to set
+     * @since 2.0.0
+     */
+    public void setChanged(boolean changed) {
+        this.changed = changed;
+    }
 
 }
@@ -0,0 +1,18 @@
+package world.bentobox.bentobox.database.objects;
+
+import world.bentobox.bentobox.database.IndexedField;
+import world.bentobox.bentobox.database.IndexedField.Type;
+
+/**
+ * Indexed fields of {@link Players}
+ * @since 2.0.0
+ */
+public final class PlayersIndexes {
+
+    /**
+     * Last known name of the player. This is case sensitive.
+     */
+    public static final IndexedField<Players, String> PLAYER_NAME = new IndexedField<>("player_name", Type.TEXT, Players::getPlayerName, "playerName");
+
+    private PlayersIndexes() {}
+}
@@ -1,6 +1,11 @@
 package world.bentobox.bentobox.database.sql;
 
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
 import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.database.IndexedField;
 import world.bentobox.bentobox.database.objects.Table;
 
 /**
@@ -25,6 +30,16 @@ public class SQLConfiguration
 
     private String renameTableSQL;
 
+    private final Map<IndexedField.Type, String> fieldSQL = new EnumMap<>(IndexedField.Type.class);
+
+    private final Map<IndexedField.Type, String> columnTypeSQL = new EnumMap<>(IndexedField.Type.class);
+
+    private String addColumnSQL;
+
+    private String createIndexSQL;
+
+    private boolean arrayPaths;
+
     private final String tableName;
 
     private final boolean renameRequired;
@@ -54,11 +69,25 @@ public class SQLConfiguration
                 "SET @query = If(@exists=1,'RENAME TABLE `[oldTableName]` TO `[tableName]`','SELECT \\'nothing to rename\\' status'); " +
                 "PREPARE stmt FROM @query;" +
                 "EXECUTE stmt;");
+        // Indexed fields. JSON booleans are compared as the text 'true' or 'false'
+        this.fieldSQL(IndexedField.Type.TEXT, "json->>'$.[path]'");
+        this.fieldSQL(IndexedField.Type.NUMBER, "json->>'$.[path]'");
+        this.fieldSQL(IndexedField.Type.BOOLEAN, "json->>'$.[path]'");
+        this.columnType(IndexedField.Type.TEXT, "VARCHAR(255)");
+        this.columnType(IndexedField.Type.NUMBER, "DOUBLE");
+        this.columnType(IndexedField.Type.BOOLEAN, "VARCHAR(5)");
+        this.addColumn("ALTER TABLE `[tableName]` ADD COLUMN [column] [columnType] GENERATED ALWAYS AS ([field]) VIRTUAL");
+        this.createIndex("CREATE INDEX [index] ON `[tableName]` ([column])");
     }
 
 
     private static final String TABLE_NAME = "\\[tableName]";
 
+    /**
+     * MySQL allows 64 characters
+     */
+    private static final int MAX_INDEX_NAME_LENGTH = 64;
+
     /**
      * By default, use quotes around the unique ID in the SQL statement
      */
@@ -114,6 +143,73 @@ public class SQLConfiguration
     }
 
 
+    /**
+     * Sets the SQL that gets the value of an indexed field from the json column.
+     * @param type type of field
+     * @param string SQL with [path] where the path to the value goes
+     * @return this
+     * @since 2.0.0
+     */
+    public SQLConfiguration fieldSQL(IndexedField.Type type, String string)
+    {
+        this.fieldSQL.put(type, string);
+        return this;
+    }
+
+
+    /**
+     * Sets the column type used for indexed fields of this type.
+     * @param type type of field
+     * @param string SQL column type
+     * @return this
+     * @since 2.0.0
+     */
+    public SQLConfiguration columnType(IndexedField.Type type, String string)
+    {
+        this.columnTypeSQL.put(type, string);
+        return this;
+    }
+
+
+    /**
+     * Sets the SQL that adds a generated column for an indexed field.
+     * @param string SQL with [column], [columnType] and [field]
+     * @return this
+     * @since 2.0.0
+     */
+    public SQLConfiguration addColumn(String string)
+    {
+        this.addColumnSQL = string.replaceFirst(TABLE_NAME, tableName);
+        return this;
+    }
+
+
+    /**
+     * Sets the SQL that indexes the generated column of an indexed field.
+     * @param string SQL with [index] and [column]
+     * @return this
+     * @since 2.0.0
+     */
+    public SQLConfiguration createIndex(String string)
+    {
+        this.createIndexSQL = string.replaceFirst(TABLE_NAME, tableName);
+        return this;
+    }
+
+
+    /**
+     * Write JSON paths as a list of keys, like {center,1}, instead of like $.center[1]
+     * @param b true to use lists
+     * @return this
+     * @since 2.0.0
+     */
+    public SQLConfiguration setArrayPaths(boolean b)
+    {
+        this.arrayPaths = b;
+        return this;
+    }
+
+
     public SQLConfiguration setUseQuotes(boolean b)
     {
         this.useQuotes = b;
@@ -202,6 +298,83 @@ public class SQLConfiguration
     }
 
 
+    /**
+     * Gets the SQL that gets the value of an indexed field from the json column
+     * @param field indexed field
+     * @return SQL expression
+     * @since 2.0.0
+     */
+    public String getFieldSQL(IndexedField<?, ?> field)
+    {
+        String path;
+        if (this.arrayPaths)
+        {
+            path = String.join(",", field.getPath());
+        }
+        else
+        {
+            StringBuilder builder = new StringBuilder();
+            for (String key : field.getPath())
+            {
+                if (key.chars().allMatch(Character::isDigit))
+                {
+                    builder.append('[').append(key).append(']');
+                }
+                else
+                {
+                    builder.append(builder.length() == 0 ? "" : ".").append(key);
+                }
+            }
+            path = builder.toString();
+        }
+        return this.fieldSQL.get(field.getType()).replace("[path]", path);
+    }
+
+
+    /**
+     * Gets the name of the generated column of an indexed field
+     * @param field indexed field
+     * @return column name
+     * @since 2.0.0
+     */
+    public String getColumnName(IndexedField<?, ?> field)
+    {
+        return "bb_" + field.getName().toLowerCase(Locale.ENGLISH);
+    }
+
+
+    /**
+     * Gets the SQL that adds the generated column of an indexed field
+     * @param field indexed field
+     * @return SQL statement
+     * @since 2.0.0
+     */
+    public String getAddColumnSQL(IndexedField<?, ?> field)
+    {
+        return this.addColumnSQL.replace("[columnType]", this.columnTypeSQL.get(field.getType()))
+                .replace("[column]", this.getColumnName(field))
+                .replace("[field]", this.getFieldSQL(field));
+    }
+
+
+    /**
+     * Gets the SQL that indexes the generated column of an indexed field.
+     * Index names have to be unique in the whole database for some databases, so they include the table name.
+     * @param field indexed field
+     * @return SQL statement
+     * @since 2.0.0
+     */
+    public String getCreateIndexSQL(IndexedField<?, ?> field)
+    {
+        String index = "bb_" + this.tableName.replaceAll("\\W", "_").toLowerCase(Locale.ENGLISH) + "_" + field.getName().toLowerCase(Locale.ENGLISH);
+        if (index.length() > MAX_INDEX_NAME_LENGTH)
+        {
+            index = "bb_" + Integer.toHexString(this.tableName.hashCode()) + "_" + field.getName().toLowerCase(Locale.ENGLISH);
+        }
+        return this.createIndexSQL.replace("[index]", index).replace("[column]", this.getColumnName(field));
+    }
+
+
     public boolean renameRequired()
     {
         return renameRequired;
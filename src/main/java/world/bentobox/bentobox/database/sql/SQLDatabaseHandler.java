@@ -2,14 +2,21 @@ package world.bentobox.bentobox.database.sql;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -21,6 +28,8 @@ import com.google.gson.JsonSyntaxException;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.DatabaseConnector;
+import world.bentobox.bentobox.database.DatabaseQuery;
+import world.bentobox.bentobox.database.IndexedField;
 import world.bentobox.bentobox.database.json.AbstractJSONDatabaseHandler;
 import world.bentobox.bentobox.database.objects.DataObject;
 
@@ -48,6 +57,11 @@ public class SQLDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T>
      */
     private SQLConfiguration sqlConfig;
 
+    /**
+     * Indexed fields that have a generated column
+     */
+    private final Set<String> indexedColumns = new HashSet<>();
+
 
     /**
      * Handles the connection to the database and creation of the initial database schema (tables) for
@@ -66,6 +80,10 @@ public class SQLDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T>
         {
             // Check if the table exists in the database and if not, create it
             this.createSchema();
+            if (plugin.getSettings().isIndexedColumns())
+            {
+                this.createIndexedColumns();
+            }
         }
     }
 
@@ -126,68 +144,219 @@ public class SQLDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T>
     }
 
 
+    /**
+     * Adds a generated column with an index for each indexed field of the data object, if it does not have one yet.
+     * Queries on these fields then use the index instead of reading the JSON of every row.
+     */
+    protected void createIndexedColumns()
+    {
+        List<IndexedField<T, ?>> fields = IndexedField.of(this.dataObject);
+        if (fields.isEmpty())
+        {
+            return;
+        }
+        try (Connection connection = this.dataSource.getConnection())
+        {
+            for (IndexedField<T, ?> field : fields)
+            {
+                String column = this.sqlConfig.getColumnName(field);
+                if (!this.columnExists(connection, column))
+                {
+                    try (Statement statement = connection.createStatement())
+                    {
+                        statement.execute(this.sqlConfig.getAddColumnSQL(field));
+                        statement.execute(this.sqlConfig.getCreateIndexSQL(field));
+                    }
+                }
+                this.indexedColumns.add(field.getName());
+            }
+        }
+        catch (SQLException e)
+        {
+            this.plugin.logError("Could not create indexed columns for data object " + this.dataObject.getCanonicalName() + " " +
+                    e.getMessage() + ". Queries will read the JSON instead.");
+        }
+    }
+
+
+    private boolean columnExists(Connection connection, String column) throws SQLException
+    {
+        DatabaseMetaData metaData = connection.getMetaData();
+        try (ResultSet resultSet = metaData.getColumns(null, null, this.sqlConfig.getTableName(), column))
+        {
+            return resultSet.next();
+        }
+    }
+
+
     /**
      * {@inheritDoc}
      */
     @Override
     public List<T> loadObjects()
     {
-        try (Connection connection = this.dataSource.getConnection();
-                Statement preparedStatement = connection.createStatement())
+        try (Stream<T> objects = this.streamObjects())
         {
-            return this.loadIt(preparedStatement);
+            return objects.collect(Collectors.toCollection(ArrayList::new));
+        }
+    }
+
+
+    /**
+     * Streams the objects in this table. Rows are read by the thread that consumes the stream
+     * and their JSON is decoded in parallel, but the objects are returned in the order of the rows.
+     * The connection is held until the stream is closed.
+     */
+    @Override
+    public Stream<T> streamObjects()
+    {
+        Connection connection = null;
+
+        try
+        {
+            connection = this.dataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(this.sqlConfig.getLoadObjectsSQL());
+            Connection toClose = connection;
+            return this.loadInParallel(this.rows(resultSet), () -> this.closeConnection(toClose));
         }
         catch (SQLException e)
         {
             this.plugin.logError(COULD_NOT_LOAD_OBJECTS + e.getMessage());
+            this.closeConnection(connection);
         }
 
-        return Collections.emptyList();
+        return Stream.empty();
     }
 
 
     /**
-     * This method loads objects based on results provided by prepared statement.
-     * @param preparedStatement Statement from database.
-     * @return List of object <T> from database.
+     * Streams the objects that match the query. The conditions are checked by the database, using the
+     * indexed columns if there are any. The connection is held until the stream is closed.
      */
-    private List<T> loadIt(Statement preparedStatement)
+    @Override
+    public Stream<T> query(@NonNull DatabaseQuery<T> query)
     {
-        List<T> list = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(this.sqlConfig.getLoadObjectsSQL());
+        List<Object> parameters = new ArrayList<>();
+        String glue = " WHERE ";
 
-        try (ResultSet resultSet = preparedStatement.executeQuery(this.sqlConfig.getLoadObjectsSQL()))
+        for (DatabaseQuery.Condition<T, ?> condition : query.getConditions())
         {
-            // Load all the results
-            Gson gson = this.getGson();
+            IndexedField<T, ?> field = condition.getField();
+            sql.append(glue).append(this.indexedColumns.contains(field.getName()) ?
+                    this.sqlConfig.getColumnName(field) : this.sqlConfig.getFieldSQL(field)).append(" = ?");
+            // Booleans are compared as text
+            Object value = condition.getDatabaseValue();
+            parameters.add(value instanceof Boolean ? value.toString() : value);
+            glue = " AND ";
+        }
 
-            while (resultSet.next())
-            {
-                String json = resultSet.getString("json");
+        if (query.getAfter() != null)
+        {
+            sql.append(glue).append("uniqueId > ?");
+            parameters.add(this.sqlConfig.isUseQuotes() ? "\"" + query.getAfter() + "\"" : query.getAfter());
+        }
 
-                if (json != null)
-                {
-                    getGsonResultSet(gson, json, list);
-                }
+        sql.append(" ORDER BY uniqueId");
+
+        if (query.getLimit() > 0)
+        {
+            sql.append(" LIMIT ").append(query.getLimit());
+        }
+
+        Connection connection = null;
+
+        try
+        {
+            connection = this.dataSource.getConnection();
+            PreparedStatement preparedStatement = connection.prepareStatement(sql.toString());
+            for (int i = 0; i < parameters.size(); i++)
+            {
+                preparedStatement.setObject(i + 1, parameters.get(i));
             }
+            ResultSet resultSet = preparedStatement.executeQuery();
+            Connection toClose = connection;
+            return this.loadInParallel(this.rows(resultSet), () -> this.closeConnection(toClose));
         }
-        catch (Exception e)
+        catch (SQLException e)
         {
             this.plugin.logError(COULD_NOT_LOAD_OBJECTS + e.getMessage());
+            this.closeConnection(connection);
         }
 
-        return list;
+        return Stream.empty();
     }
 
 
-    private void getGsonResultSet(Gson gson, String json, List<T> list) {
-        try
+    /**
+     * Makes a decode task for each row of the result set.
+     * @param resultSet Result set with a json column.
+     * @return Iterator of decode tasks.
+     */
+    private Iterator<Callable<T>> rows(ResultSet resultSet)
+    {
+        Gson gson = this.getGson();
+
+        return new Iterator<>()
         {
-            T gsonResult = gson.fromJson(json, this.dataObject);
+            private String json;
+            private boolean done;
 
-            if (gsonResult != null)
+            @Override
+            public boolean hasNext()
             {
-                list.add(gsonResult);
+                while (this.json == null && !this.done)
+                {
+                    try
+                    {
+                        if (resultSet.next())
+                        {
+                            this.json = resultSet.getString("json");
+                        }
+                        else
+                        {
+                            this.done = true;
+                        }
+                    }
+                    catch (SQLException e)
+                    {
+                        SQLDatabaseHandler.this.plugin.logError(COULD_NOT_LOAD_OBJECTS + e.getMessage());
+                        this.done = true;
+                    }
+                }
+
+                return this.json != null;
             }
+
+
+            @Override
+            public Callable<T> next()
+            {
+                if (!this.hasNext())
+                {
+                    throw new NoSuchElementException();
+                }
+
+                String row = this.json;
+                this.json = null;
+                return () -> SQLDatabaseHandler.this.decode(gson, row);
+            }
+        };
+    }
+
+
+    /**
+     * Decodes one object from JSON.
+     * @param gson Gson to use.
+     * @param json JSON of the object.
+     * @return Object or null if it could not be decoded.
+     */
+    private T decode(Gson gson, String json)
+    {
+        try
+        {
+            return gson.fromJson(json, this.dataObject);
         }
         catch (JsonSyntaxException ex)
         {
@@ -195,6 +364,29 @@ public class SQLDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T>
             this.plugin.logError(json);
         }
 
+        return null;
+    }
+
+
+    /**
+     * Closes the connection, which also closes its statements and result sets.
+     * @param connection Connection to close, may be null.
+     */
+    private void closeConnection(Connection connection)
+    {
+        if (connection == null)
+        {
+            return;
+        }
+
+        try
+        {
+            connection.close();
+        }
+        catch (SQLException e)
+        {
+            this.plugin.logError("Could not close connection for " + this.dataObject.getCanonicalName() + " " + e.getMessage());
+        }
     }
 
 
@@ -268,91 +460,159 @@ public class SQLDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T>
             return completableFuture;
         }
 
-        // This has to be on the main thread to avoid concurrent modification errors
-        String toStore = this.getGson().toJson(instance);
-
-        if (this.plugin.isEnabled())
-        {
-            // Async
-            this.processQueue.add(() -> store(completableFuture,
-                    instance.getClass().getName(),
-                    toStore,
-                    this.sqlConfig.getSaveObjectSQL(),
-                    true));
-        }
-        else
-        {
-            // Sync
-            this.store(completableFuture, instance.getClass().getName(), toStore, this.sqlConfig.getSaveObjectSQL(), false);
-        }
+        // Only a snapshot is taken on this thread, if the object supports it, to avoid concurrent modification errors.
+        // Saves are coalesced per uniqueId and written in batches
+        this.queueSave(((DataObject) instance).getUniqueId(), this.toJson(instance), completableFuture);
 
         return completableFuture;
     }
 
 
     /**
-     * This method is called to save data into database based on given parameters.
-     * @param completableFuture Failsafe on saving data.
-     * @param name Name of the class that is saved.
-     * @param toStore data that is stored.
-     * @param storeSQL SQL command for saving.
-     * @param async boolean that indicates if saving is async or not.
+     * Sets the parameters of the save statement for one object.
+     * Databases whose save SQL takes different parameters should override this.
+     * @param preparedStatement save statement from {@link SQLConfiguration#getSaveObjectSQL()}
+     * @param uniqueId unique id of the object
+     * @param toStore serialized object
+     * @throws SQLException if a parameter cannot be set
      */
-    private void store(CompletableFuture<Boolean> completableFuture, String name, String toStore, String storeSQL, boolean async)
+    protected void setSaveParameters(PreparedStatement preparedStatement, String uniqueId, String toStore) throws SQLException
     {
-        // Do not save anything if plug is disabled and this was an async request
-        if (async && !this.plugin.isEnabled())
-        {
-            return;
-        }
+        preparedStatement.setString(1, toStore);
+        preparedStatement.setString(2, toStore);
+    }
 
-        try (Connection connection = this.dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(storeSQL))
-        {
-            preparedStatement.setString(1, toStore);
-            preparedStatement.setString(2, toStore);
-            preparedStatement.execute();
-            completableFuture.complete(true);
-        }
-        catch (SQLException e)
-        {
-            this.plugin.logError("Could not save object " + name + " " + e.getMessage());
-            completableFuture.complete(false);
-        }
+
+    /**
+     * Sets the parameters of the delete statement for one object.
+     * @param preparedStatement delete statement from {@link SQLConfiguration#getDeleteObjectSQL()}
+     * @param uniqueId unique id of the object
+     * @throws SQLException if a parameter cannot be set
+     */
+    private void setDeleteParameters(PreparedStatement preparedStatement, String uniqueId) throws SQLException
+    {
+        // UniqueId needs to be placed in quotes?
+        preparedStatement.setString(1, this.sqlConfig.isUseQuotes() ? "\"" + uniqueId + "\"" : uniqueId);
     }
 
 
     /**
-     * {@inheritDoc}
+     * Writes all the saves and deletions in one transaction using JDBC batches.
+     * If the transaction fails, each write is retried on its own so that one bad object
+     * does not fail the others.
+     * @param batch writes to do
      */
     @Override
-    public void deleteID(String uniqueId)
+    protected void writeBatch(List<PendingWrite> batch)
     {
-        this.processQueue.add(() -> this.delete(uniqueId));
+        try (Connection connection = this.dataSource.getConnection())
+        {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement saveStatement = connection.prepareStatement(this.sqlConfig.getSaveObjectSQL());
+                    PreparedStatement deleteStatement = connection.prepareStatement(this.sqlConfig.getDeleteObjectSQL()))
+            {
+                boolean saves = false;
+                boolean deletes = false;
+
+                for (PendingWrite write : batch)
+                {
+                    if (write.isDelete())
+                    {
+                        this.setDeleteParameters(deleteStatement, write.getUniqueId());
+                        deleteStatement.addBatch();
+                        deletes = true;
+                    }
+                    else
+                    {
+                        this.setSaveParameters(saveStatement, write.getUniqueId(), write.getJson());
+                        saveStatement.addBatch();
+                        saves = true;
+                    }
+                }
+
+                if (saves)
+                {
+                    saveStatement.executeBatch();
+                }
+
+                if (deletes)
+                {
+                    deleteStatement.executeBatch();
+                }
+
+                connection.commit();
+                batch.forEach(write -> write.complete(true));
+            }
+            catch (SQLException e)
+            {
+                connection.rollback();
+
+                if (batch.size() > 1)
+                {
+                    this.plugin.logWarning("Batch write of " + batch.size() + " " + this.dataObject.getSimpleName() +
+                            " objects failed, writing them one by one. " + e.getMessage());
+                }
+
+                connection.setAutoCommit(true);
+                batch.forEach(write -> this.write(connection, write));
+            }
+            finally
+            {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+        catch (SQLException e)
+        {
+            this.plugin.logError("Could not save objects " + this.dataObject.getCanonicalName() + " " + e.getMessage());
+            batch.forEach(write -> write.complete(false));
+        }
     }
 
 
     /**
-     * This method triggers object deletion from the database.
-     * @param uniqueId Object unique id.
+     * Writes one save or deletion on its own.
+     * @param connection Connection to the database.
+     * @param write Save or deletion to do.
      */
-    private void delete(String uniqueId)
+    private void write(Connection connection, PendingWrite write)
     {
-        try (Connection connection = this.dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(this.sqlConfig.getDeleteObjectSQL()))
+        String sql = write.isDelete() ? this.sqlConfig.getDeleteObjectSQL() : this.sqlConfig.getSaveObjectSQL();
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql))
         {
-            // UniqueId needs to be placed in quotes?
-            preparedStatement.setString(1, this.sqlConfig.isUseQuotes() ? "\"" + uniqueId + "\"" : uniqueId);
+            if (write.isDelete())
+            {
+                this.setDeleteParameters(preparedStatement, write.getUniqueId());
+            }
+            else
+            {
+                this.setSaveParameters(preparedStatement, write.getUniqueId(), write.getJson());
+            }
+
             preparedStatement.execute();
+            write.complete(true);
         }
-        catch (Exception e)
+        catch (SQLException e)
         {
-            this.plugin.logError("Could not delete object " + this.plugin.getSettings().getDatabasePrefix() +
-                    this.dataObject.getCanonicalName() + " " + uniqueId + " " + e.getMessage());
+            this.plugin.logError((write.isDelete() ? "Could not delete object " : "Could not save object ") +
+                    this.dataObject.getCanonicalName() + " " + write.getUniqueId() + " " + e.getMessage());
+            write.complete(false);
         }
     }
 
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteID(String uniqueId)
+    {
+        this.queueDelete(uniqueId);
+    }
+
+
     /**
      * {@inheritDoc}
      */
@@ -420,6 +680,8 @@ public class SQLDatabaseHandler<T> extends AbstractJSONDatabaseHandler<T>
     @Override
     public void close()
     {
+        // The async queue is not run again once the plugin is disabled
+        this.flushPendingWrites();
         this.shutdown = true;
     }
 
@@ -2,6 +2,7 @@ package world.bentobox.bentobox.database.sql.mariadb;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.DatabaseConnector;
+import world.bentobox.bentobox.database.IndexedField;
 import world.bentobox.bentobox.database.sql.SQLConfiguration;
 import world.bentobox.bentobox.database.sql.SQLDatabaseHandler;
 
@@ -27,6 +28,10 @@ public class MariaDBDatabaseHandler<T> extends SQLDatabaseHandler<T>
         super(plugin,
             type,
             databaseConnector,
-            new SQLConfiguration(plugin, type).schema("CREATE TABLE IF NOT EXISTS `[tableName]` (json JSON, uniqueId VARCHAR(255) GENERATED ALWAYS AS (JSON_EXTRACT(json, \"$.uniqueId\")), UNIQUE INDEX i (uniqueId))"));
+            new SQLConfiguration(plugin, type).schema("CREATE TABLE IF NOT EXISTS `[tableName]` (json JSON, uniqueId VARCHAR(255) GENERATED ALWAYS AS (JSON_EXTRACT(json, \"$.uniqueId\")), UNIQUE INDEX i (uniqueId))").
+            // MariaDB does not have the ->> operator
+            fieldSQL(IndexedField.Type.TEXT, "JSON_UNQUOTE(JSON_EXTRACT(json, '$.[path]'))").
+            fieldSQL(IndexedField.Type.NUMBER, "JSON_UNQUOTE(JSON_EXTRACT(json, '$.[path]'))").
+            fieldSQL(IndexedField.Type.BOOLEAN, "JSON_UNQUOTE(JSON_EXTRACT(json, '$.[path]'))"));
     }
 }
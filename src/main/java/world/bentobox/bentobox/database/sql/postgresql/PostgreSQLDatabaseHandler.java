@@ -1,15 +1,11 @@
 package world.bentobox.bentobox.database.sql.postgresql;
 
-import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.util.concurrent.CompletableFuture;
-
-import com.google.gson.Gson;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.DatabaseConnector;
-import world.bentobox.bentobox.database.objects.DataObject;
+import world.bentobox.bentobox.database.IndexedField;
 import world.bentobox.bentobox.database.sql.SQLConfiguration;
 import world.bentobox.bentobox.database.sql.SQLDatabaseHandler;
 
@@ -50,6 +46,16 @@ public class PostgreSQLDatabaseHandler<T> extends SQLDatabaseHandler<T>
                 // Postgres exists function returns true or false natively
                 objectExists("SELECT EXISTS(SELECT * FROM \"[tableName]\" WHERE uniqueid = ?)").
                 renameTable("ALTER TABLE IF EXISTS \"[oldTableName]\" RENAME TO \"[tableName]\"").
+                // Indexed fields use the #>> operator, which takes paths like {center,1}. Generated columns need PostgreSQL 12.
+                setArrayPaths(true).
+                fieldSQL(IndexedField.Type.TEXT, "json#>>'{[path]}'").
+                fieldSQL(IndexedField.Type.NUMBER, "(json#>>'{[path]}')::double precision").
+                fieldSQL(IndexedField.Type.BOOLEAN, "json#>>'{[path]}'").
+                columnType(IndexedField.Type.TEXT, "TEXT").
+                columnType(IndexedField.Type.NUMBER, "double precision").
+                columnType(IndexedField.Type.BOOLEAN, "TEXT").
+                addColumn("ALTER TABLE \"[tableName]\" ADD COLUMN IF NOT EXISTS [column] [columnType] GENERATED ALWAYS AS ([field]) STORED").
+                createIndex("CREATE INDEX IF NOT EXISTS [index] ON \"[tableName]\" ([column])").
                 setUseQuotes(false)
                 );
     }
@@ -59,47 +65,10 @@ public class PostgreSQLDatabaseHandler<T> extends SQLDatabaseHandler<T>
      * {@inheritDoc}
      */
     @Override
-    public CompletableFuture<Boolean> saveObject(T instance)
+    protected void setSaveParameters(PreparedStatement preparedStatement, String uniqueId, String toStore) throws SQLException
     {
-        CompletableFuture<Boolean> completableFuture = new CompletableFuture<>();
-
-        // Null check
-        if (instance == null)
-        {
-            this.plugin.logError("PostgreSQL database request to store a null. ");
-            completableFuture.complete(false);
-            return completableFuture;
-        }
-
-        if (!(instance instanceof DataObject))
-        {
-            this.plugin.logError("This class is not a DataObject: " + instance.getClass().getName());
-            completableFuture.complete(false);
-            return completableFuture;
-        }
-
-        Gson gson = this.getGson();
-        String toStore = gson.toJson(instance);
-        String uniqueId = ((DataObject) instance).getUniqueId();
-
-        this.processQueue.add(() ->
-        {
-            try (Connection connection = this.dataSource.getConnection();
-                    PreparedStatement preparedStatement = connection.prepareStatement(this.getSqlConfig().getSaveObjectSQL()))
-            {
-                preparedStatement.setString(1, uniqueId); // INSERT
-                preparedStatement.setString(2, toStore); // INSERT
-                preparedStatement.setString(3, toStore); // ON CONFLICT
-                preparedStatement.execute();
-                completableFuture.complete(true);
-            }
-            catch (SQLException e)
-            {
-                this.plugin.logError("Could not save object " + instance.getClass().getName() + " " + e.getMessage());
-                completableFuture.complete(false);
-            }
-        });
-
-        return completableFuture;
+        preparedStatement.setString(1, uniqueId); // INSERT
+        preparedStatement.setString(2, toStore); // INSERT
+        preparedStatement.setString(3, toStore); // ON CONFLICT
     }
 }
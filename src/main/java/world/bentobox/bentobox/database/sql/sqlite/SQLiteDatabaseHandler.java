@@ -4,13 +4,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.concurrent.CompletableFuture;
-
-import com.google.gson.Gson;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.DatabaseConnector;
-import world.bentobox.bentobox.database.objects.DataObject;
+import world.bentobox.bentobox.database.IndexedField;
 import world.bentobox.bentobox.database.sql.SQLConfiguration;
 import world.bentobox.bentobox.database.sql.SQLDatabaseHandler;
 
@@ -35,6 +32,14 @@ public class SQLiteDatabaseHandler<T> extends SQLDatabaseHandler<T>
                 saveObject("INSERT INTO `[tableName]` (json, uniqueId) VALUES (?, ?) ON CONFLICT(uniqueId) DO UPDATE SET json = ?").
                 objectExists("SELECT EXISTS (SELECT 1 FROM `[tableName]` WHERE `uniqueId` = ?)").
                 renameTable("ALTER TABLE `[oldTableName]` RENAME TO `[tableName]`").
+                fieldSQL(IndexedField.Type.TEXT, "json_extract(json, '$.[path]')").
+                fieldSQL(IndexedField.Type.NUMBER, "json_extract(json, '$.[path]')").
+                // json_extract returns 1 or 0 for booleans, but json_type returns 'true' or 'false'
+                fieldSQL(IndexedField.Type.BOOLEAN, "json_type(json, '$.[path]')").
+                columnType(IndexedField.Type.TEXT, "TEXT").
+                columnType(IndexedField.Type.NUMBER, "REAL").
+                columnType(IndexedField.Type.BOOLEAN, "TEXT").
+                createIndex("CREATE INDEX IF NOT EXISTS [index] ON `[tableName]` ([column])").
                 setUseQuotes(false)
                 );
     }
@@ -112,47 +117,14 @@ public class SQLiteDatabaseHandler<T> extends SQLDatabaseHandler<T>
     }
 
 
+    /**
+     * {@inheritDoc}
+     */
     @Override
-    public CompletableFuture<Boolean> saveObject(T instance)
+    protected void setSaveParameters(PreparedStatement preparedStatement, String uniqueId, String toStore) throws SQLException
     {
-        CompletableFuture<Boolean> completableFuture = new CompletableFuture<>();
-
-        // Null check
-        if (instance == null)
-        {
-            this.plugin.logError("SQLite database request to store a null. ");
-            completableFuture.complete(false);
-            return completableFuture;
-        }
-
-        if (!(instance instanceof DataObject))
-        {
-            this.plugin.logError("This class is not a DataObject: " + instance.getClass().getName());
-            completableFuture.complete(false);
-            return completableFuture;
-        }
-
-        Gson gson = this.getGson();
-        String toStore = gson.toJson(instance);
-
-        this.processQueue.add(() ->
-        {
-            try (Connection connection = this.dataSource.getConnection();
-                    PreparedStatement preparedStatement = connection.prepareStatement(this.getSqlConfig().getSaveObjectSQL()))
-            {
-                preparedStatement.setString(1, toStore);
-                preparedStatement.setString(2, ((DataObject) instance).getUniqueId());
-                preparedStatement.setString(3, toStore);
-                preparedStatement.execute();
-                completableFuture.complete(true);
-            }
-            catch (SQLException e)
-            {
-                this.plugin.logError("Could not save object " + instance.getClass().getName() + " " + ((DataObject) instance).getUniqueId() + " " + e.getMessage());
-                completableFuture.complete(false);
-            }
-        });
-
-        return completableFuture;
+        preparedStatement.setString(1, toStore);
+        preparedStatement.setString(2, uniqueId);
+        preparedStatement.setString(3, toStore);
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package world.bentobox.bentobox.database.transition;
+
+import world.bentobox.bentobox.database.AbstractDatabaseHandler;
+import world.bentobox.bentobox.database.DatabaseSetup;
+import world.bentobox.bentobox.database.binary.BinaryDatabase;
+import world.bentobox.bentobox.database.json.JSONDatabase;
+
+/**
+ * Transition database, from JSON to binary
+ * @since 2.0.0
+ */
+public class Json2BinaryDatabase implements DatabaseSetup {
+
+    @Override
+    public <T> AbstractDatabaseHandler<T> getHandler(Class<T> type) {
+        return new TransitionDatabaseHandler<>(type, new JSONDatabase().getHandler(type), new BinaryDatabase().getHandler(type));
+    }
+
+}
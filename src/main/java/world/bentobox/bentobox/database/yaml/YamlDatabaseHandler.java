@@ -9,6 +9,7 @@ import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.nio.file.Files;
@@ -153,8 +154,8 @@ public class YamlDatabaseHandler<T> extends AbstractDatabaseHandler<T> {
 
         // Run through all the fields in the object
         for (Field field : dataObject.getDeclaredFields()) {
-            // Ignore synthetic fields, such as those added by Jacoco or the compiler
-            if (field.isSynthetic()) {
+            // Ignore synthetic fields, such as those added by Jacoco or the compiler, and transient fields
+            if (field.isSynthetic() || Modifier.isTransient(field.getModifiers())) {
                 continue;
             }
             // Get the getter and setters for this field using the JavaBeans system
@@ -360,7 +361,7 @@ public class YamlDatabaseHandler<T> extends AbstractDatabaseHandler<T> {
 
         // Run through all the fields in the class that is being stored. EVERY field must have a get and set method
         for (Field field : dataObject.getDeclaredFields()) {
-            if (field.isSynthetic()) {
+            if (field.isSynthetic() || Modifier.isTransient(field.getModifiers())) {
                 continue;
             }
             // Get the property descriptor for this field
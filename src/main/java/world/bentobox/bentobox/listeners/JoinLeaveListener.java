@@ -21,6 +21,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.addons.GameModeAddon;
 import world.bentobox.bentobox.api.events.island.IslandEvent;
+import world.bentobox.bentobox.api.flags.WhyDebug;
 import world.bentobox.bentobox.api.localization.TextVariables;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.bentobox.database.objects.Island;
@@ -265,6 +266,8 @@ public class JoinLeaveListener implements Listener {
         // Remove any coop associations from the player logging out
         plugin.getIslands().clearRank(RanksManager.COOP_RANK, event.getPlayer().getUniqueId());
         players.save(event.getPlayer().getUniqueId());
+        // Stop any why debugging
+        WhyDebug.stop(event.getPlayer().getUniqueId());
         User.removePlayer(event.getPlayer());
     }
 }
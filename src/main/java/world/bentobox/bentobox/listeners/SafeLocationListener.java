@@ -0,0 +1,139 @@
+package world.bentobox.bentobox.listeners;
+
+import java.util.List;
+
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.data.Directional;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockDispenseEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFadeEvent;
+import org.bukkit.event.block.BlockFormEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockIgniteEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.BlockSpreadEvent;
+import org.bukkit.event.entity.EntityChangeBlockEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.player.PlayerBucketEmptyEvent;
+import org.eclipse.jdt.annotation.NonNull;
+
+import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.managers.island.SafeLocationCache;
+
+/**
+ * Forgets remembered safe locations when the blocks around them change
+ * @since 2.0.0
+ */
+public class SafeLocationListener implements Listener {
+
+    private final SafeLocationCache cache;
+
+    /**
+     * @param plugin - plugin object
+     */
+    public SafeLocationListener(@NonNull BentoBox plugin) {
+        this.cache = plugin.getIslands().getSafeLocationCache();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBreak(final BlockBreakEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlace(final BlockPlaceEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(final BlockBurnEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockFade(final BlockFadeEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockForm(final BlockFormEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    /**
+     * Spreading is not sent to {@link BlockFormEvent} handlers
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockSpread(final BlockSpreadEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockIgnite(final BlockIgniteEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFluidFlow(final BlockFromToEvent e) {
+        cache.blockChanged(e.getToBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBucketEmpty(final PlayerBucketEmptyEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    /**
+     * Dispensers can place water, lava, fire and blocks in front of them
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onDispense(final BlockDispenseEvent e) {
+        if (e.getBlock().getBlockData() instanceof Directional directional) {
+            cache.blockChanged(e.getBlock().getRelative(directional.getFacing()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(final BlockPistonExtendEvent e) {
+        // The head moves out, and each block moves one along
+        cache.blockChanged(e.getBlock().getRelative(e.getDirection()));
+        movedBlocks(e.getBlocks(), e.getDirection());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(final BlockPistonRetractEvent e) {
+        // The head moves in, and sticky pistons pull blocks back with it
+        cache.blockChanged(e.getBlock().getRelative(e.getDirection().getOppositeFace()));
+        movedBlocks(e.getBlocks(), e.getDirection());
+    }
+
+    private void movedBlocks(List<Block> blocks, BlockFace direction) {
+        for (Block block : blocks) {
+            cache.blockChanged(block);
+            cache.blockChanged(block.getRelative(direction));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityChangeBlock(final EntityChangeBlockEvent e) {
+        cache.blockChanged(e.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(final EntityExplodeEvent e) {
+        e.blockList().forEach(cache::blockChanged);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(final BlockExplodeEvent e) {
+        e.blockList().forEach(cache::blockChanged);
+    }
+}
@@ -1,9 +1,11 @@
 package world.bentobox.bentobox.listeners.flags.protection;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
+import org.bukkit.World;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Projectile;
@@ -17,8 +19,11 @@ import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 
+import world.bentobox.bentobox.api.flags.Flag;
 import world.bentobox.bentobox.api.flags.FlagListener;
+import world.bentobox.bentobox.database.objects.Island;
 import world.bentobox.bentobox.lists.Flags;
+import world.bentobox.bentobox.managers.island.ChunkIslandMap;
 
 /**
  * Protects islands from visitors blowing things up
@@ -88,13 +93,25 @@ public class TNTListener extends FlagListener {
             e.setCancelled(true);
         } else {
             // Remove any blocks from the explosion list if required
-            e.blockList().removeIf(b -> protect(b.getLocation()));
+            ChunkIslandMap islands = new ChunkIslandMap(getIslands(), e.getLocation().getWorld());
+            e.blockList().removeIf(b -> isProtected(islands.getProtectedIslandAt(b), b.getWorld(), Flags.TNT_DAMAGE, Flags.WORLD_TNT_DAMAGE));
         }
     }
 
     protected boolean protect(Location location) {
-        return getIslands().getProtectedIslandAt(location).map(i -> !i.isAllowed(Flags.TNT_DAMAGE))
-                .orElseGet(() -> !Flags.WORLD_TNT_DAMAGE.isSetForWorld(location.getWorld()));
+        return isProtected(getIslands().getProtectedIslandAt(location), location.getWorld(), Flags.TNT_DAMAGE, Flags.WORLD_TNT_DAMAGE);
+    }
+
+    /**
+     * Checks if explosion damage is stopped
+     * @param island - protected island at the location, if any
+     * @param world - world of the location
+     * @param islandFlag - flag used on islands
+     * @param worldFlag - flag used outside islands
+     * @return true if the location is protected
+     */
+    private boolean isProtected(Optional<Island> island, World world, Flag islandFlag, Flag worldFlag) {
+        return island.map(i -> !i.isAllowed(islandFlag)).orElseGet(() -> !worldFlag.isSetForWorld(world));
     }
 
     /**
@@ -113,8 +130,8 @@ public class TNTListener extends FlagListener {
     }
 
     protected boolean protectBlockExplode(Location location) {
-        return getIslands().getProtectedIslandAt(location).map(i -> !i.isAllowed(Flags.BLOCK_EXPLODE_DAMAGE))
-                .orElseGet(() -> !Flags.WORLD_BLOCK_EXPLODE_DAMAGE.isSetForWorld(location.getWorld()));
+        return isProtected(getIslands().getProtectedIslandAt(location), location.getWorld(),
+                Flags.BLOCK_EXPLODE_DAMAGE, Flags.WORLD_BLOCK_EXPLODE_DAMAGE);
     }
 
     /**
@@ -133,7 +150,9 @@ public class TNTListener extends FlagListener {
             e.setCancelled(true);
         } else {
             // Remove any blocks from the explosion list if required
-            e.blockList().removeIf(b -> protectBlockExplode(b.getLocation()));
+            ChunkIslandMap islands = new ChunkIslandMap(getIslands(), e.getBlock().getWorld());
+            e.blockList().removeIf(b -> isProtected(islands.getProtectedIslandAt(b), b.getWorld(),
+                    Flags.BLOCK_EXPLODE_DAMAGE, Flags.WORLD_BLOCK_EXPLODE_DAMAGE));
         }
     }
 
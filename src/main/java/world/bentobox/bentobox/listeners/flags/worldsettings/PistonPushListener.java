@@ -6,6 +6,7 @@ import org.bukkit.event.block.BlockPistonExtendEvent;
 
 import world.bentobox.bentobox.api.flags.FlagListener;
 import world.bentobox.bentobox.lists.Flags;
+import world.bentobox.bentobox.managers.island.ChunkIslandMap;
 
 /**
  * Prevents pistons from pushing blocks outside island protection range
@@ -18,13 +19,15 @@ public class PistonPushListener extends FlagListener {
     public void onPistonExtend(BlockPistonExtendEvent e) {
         // Only process if flag is active
         if (Flags.PISTON_PUSH.isSetForWorld(e.getBlock().getWorld())) {
-            getIslands().getProtectedIslandAt(e.getBlock().getLocation()).ifPresent(i -> 
-            e.setCancelled(
-                    // Run through the location of all the relative blocks and see if they are outside the island
-                    !e.getBlocks().stream()
-                    .map(b -> b.getRelative(e.getDirection()).getLocation())
-                    // All blocks must be on the island, otherwise the event is cancelled
-                    .allMatch(i::onIsland)));
+            getIslands().getProtectedIslandAt(e.getBlock().getLocation()).ifPresent(i -> {
+                ChunkIslandMap islands = new ChunkIslandMap(getIslands(), e.getBlock().getWorld());
+                e.setCancelled(
+                        // Run through all the relative blocks and see if they are outside the island
+                        !e.getBlocks().stream()
+                        .map(b -> b.getRelative(e.getDirection()))
+                        // All blocks must be on the island, otherwise the event is cancelled
+                        .allMatch(b -> islands.onIsland(i, b)));
+            });
         }
     }
 }
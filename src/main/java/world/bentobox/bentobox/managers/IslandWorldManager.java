@@ -9,6 +9,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
@@ -41,6 +42,11 @@ public class IslandWorldManager {
      * Map associating Worlds (Overworld, Nether and End) with the GameModeAddon that creates them.
      */
     private final Map<@NonNull World, @NonNull GameModeAddon> gameModes;
+    /**
+     * Map associating worlds with their overworld. Holds every game mode world and any other world
+     * that has been looked up by {@link world.bentobox.bentobox.util.Util#getWorld(World)}.
+     */
+    private final Map<@NonNull World, @NonNull World> overWorlds;
 
     /**
      * Manages worlds registered with BentoBox
@@ -48,6 +54,7 @@ public class IslandWorldManager {
     public IslandWorldManager(BentoBox plugin) {
         this.plugin = plugin;
         gameModes = new HashMap<>();
+        overWorlds = new ConcurrentHashMap<>();
     }
 
     /**
@@ -112,8 +119,56 @@ public class IslandWorldManager {
      * @return true if in a world or false if not
      */
     public boolean inWorld(@Nullable World world) {
-        return world != null && gameModes.containsKey(world) &&
-                (world.getEnvironment().equals(Environment.NORMAL) || isIslandNether(world) || isIslandEnd(world));
+        if (world == null) {
+            return false;
+        }
+        GameModeAddon gm = gameModes.get(world);
+        if (gm == null) {
+            return false;
+        }
+        return switch (world.getEnvironment()) {
+        case NORMAL -> true;
+        case NETHER -> gm.getWorldSettings().isNetherGenerate() && gm.getWorldSettings().isNetherIslands();
+        case THE_END -> gm.getWorldSettings().isEndGenerate() && gm.getWorldSettings().isEndIslands();
+        default -> false;
+        };
+    }
+
+    /**
+     * Get the overworld of this world if it is known.
+     * Game mode worlds are always known. Other worlds are known once they have been cached.
+     * @param world - world
+     * @return overworld or null if not known
+     * @since 2.0.0
+     */
+    @Nullable
+    public World getCachedOverWorld(@NonNull World world) {
+        return overWorlds.get(world);
+    }
+
+    /**
+     * Caches the overworld of a world that is not a game mode world
+     * @param world - world
+     * @param overWorld - the overworld of world
+     * @since 2.0.0
+     */
+    public void cacheOverWorld(@NonNull World world, @NonNull World overWorld) {
+        overWorlds.put(world, overWorld);
+    }
+
+    /**
+     * Clears the overworld cache. Game mode worlds are put back.
+     * Should be called when worlds load or unload.
+     * @since 2.0.0
+     */
+    public void clearOverWorldCache() {
+        overWorlds.clear();
+        gameModes.forEach((world, gm) -> {
+            World overWorld = gm.getOverWorld();
+            if (overWorld != null && (world.equals(overWorld) || world.equals(gm.getNetherWorld()) || world.equals(gm.getEndWorld()))) {
+                overWorlds.put(world, overWorld);
+            }
+        });
     }
 
     /**
@@ -180,16 +235,19 @@ public class IslandWorldManager {
         String friendlyName = settings.getFriendlyName().isEmpty() ? world.getName() : settings.getFriendlyName();
         // Add worlds to map
         gameModes.put(world, gameMode);
+        overWorlds.put(world, world);
         // Call Multiverse
         registerToWorldManagementPlugins(world, true, true);
         if (settings.isNetherGenerate() && gameMode.getNetherWorld() != null) {
             gameModes.put(gameMode.getNetherWorld(), gameMode);
+            overWorlds.put(gameMode.getNetherWorld(), world);
             if (settings.isNetherIslands()) {
                 registerToWorldManagementPlugins(gameMode.getNetherWorld(), true, true);
             }
         }
         if (settings.isEndGenerate() && gameMode.getEndWorld() != null) {
             gameModes.put(gameMode.getEndWorld(), gameMode);
+            overWorlds.put(gameMode.getEndWorld(), world);
             if (settings.isEndIslands()) {
                 registerToWorldManagementPlugins(gameMode.getEndWorld(), true, true);
             }
@@ -15,14 +15,16 @@ import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.Tag;
 import org.bukkit.World;
+import org.bukkit.World.Environment;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Boat;
@@ -47,10 +49,15 @@ import world.bentobox.bentobox.api.localization.TextVariables;
 import world.bentobox.bentobox.api.logs.LogEntry;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.bentobox.database.Database;
+import world.bentobox.bentobox.database.DatabaseQuery;
 import world.bentobox.bentobox.database.objects.Island;
 import world.bentobox.bentobox.database.objects.IslandDeletion;
+import world.bentobox.bentobox.database.objects.IslandIndexes;
 import world.bentobox.bentobox.lists.Flags;
+import world.bentobox.bentobox.managers.island.ChunkStatus;
 import world.bentobox.bentobox.managers.island.IslandCache;
+import world.bentobox.bentobox.managers.island.SafeBlockTable;
+import world.bentobox.bentobox.managers.island.SafeLocationCache;
 import world.bentobox.bentobox.util.Util;
 import world.bentobox.bentobox.util.teleport.SafeSpotTeleport;
 
@@ -95,6 +102,16 @@ public class IslandsManager {
 
     private final Set<UUID> goingHome;
 
+    /**
+     * Material classes for checkIfSafe, built when first needed
+     */
+    private volatile SafeBlockTable safeBlockTable;
+
+    /**
+     * Locations recently found to be safe
+     */
+    private final SafeLocationCache safeLocationCache = new SafeLocationCache();
+
     /**
      * Islands Manager
      * @param plugin - plugin
@@ -134,7 +151,42 @@ public class IslandsManager {
         Block ground = l.getBlock().getRelative(BlockFace.DOWN);
         Block space1 = l.getBlock();
         Block space2 = l.getBlock().getRelative(BlockFace.UP);
-        return checkIfSafe(l.getWorld(), ground.getType(), space1.getType(), space2.getType());
+        if (checkIfSafe(l.getWorld(), ground.getType(), space1.getType(), space2.getType())) {
+            safeLocationCache.add(l);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if this location was recently found to be safe by {@link #isSafeLocation(Location)}.
+     * If the chunk is loaded, the blocks are checked again because that is cheap. If it is not, the
+     * location is trusted as long as no block change around it has been seen, so the chunk does not
+     * need to be loaded.
+     *
+     * @param l Location to be checked, not null.
+     * @return true if the location is known to be safe, false if it is not known
+     * @since 2.0.0
+     */
+    public boolean isKnownSafeLocation(@NonNull Location l) {
+        if (!safeLocationCache.isSafe(l)) {
+            return false;
+        }
+        World world = l.getWorld();
+        if (world != null && world.isChunkLoaded(l.getBlockX() >> 4, l.getBlockZ() >> 4) && !isSafeLocation(l)) {
+            safeLocationCache.remove(l);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return locations recently found to be safe
+     * @since 2.0.0
+     */
+    @NonNull
+    public SafeLocationCache getSafeLocationCache() {
+        return safeLocationCache;
     }
 
     /**
@@ -164,46 +216,27 @@ public class IslandsManager {
      * @return {@code true} if the location is considered safe, {@code false} otherwise.
      */
     public boolean checkIfSafe(@Nullable World world, @NonNull Material ground, @NonNull Material space1, @NonNull Material space2) {
-        // Ground must be solid, space 1 and 2 must not be solid
-        if (world == null || !ground.isSolid()
-                || (space1.isSolid() && !Tag.SIGNS.isTagged(space1))
-                || (space2.isSolid() && !Tag.SIGNS.isTagged(space2))) {
-            return false;
-        }
-        // Cannot be submerged or water cannot be dangerous
-        if (space1.equals(Material.WATER) && (space2.equals(Material.WATER) || plugin.getIWM().isWaterNotSafe(world))) {
-            return false;
-        }
-        // Unsafe
-        if (ground.equals(Material.LAVA)
-                || space1.equals(Material.LAVA)
-                || space2.equals(Material.LAVA)
-                || Tag.SIGNS.isTagged(ground)
-                || Tag.TRAPDOORS.isTagged(ground)
-                || Tag.BANNERS.isTagged(ground)
-                || Tag.PRESSURE_PLATES.isTagged(ground)
-                || Tag.FENCE_GATES.isTagged(ground)
-                || Tag.DOORS.isTagged(ground)
-                || Tag.FENCES.isTagged(ground)
-                || Tag.BUTTONS.isTagged(ground)
-                || Tag.ITEMS_BOATS.isTagged(ground)
-                || Tag.ITEMS_CHEST_BOATS.isTagged(ground)
-                || Tag.CAMPFIRES.isTagged(ground)
-                || Tag.FIRE.isTagged(ground)
-                || Tag.FIRE.isTagged(space1)
-                || space1.equals(Material.END_PORTAL)
-                || space2.equals(Material.END_PORTAL)
-                || space1.equals(Material.END_GATEWAY)
-                || space2.equals(Material.END_GATEWAY)) {
-            return false;
+        return world != null && getSafeBlockTable().isSafe(ground, space1, space2)
+                // Water may be dangerous
+                && (space1 != Material.WATER || !plugin.getIWM().isWaterNotSafe(world));
+    }
+
+    private SafeBlockTable getSafeBlockTable() {
+        SafeBlockTable table = safeBlockTable;
+        if (table == null) {
+            table = new SafeBlockTable();
+            safeBlockTable = table;
         }
-        // Known unsafe blocks
-        return switch (ground) {
-        // Unsafe
-        case ANVIL, BARRIER, CACTUS, END_PORTAL, END_ROD, FIRE, FLOWER_POT, LADDER, LEVER, TALL_GRASS, PISTON_HEAD,
-        MOVING_PISTON, TORCH, WALL_TORCH, TRIPWIRE, WATER, COBWEB, NETHER_PORTAL, MAGMA_BLOCK -> false;
-        default -> true;
-        };
+        return table;
+    }
+
+    /**
+     * Rebuilds the table of safe blocks used by {@link #checkIfSafe(World, Material, Material, Material)}.
+     * Call this if block tags may have changed, e.g. after a reload.
+     * @since 2.0.0
+     */
+    public void rebuildSafeBlockTable() {
+        safeBlockTable = new SafeBlockTable();
     }
 
     /**
@@ -263,6 +296,8 @@ public class IslandsManager {
             island.log(new LogEntry.Builder("DELETED").build());
             // Set the delete flag which will prevent it from being loaded even if database deletion fails
             island.setDeleted(true);
+            // Its blocks are going
+            safeLocationCache.clear();
             // Save the island
             handler.saveObjectAsync(island);
             // Delete the island
@@ -355,6 +390,27 @@ public class IslandsManager {
         return plugin.getIWM().inWorld(location) ? Optional.ofNullable(islandCache.getIslandAt(location)) : Optional.empty();
     }
 
+    /**
+     * Works out how a chunk lies in relation to the protected areas of islands. If the chunk is
+     * {@link ChunkStatus#isDecided() decided}, every block in it has the same result from
+     * {@link #getProtectedIslandAt(Location)}, so it only needs to be checked once.
+     * See {@link world.bentobox.bentobox.managers.island.ChunkIslandMap} to check many blocks.
+     *
+     * @param world - world
+     * @param chunkX - chunk x
+     * @param chunkZ - chunk z
+     * @return chunk status
+     * @since 2.0.0
+     */
+    @NonNull
+    public ChunkStatus getChunkStatus(@NonNull World world, int chunkX, int chunkZ) {
+        if (!plugin.getIWM().inWorld(world) || (world.getEnvironment() != Environment.NORMAL
+                && !plugin.getIWM().isIslandNether(world) && !plugin.getIWM().isIslandEnd(world))) {
+            return ChunkStatus.OUTSIDE;
+        }
+        return islandCache.getChunkStatus(world, chunkX, chunkZ);
+    }
+
     /**
      * Returns an <strong>unmodifiable collection</strong> of all existing islands (even those who may be unowned).
      * @return unmodifiable collection containing every island.
@@ -572,6 +628,10 @@ public class IslandsManager {
         Location defaultHome = getHomeLocation(world, user);
         Location namedHome = homeName.isBlank() ? null : getHomeLocation(world, user, name);
         Location l = namedHome != null ? namedHome : defaultHome;
+        if (l != null && isKnownSafeLocation(l)) {
+            result.complete(l);
+            return result;
+        }
         if (l != null) {
             Util.getChunkAtAsync(l).thenRun(() -> {
                 // Check if it is safe
@@ -1219,54 +1279,56 @@ public class IslandsManager {
         List<Island> toQuarantine = new ArrayList<>();
         int owned = 0;
         int unowned = 0;
-        // Attempt to load islands
-        for (Island island : handler.loadObjects()) {
-            if (island == null) {
-                plugin.logWarning("Null island when loading...");
-                continue;
-            }
+        // Attempt to load islands. They are streamed so that they are decoded in parallel while being added
+        try (Stream<Island> islands = handler.streamObjects()) {
+            for (Island island : (Iterable<Island>) islands::iterator) {
+                if (island == null) {
+                    plugin.logWarning("Null island when loading...");
+                    continue;
+                }
 
-            if (island.isDeleted()) {
-                // These will be deleted later
-                deletedIslands.add(island.getUniqueId());
-            } else if (island.isDoNotLoad() && island.getWorld() != null && island.getCenter() != null) {
-                // Add to quarantine cache
-                quarantineCache.computeIfAbsent(island.getOwner(), k -> new ArrayList<>()).add(island);
-            } // Check island distance and if incorrect stop BentoBox
-            else if (island.getWorld() != null
-                    && plugin.getIWM().inWorld(island.getWorld())
-                    && island.getRange() != plugin.getIWM().getIslandDistance(island.getWorld())) {
-                throw new IOException("Island distance mismatch!\n"
-                        + "World '" + island.getWorld().getName() + "' distance " + plugin.getIWM().getIslandDistance(island.getWorld()) + " != island range " + island.getRange() + "!\n"
-                        + "Island ID in database is " + island.getUniqueId() + ".\n"
-                        + "Island distance in config.yml cannot be changed mid-game! Fix config.yml or clean database.");
-            } else {
-                // Fix island center if it is off
-                fixIslandCenter(island);
-                if (!islandCache.addIsland(island)) {
-                    // Quarantine the offending island
-                    toQuarantine.add(island);
+                if (island.isDeleted()) {
+                    // These will be deleted later
+                    deletedIslands.add(island.getUniqueId());
+                } else if (island.isDoNotLoad() && island.getWorld() != null && island.getCenter() != null) {
                     // Add to quarantine cache
-                    island.setDoNotLoad(true);
                     quarantineCache.computeIfAbsent(island.getOwner(), k -> new ArrayList<>()).add(island);
-                    if (island.isUnowned()) {
-                        unowned++;
+                } // Check island distance and if incorrect stop BentoBox
+                else if (island.getWorld() != null
+                        && plugin.getIWM().inWorld(island.getWorld())
+                        && island.getRange() != plugin.getIWM().getIslandDistance(island.getWorld())) {
+                    throw new IOException("Island distance mismatch!\n"
+                            + "World '" + island.getWorld().getName() + "' distance " + plugin.getIWM().getIslandDistance(island.getWorld()) + " != island range " + island.getRange() + "!\n"
+                            + "Island ID in database is " + island.getUniqueId() + ".\n"
+                            + "Island distance in config.yml cannot be changed mid-game! Fix config.yml or clean database.");
+                } else {
+                    // Fix island center if it is off
+                    fixIslandCenter(island);
+                    if (!islandCache.addIsland(island)) {
+                        // Quarantine the offending island
+                        toQuarantine.add(island);
+                        // Add to quarantine cache
+                        island.setDoNotLoad(true);
+                        quarantineCache.computeIfAbsent(island.getOwner(), k -> new ArrayList<>()).add(island);
+                        if (island.isUnowned()) {
+                            unowned++;
+                        } else {
+                            owned++;
+                        }
+                    } else if (island.isSpawn()) {
+                        // Success, set spawn if this is the spawn island.
+                        this.setSpawn(island);
                     } else {
-                        owned++;
+                        // Successful load
+                        // Clean any null flags out of the island - these can occur for various reasons
+                        island.getFlags().keySet().removeIf(f -> f.startsWith("NULL_FLAG"));
                     }
-                } else if (island.isSpawn()) {
-                    // Success, set spawn if this is the spawn island.
-                    this.setSpawn(island);
-                } else {
-                    // Successful load
-                    // Clean any null flags out of the island - these can occur for various reasons
-                    island.getFlags().keySet().removeIf(f -> f.startsWith("NULL_FLAG"));
                 }
-            }
 
-            // Update some of their fields
-            if (island.getGameMode() == null) {
-                island.setGameMode(plugin.getIWM().getAddon(island.getWorld()).map(gm -> gm.getDescription().getName()).orElse(""));
+                // Update some of their fields
+                if (island.getGameMode() == null) {
+                    island.setGameMode(plugin.getIWM().getAddon(island.getWorld()).map(gm -> gm.getDescription().getName()).orElse(""));
+                }
             }
         }
         if (!toQuarantine.isEmpty()) {
@@ -1405,14 +1467,14 @@ public class IslandsManager {
     }
 
     /**
-     * Save the all the islands to the database
+     * Save all the islands that have changed since they were last saved to the database
      */
     public void saveAll() {
         saveAll(false);
     }
 
     /**
-     * Save the all the islands to the database
+     * Save all the islands that have changed since they were last saved to the database
      * @param schedule true if we should let the task run over multiple ticks to reduce lag spikes
      */
     public void saveAll(boolean schedule){
@@ -1420,7 +1482,7 @@ public class IslandsManager {
             for(Island island : islandCache.getIslands()) {
                 if (island.isChanged()) {
                     try {
-                        handler.saveObjectAsync(island);
+                        saveChanged(island);
                     } catch (Exception e) {
                         plugin.logError("Could not save island to database when running sync! " + e.getMessage());
                     }
@@ -1429,13 +1491,18 @@ public class IslandsManager {
             return;
         }
 
-
+        // Only the islands that have changed need to be saved
+        Queue<Island> queue = islandCache.getIslands().stream().filter(Island::isChanged).collect(Collectors.toCollection(LinkedList::new));
+        if (queue.isEmpty()) {
+            return;
+        }
         isSaveTaskRunning = true;
-        Queue<Island> queue = new LinkedList<>(islandCache.getIslands());
         new BukkitRunnable() {
             @Override
             public void run() {
-                for (int i = 0; i < plugin.getSettings().getMaxSavedIslandsPerTick(); i++) {
+                // Save as many islands as fit into the time budget, but always at least one
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(plugin.getSettings().getMaxSaveTimePerTick());
+                do {
                     Island island = queue.poll();
                     if (island == null) {
                         isSaveTaskRunning = false;
@@ -1444,16 +1511,30 @@ public class IslandsManager {
                     }
                     if (island.isChanged()) {
                         try {
-                            handler.saveObjectAsync(island);
+                            saveChanged(island);
                         } catch (Exception e) {
                             plugin.logError("Could not save island to database when running sync! " + e.getMessage());
                         }
                     }
-                }
+                } while (System.nanoTime() < deadline);
             }
         }.runTaskTimer(plugin, 0, 1);
     }
 
+    /**
+     * Saves an island and clears its changed state. The state is cleared before the save so that
+     * changes made while the save is in progress are kept, and set again if the save fails.
+     * @param island - island to save
+     */
+    private void saveChanged(Island island) {
+        island.setChanged(false);
+        handler.saveObjectAsync(island).thenAccept(saved -> {
+            if (!Boolean.TRUE.equals(saved)) {
+                island.setChanged();
+            }
+        });
+    }
+
     /**
      * Puts a player in a team. Removes them from their old island if required.
      * @param teamIsland - team island
@@ -1474,7 +1555,11 @@ public class IslandsManager {
     public void shutdown(){
         plugin.log("Removing coops from islands...");
         // Remove all coop associations
-        islandCache.getIslands().forEach(i -> i.getMembers().values().removeIf(p -> p == RanksManager.COOP_RANK));
+        islandCache.getIslands().forEach(i -> {
+            if (i.getMembers().values().removeIf(p -> p == RanksManager.COOP_RANK)) {
+                i.setChanged();
+            }
+        });
         plugin.log("Saving islands - this has to be done sync so it may take a while with a lot of islands...");
         saveAll();
         plugin.log("Islands saved.");
@@ -1581,7 +1666,11 @@ public class IslandsManager {
      * @param uniqueId - UUID of player
      */
     public void clearRank(int rank, UUID uniqueId) {
-        islandCache.getIslands().forEach(i -> i.getMembers().entrySet().removeIf(e -> e.getKey().equals(uniqueId) && e.getValue() == rank));
+        islandCache.getIslands().forEach(i -> {
+            if (i.getMembers().entrySet().removeIf(e -> e.getKey().equals(uniqueId) && e.getValue() == rank)) {
+                i.setChanged();
+            }
+        });
     }
 
     /**
@@ -1748,35 +1837,35 @@ public class IslandsManager {
             Map<UUID, Island> owners = new HashMap<>();
             Map<UUID, Integer> freq = new HashMap<>();
             Map<UUID, List<Island>> memberships = new HashMap<>();
-            handler.loadObjects()
-            .stream().filter(i -> i.getOwner() != null)
-            .filter(i -> i.getWorld() != null)
-            .filter(i -> i.getWorld().equals(world))
-            .filter(i -> !i.isDoNotLoad())
-            .forEach(i -> {
-                int count = freq.getOrDefault(i.getOwner(), 0);
-                freq.put(i.getOwner(), count + 1);
-                if (owners.containsKey(i.getOwner())) {
-                    // Player already has an island in the database
-                    user.sendMessage("commands.admin.team.fix.duplicate-owner" , TextVariables.NAME, plugin.getPlayers().getName(i.getOwner()));
-                    Island prev = owners.get(i.getOwner());
-                    // Find out if this island is in the cache
-                    Island cachedIsland = this.getIsland(i.getWorld(), i.getOwner());
-                    if (cachedIsland != null && !cachedIsland.getUniqueId().equals(i.getUniqueId())) {
-                        islandCache.deleteIslandFromCache(i.getUniqueId());
-                        handler.deleteID(i.getUniqueId());
-                    }
-                    if (cachedIsland != null && !cachedIsland.getUniqueId().equals(prev.getUniqueId())) {
-                        islandCache.deleteIslandFromCache(prev.getUniqueId());
-                        handler.deleteID(prev.getUniqueId());
+            // Only the islands in this world that are not quarantined are loaded from the database
+            DatabaseQuery<Island> query = DatabaseQuery.where(IslandIndexes.WORLD, world.getName()).and(IslandIndexes.DO_NOT_LOAD, false);
+            try (Stream<Island> islands = handler.query(query)) {
+                islands.filter(i -> i.getOwner() != null)
+                .forEach(i -> {
+                    int count = freq.getOrDefault(i.getOwner(), 0);
+                    freq.put(i.getOwner(), count + 1);
+                    if (owners.containsKey(i.getOwner())) {
+                        // Player already has an island in the database
+                        user.sendMessage("commands.admin.team.fix.duplicate-owner" , TextVariables.NAME, plugin.getPlayers().getName(i.getOwner()));
+                        Island prev = owners.get(i.getOwner());
+                        // Find out if this island is in the cache
+                        Island cachedIsland = this.getIsland(i.getWorld(), i.getOwner());
+                        if (cachedIsland != null && !cachedIsland.getUniqueId().equals(i.getUniqueId())) {
+                            islandCache.deleteIslandFromCache(i.getUniqueId());
+                            handler.deleteID(i.getUniqueId());
+                        }
+                        if (cachedIsland != null && !cachedIsland.getUniqueId().equals(prev.getUniqueId())) {
+                            islandCache.deleteIslandFromCache(prev.getUniqueId());
+                            handler.deleteID(prev.getUniqueId());
+                        }
+                    } else {
+                        owners.put(i.getOwner(), i);
+                        i.getMemberSet().forEach(u ->
+                        // Place into membership
+                        memberships.computeIfAbsent(u, k -> new ArrayList<>()).add(i));
                     }
-                } else {
-                    owners.put(i.getOwner(), i);
-                    i.getMemberSet().forEach(u ->
-                    // Place into membership
-                    memberships.computeIfAbsent(u, k -> new ArrayList<>()).add(i));
-                }
-            });
+                });
+            }
             freq.entrySet().stream().filter(en -> en.getValue() > 1).forEach(en -> user.sendMessage("commands.admin.team.fix.player-has", TextVariables.NAME, plugin.getPlayers().getName(en.getKey()), TextVariables.NUMBER, String.valueOf(en.getValue())));
             // Check for players in multiple teams
             memberships.entrySet().stream()
@@ -2,14 +2,22 @@ package world.bentobox.bentobox.managers;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.bukkit.Bukkit;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.Tameable;
@@ -24,6 +32,7 @@ import world.bentobox.bentobox.database.Database;
 import world.bentobox.bentobox.database.objects.Island;
 import world.bentobox.bentobox.database.objects.Names;
 import world.bentobox.bentobox.database.objects.Players;
+import world.bentobox.bentobox.util.NameIndex;
 import world.bentobox.bentobox.util.Util;
 
 public class PlayersManager {
@@ -33,14 +42,33 @@ public class PlayersManager {
     private final Database<Names> names;
 
     private final Map<UUID, Players> playerCache;
+    /**
+     * When each cached player was last used, so the least recently used ones can be removed
+     */
+    private final Map<UUID, Long> lastUsed;
+    private long useCount;
+    /**
+     * Cache size at which offline players are next checked for removal
+     */
+    private int evictAt;
+    /**
+     * Names of all known players, loaded from the names database
+     */
+    private final NameIndex nameIndex;
     private final Set<UUID> inTeleport;
+    /**
+     * Number of saves that have not been written yet, by player. Saves complete on the database thread.
+     */
+    private final Map<UUID, Integer> saving = new ConcurrentHashMap<>();
 
     private boolean isSaveTaskRunning;
 
     /**
-     * Provides a memory cache of online player information
+     * Provides a memory cache of player information
      * This is the one-stop-shop of player info
-     * If the player is not cached, then a request is made to Players to obtain it
+     * If the player is not cached, then a request is made to Players to obtain it.
+     * Online players stay in the cache. Offline players are removed when they have not been used
+     * for a while, see {@link world.bentobox.bentobox.Settings#getPlayerCacheSize()}.
      *
      * @param plugin - plugin object
      */
@@ -51,6 +79,8 @@ public class PlayersManager {
         // Set up the names database
         names = new Database<>(plugin, Names.class);
         playerCache = new HashMap<>();
+        lastUsed = new HashMap<>();
+        nameIndex = new NameIndex();
         inTeleport = new HashSet<>();
     }
 
@@ -66,9 +96,22 @@ public class PlayersManager {
      * Load all players - not normally used as to load all players into memory will be wasteful
      */
     public void load(){
-        playerCache.clear();
+        clearCache();
         inTeleport.clear();
-        handler.loadObjects().forEach(p -> playerCache.put(p.getPlayerUUID(), p));
+        handler.loadObjects().forEach(p -> cache(p.getPlayerUUID(), p));
+    }
+
+    /**
+     * Loads the names of all known players into the name index. Takes a while on large databases,
+     * so it should be run async. Names are looked up in the database until it has finished.
+     * @since 2.0.0
+     */
+    public void loadNames() {
+        Map<String, UUID> loaded = new HashMap<>();
+        try (Stream<Names> stream = names.streamObjects()) {
+            stream.forEach(n -> loaded.put(n.getUniqueId(), n.getUuid()));
+        }
+        nameIndex.addAll(loaded);
     }
 
     public boolean isSaveTaskRunning() {
@@ -76,34 +119,42 @@ public class PlayersManager {
     }
 
     /**
-     * Save all players
+     * Save all players that have changed since they were last saved
      */
     public void saveAll() {
         saveAll(false);
     }
 
     /**
-     * Save all players
+     * Save all players that have changed since they were last saved
      * @param schedule true if we should let the task run over multiple ticks to reduce lag spikes
      */
     public void saveAll(boolean schedule){
         if (!schedule) {
             for (Players player : playerCache.values()) {
-                try {
-                    handler.saveObjectAsync(player);
-                } catch (Exception e) {
-                    plugin.logError("Could not save player to database when running sync! " + e.getMessage());
+                if (player.isChanged()) {
+                    try {
+                        saveChanged(player);
+                    } catch (Exception e) {
+                        plugin.logError("Could not save player to database when running sync! " + e.getMessage());
+                    }
                 }
             }
             return;
         }
 
+        // Only the players that have changed need to be saved
+        Queue<Players> queue = playerCache.values().stream().filter(Players::isChanged).collect(Collectors.toCollection(LinkedList::new));
+        if (queue.isEmpty()) {
+            return;
+        }
         isSaveTaskRunning = true;
-        Queue<Players> queue = new LinkedList<>(playerCache.values());
         new BukkitRunnable() {
             @Override
             public void run() {
-                for (int i = 0; i < plugin.getSettings().getMaxSavedPlayersPerTick(); i++) {
+                // Save as many players as fit into the time budget, but always at least one
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(plugin.getSettings().getMaxSaveTimePerTick());
+                do {
                     Players player = queue.poll();
                     if (player == null) {
                         isSaveTaskRunning = false;
@@ -111,18 +162,36 @@ public class PlayersManager {
                         return;
                     }
                     try {
-                        handler.saveObjectAsync(player);
+                        saveChanged(player);
                     } catch (Exception e) {
                         plugin.logError("Could not save player to database when running sync! " + e.getMessage());
                     }
-                }
+                } while (System.nanoTime() < deadline);
             }
         }.runTaskTimer(plugin, 0, 1);
     }
 
+    /**
+     * Saves a player and clears its changed state. The state is cleared before the save so that
+     * changes made while the save is in progress are kept, and set again if the save fails.
+     * @param player - player to save
+     */
+    private void saveChanged(Players player) {
+        player.setChanged(false);
+        UUID playerUUID = player.getPlayerUUID();
+        // Keep the player cached until the save has been written, because loads do not see queued saves
+        saving.merge(playerUUID, 1, Integer::sum);
+        handler.saveObjectAsync(player).whenComplete((saved, e) -> {
+            if (!Boolean.TRUE.equals(saved)) {
+                player.setChanged();
+            }
+            saving.computeIfPresent(playerUUID, (u, n) -> n == 1 ? null : n - 1);
+        });
+    }
+
     public void shutdown(){
         saveAll();
-        playerCache.clear();
+        clearCache();
         handler.close();
     }
 
@@ -133,9 +202,7 @@ public class PlayersManager {
      */
     @Nullable
     public Players getPlayer(UUID uuid){
-        if (!playerCache.containsKey(uuid)) {
-            addPlayer(uuid);
-        }
+        addPlayer(uuid);
         return playerCache.get(uuid);
     }
 
@@ -153,6 +220,65 @@ public class PlayersManager {
      * Cache control methods
      */
 
+    private void cache(UUID playerUUID, Players player) {
+        playerCache.put(playerUUID, player);
+        indexName(playerUUID, player.getPlayerName());
+        lastUsed.put(playerUUID, ++useCount);
+    }
+
+    private void uncache(UUID playerUUID) {
+        playerCache.remove(playerUUID);
+        lastUsed.remove(playerUUID);
+    }
+
+    private void clearCache() {
+        playerCache.clear();
+        lastUsed.clear();
+        evictAt = 0;
+    }
+
+    private void indexName(UUID playerUUID, @Nullable String name) {
+        // Players whose name is unknown are named after their UUID
+        if (name != null && !name.equals(playerUUID.toString())) {
+            nameIndex.put(name, playerUUID);
+        }
+    }
+
+    /**
+     * Online players, players that are teleporting and players whose saves have not been written yet
+     * are never removed from the cache
+     * @param playerUUID - the player's UUID
+     * @return true if this player must stay in the cache
+     */
+    private boolean isPinned(UUID playerUUID) {
+        return inTeleport.contains(playerUUID) || saving.containsKey(playerUUID) || Bukkit.getPlayer(playerUUID) != null;
+    }
+
+    /**
+     * Removes the least recently used offline players when there are more than the cache size.
+     * Players with unsaved changes are kept until their save has been written, otherwise loading them
+     * again could read old data.
+     * @param added - the player that was just added, which is never removed
+     */
+    private void evictOfflinePlayers(UUID added) {
+        int max = plugin.getSettings().getPlayerCacheSize();
+        if (max <= 0 || playerCache.size() <= evictAt) {
+            return;
+        }
+        List<UUID> offline = playerCache.keySet().stream().filter(u -> !u.equals(added) && !isPinned(u)).toList();
+        int count = offline.size() + (isPinned(added) ? 0 : 1);
+        if (count > max) {
+            // Remove a few more than needed so that this is not done again for every new player
+            List<UUID> evict = offline.stream().filter(u -> !playerCache.get(u).isChanged())
+                    .sorted(Comparator.comparingLong(u -> lastUsed.getOrDefault(u, 0L)))
+                    .limit(count - (max - max / 10L)).toList();
+            evict.forEach(this::uncache);
+            count -= evict.size();
+        }
+        // Check again when there could be more offline players than the cache size
+        evictAt = playerCache.size() + Math.max(Math.max(1, max / 10), max - count);
+    }
+
     /**
      * Adds a player to the cache. If the UUID does not exist, a new player is made
      * @param playerUUID - the player's UUID
@@ -161,7 +287,9 @@ public class PlayersManager {
         if (playerUUID == null) {
             return;
         }
-        if (!playerCache.containsKey(playerUUID)) {
+        if (playerCache.containsKey(playerUUID)) {
+            lastUsed.put(playerUUID, ++useCount);
+        } else {
             Players player;
             // If the player is in the database, load it, otherwise create a new player
             if (handler.objectExists(playerUUID.toString())) {
@@ -175,7 +303,8 @@ public class PlayersManager {
             } else {
                 player = new Players(plugin, playerUUID);
             }
-            playerCache.put(playerUUID, player);
+            cache(playerUUID, player);
+            evictOfflinePlayers(playerUUID);
         }
     }
 
@@ -191,7 +320,7 @@ public class PlayersManager {
     }
 
     /**
-     * Attempts to return a UUID for a given player's name.
+     * Attempts to return a UUID for a given player's name. The name is not case sensitive.
      * @param name - name of player
      * @return UUID of player or null if unknown
      */
@@ -206,11 +335,29 @@ public class PlayersManager {
                 // Not used
             }
         }
-        // Look in the name cache, then the data base and then give up
-        return playerCache.values().stream()
-                .filter(p -> p.getPlayerName().equalsIgnoreCase(name)).findFirst()
-                .map(p -> UUID.fromString(p.getUniqueId()))
-                .orElseGet(() -> names.objectExists(name) ? names.loadObject(name).getUuid() : null);
+        // Look in the name index, then the data base in case the index is still loading, and then give up
+        UUID uuid = nameIndex.get(name);
+        if (uuid == null && names.objectExists(name)) {
+            Names found = names.loadObject(name);
+            if (found != null && found.getUuid() != null) {
+                uuid = found.getUuid();
+                nameIndex.put(name, uuid);
+            }
+        }
+        return uuid;
+    }
+
+    /**
+     * Lists the names of known players, online or offline, that start with some letters.
+     * Intended for tab completion.
+     * @param start - first few letters of the name, any case
+     * @param limit - maximum number of names
+     * @return names in alphabetical order, ignoring case
+     * @since 2.0.0
+     */
+    @NonNull
+    public List<String> getNames(@NonNull String start, int limit) {
+        return nameIndex.startingWith(start, limit);
     }
 
     /**
@@ -219,7 +366,12 @@ public class PlayersManager {
      */
     public void setPlayerName(@NonNull User user) {
         addPlayer(user.getUniqueId());
-        playerCache.get(user.getUniqueId()).setPlayerName(user.getName());
+        Players player = playerCache.get(user.getUniqueId());
+        if (player.getPlayerName() != null) {
+            nameIndex.remove(player.getPlayerName(), user.getUniqueId());
+        }
+        player.setPlayerName(user.getName());
+        indexName(user.getUniqueId(), user.getName());
         Names newName = new Names(user.getName(), user.getUniqueId());
         // Add to names database
         names.saveObjectAsync(newName);
@@ -366,7 +518,7 @@ public class PlayersManager {
      */
     public void save(UUID playerUUID) {
         if (playerCache.containsKey(playerUUID)) {
-            handler.saveObjectAsync(playerCache.get(playerUUID));
+            saveChanged(playerCache.get(playerUUID));
         }
     }
 
@@ -427,9 +579,16 @@ public class PlayersManager {
      */
     public void removePlayer(Player player) {
         // Clear any players with the same name
-        playerCache.values().removeIf(p -> player.getName().equalsIgnoreCase(p.getPlayerName()));
+        Iterator<Map.Entry<UUID, Players>> it = playerCache.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Players> en = it.next();
+            if (player.getName().equalsIgnoreCase(en.getValue().getPlayerName())) {
+                it.remove();
+                lastUsed.remove(en.getKey());
+            }
+        }
         // Remove if the player's UUID is the same
-        playerCache.values().removeIf(p -> player.getUniqueId().toString().equals(p.getUniqueId()));
+        uncache(player.getUniqueId());
     }
 
     /**
@@ -0,0 +1,80 @@
+package world.bentobox.bentobox.managers.island;
+
+import java.util.Optional;
+
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.eclipse.jdt.annotation.NonNull;
+
+import world.bentobox.bentobox.database.objects.Island;
+import world.bentobox.bentobox.managers.IslandsManager;
+import world.bentobox.bentobox.util.LongHashMap;
+
+/**
+ * Finds the protected island of many blocks in one world, e.g. the blocks of an explosion.
+ * Each chunk is looked up once. If the chunk is inside one island's protected area, or outside
+ * all of them, every block in it gets that answer. Only blocks in chunks on the edge of a protected
+ * area are checked one by one.
+ * <p>
+ * Islands can change, so a map should only be used for one event. Not thread safe.
+ *
+ * @since 2.0.0
+ */
+public class ChunkIslandMap {
+
+    private final IslandsManager islands;
+    private final World world;
+    private final LongHashMap<ChunkStatus> chunks = new LongHashMap<>();
+
+    /**
+     * @param islands - islands manager
+     * @param world - world of the blocks
+     */
+    public ChunkIslandMap(@NonNull IslandsManager islands, @NonNull World world) {
+        this.islands = islands;
+        this.world = world;
+    }
+
+    /**
+     * Gets the island whose protected area this block is in
+     * @param block - block in this map's world
+     * @return the island, or empty if the block is not protected
+     * @see IslandsManager#getProtectedIslandAt(org.bukkit.Location)
+     */
+    @NonNull
+    public Optional<Island> getProtectedIslandAt(@NonNull Block block) {
+        ChunkStatus status = getChunkStatus(block.getX() >> 4, block.getZ() >> 4);
+        return status != null && status.isDecided() ? status.island() : islands.getProtectedIslandAt(block.getLocation());
+    }
+
+    /**
+     * Checks if a block is in the protected area of an island
+     * @param island - island
+     * @param block - block in this map's world
+     * @return true if the block is protected by this island
+     * @see Island#onIsland(org.bukkit.Location)
+     */
+    public boolean onIsland(@NonNull Island island, @NonNull Block block) {
+        ChunkStatus status = getChunkStatus(block.getX() >> 4, block.getZ() >> 4);
+        return status != null && status.isDecided() ? status.island().map(island::equals).orElse(false)
+                : island.onIsland(block.getLocation());
+    }
+
+    /**
+     * Gets the status of a chunk, looking it up if this is the first time it is asked for
+     * @param chunkX - chunk x
+     * @param chunkZ - chunk z
+     * @return chunk status, or null if it is not known
+     */
+    private ChunkStatus getChunkStatus(int chunkX, int chunkZ) {
+        long key = LongHashMap.key(chunkX, chunkZ);
+        ChunkStatus status = chunks.get(key);
+        if (status == null) {
+            status = islands.getChunkStatus(world, chunkX, chunkZ);
+            if (status != null) {
+                chunks.put(key, status);
+            }
+        }
+        return status;
+    }
+}
@@ -0,0 +1,51 @@
+package world.bentobox.bentobox.managers.island;
+
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNull;
+
+import world.bentobox.bentobox.database.objects.Island;
+
+/**
+ * How a chunk lies in relation to the protected areas of islands
+ *
+ * @param type - whether the chunk is inside, outside or on the edge of a protected area
+ * @param island - the island whose protected area covers the whole chunk, if the type is {@link Type#INSIDE}
+ * @since 2.0.0
+ */
+public record ChunkStatus(@NonNull Type type, @NonNull Optional<Island> island) {
+
+    public enum Type {
+        /**
+         * Every block of the chunk is in the protected area of one island
+         */
+        INSIDE,
+        /**
+         * No block of the chunk is in the protected area of any island
+         */
+        OUTSIDE,
+        /**
+         * Some blocks are protected, or they belong to more than one island, so each block must be checked
+         */
+        BOUNDARY
+    }
+
+    public static final ChunkStatus OUTSIDE = new ChunkStatus(Type.OUTSIDE, Optional.empty());
+    public static final ChunkStatus BOUNDARY = new ChunkStatus(Type.BOUNDARY, Optional.empty());
+
+    /**
+     * @param island - island whose protected area covers the whole chunk
+     * @return status
+     */
+    public static ChunkStatus inside(@NonNull Island island) {
+        return new ChunkStatus(Type.INSIDE, Optional.of(island));
+    }
+
+    /**
+     * @return true if every block in the chunk has the same protected island, or none,
+     * so the chunk does not need to be checked block by block
+     */
+    public boolean isDecided() {
+        return type != Type.BOUNDARY;
+    }
+}
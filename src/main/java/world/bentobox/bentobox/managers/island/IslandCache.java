@@ -2,11 +2,11 @@ package world.bentobox.bentobox.managers.island;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.bukkit.Location;
@@ -21,6 +21,9 @@ import world.bentobox.bentobox.util.Util;
 
 /**
  * This class stores the islands in memory
+ * <p>
+ * The cache is thread safe. Reads do not lock and can be made from any thread.
+ * Changes are synchronized so that all the indexes are updated together.
  * @author tastybento
  */
 public class IslandCache {
@@ -36,15 +39,29 @@ public class IslandCache {
      */
     @NonNull
     private final Map<@NonNull UUID, Set<Island>> islandsByUUID;
+    /**
+     * The reverse of islandsByUUID. Every player in islandsByUUID, keyed by island uniqueId.
+     * Used to remove an island without having to scan every player.
+     */
+    @NonNull
+    private final Map<@NonNull String, Set<UUID>> uuidsByIslandId;
+
+    /**
+     * Islands in each game mode, keyed by the overworld
+     */
+    @NonNull
+    private final Map<@NonNull World, @NonNull Set<Island>> islandsByWorld;
 
     @NonNull
     private final Map<@NonNull World, @NonNull IslandGrid> grids;
 
     public IslandCache() {
-        islandsByLocation = new HashMap<>();
-        islandsById = new HashMap<>();
-        islandsByUUID = new HashMap<>();
-        grids = new HashMap<>();
+        islandsByLocation = new ConcurrentHashMap<>();
+        islandsById = new ConcurrentHashMap<>();
+        islandsByUUID = new ConcurrentHashMap<>();
+        uuidsByIslandId = new ConcurrentHashMap<>();
+        islandsByWorld = new ConcurrentHashMap<>();
+        grids = new ConcurrentHashMap<>();
     }
 
     /**
@@ -52,7 +69,7 @@ public class IslandCache {
      * @param island island to add, not null
      * @return true if successfully added, false if not
      */
-    public boolean addIsland(@NonNull Island island) {
+    public synchronized boolean addIsland(@NonNull Island island) {
         if (island.getCenter() == null || island.getWorld() == null) {
             /* Special handling - return true.
                The island will not be quarantined, but just not loaded
@@ -64,9 +81,10 @@ public class IslandCache {
         if (addToGrid(island)) {
             islandsByLocation.put(island.getCenter(), island);
             islandsById.put(island.getUniqueId(), island);
+            addToWorld(island);
             // Only add islands to this map if they are owned
             if (island.isOwned()) {
-                islandsByUUID.computeIfAbsent(island.getOwner(), k -> new HashSet<>()).add(island);
+                addPlayer(island.getOwner(), island);
                 island.getMemberSet().forEach(member -> addPlayer(member, island));
             }
             return true;
@@ -79,8 +97,20 @@ public class IslandCache {
      * @param uuid player's uuid
      * @param island island to associate with this uuid. Only one island can be associated per world.
      */
-    public void addPlayer(@NonNull UUID uuid, @NonNull Island island) {
-        islandsByUUID.computeIfAbsent(uuid, k -> new HashSet<>()).add(island);
+    public synchronized void addPlayer(@NonNull UUID uuid, @NonNull Island island) {
+        islandsByUUID.computeIfAbsent(uuid, k -> ConcurrentHashMap.newKeySet()).add(island);
+        uuidsByIslandId.computeIfAbsent(island.getUniqueId(), k -> ConcurrentHashMap.newKeySet()).add(uuid);
+    }
+
+    private void addToWorld(@NonNull Island island) {
+        islandsByWorld.computeIfAbsent(island.getWorld(), k -> ConcurrentHashMap.newKeySet()).add(island);
+    }
+
+    private void removeFromWorld(@NonNull Island island) {
+        Set<Island> set = islandsByWorld.get(island.getWorld());
+        if (set != null) {
+            set.remove(island);
+        }
     }
 
     /**
@@ -89,13 +119,16 @@ public class IslandCache {
      * @return true if successfully added, false if not
      */
     private boolean addToGrid(@NonNull Island newIsland) {
-        return grids.computeIfAbsent(newIsland.getWorld(), k -> new IslandGrid()).addToGrid(newIsland);
+        return grids.computeIfAbsent(newIsland.getWorld(), IslandGrid::new).addToGrid(newIsland);
     }
 
-    public void clear() {
+    public synchronized void clear() {
         islandsByLocation.clear();
         islandsById.clear();
         islandsByUUID.clear();
+        uuidsByIslandId.clear();
+        islandsByWorld.clear();
+        grids.clear();
     }
 
     /**
@@ -103,33 +136,69 @@ public class IslandCache {
      * @param island island to delete
      * @return true if successful, false if not
      */
-    public boolean deleteIslandFromCache(@NonNull Island island) {
+    public synchronized boolean deleteIslandFromCache(@NonNull Island island) {
         if (!islandsByLocation.remove(island.getCenter(), island)) {
             return false;
         }
         islandsById.remove(island.getUniqueId());
-        removeFromIslandsByUUID(island);
+        removeFromWorld(island);
+        removeFromIslandsByUUID(island.getUniqueId());
         // Remove from grid
-        grids.putIfAbsent(island.getWorld(), new IslandGrid());
-        return grids.get(island.getWorld()).removeFromGrid(island);
+        return grids.computeIfAbsent(island.getWorld(), IslandGrid::new).removeFromGrid(island);
     }
 
-    private void removeFromIslandsByUUID(Island island) {
-        for (Set<Island> set : islandsByUUID.values()) {
-            set.removeIf(island::equals);
+    /**
+     * Removes the island from the sets of all the players associated with it
+     * @param uniqueId - island unique ID
+     */
+    private void removeFromIslandsByUUID(@NonNull String uniqueId) {
+        Set<UUID> uuids = uuidsByIslandId.remove(uniqueId);
+        if (uuids == null) {
+            return;
+        }
+        for (UUID uuid : uuids) {
+            Set<Island> set = islandsByUUID.get(uuid);
+            if (set != null) {
+                set.removeIf(i -> i.getUniqueId().equals(uniqueId));
+                if (set.isEmpty()) {
+                    islandsByUUID.remove(uuid);
+                }
+            }
         }
     }
 
+    /**
+     * Removes the island from the location map
+     * @param island - island
+     * @return true if it was removed
+     */
+    private boolean removeFromLocations(@NonNull Island island) {
+        if (island.getCenter() != null && islandsByLocation.remove(island.getCenter(), island)) {
+            return true;
+        }
+        // The center has moved since the island was cached
+        return islandsByLocation.values().removeIf(island::equals);
+    }
+
     /**
      * Delete island from the cache by ID. Does not remove blocks.
      * @param uniqueId - island unique ID
      */
-    public void deleteIslandFromCache(@NonNull String uniqueId) {
-        islandsById.remove(uniqueId);
-        islandsByLocation.values().removeIf(i -> i.getUniqueId().equals(uniqueId));
-        for (Set<Island> set : islandsByUUID.values()) {
-            set.removeIf(i -> i.getUniqueId().equals(uniqueId));
+    public synchronized void deleteIslandFromCache(@NonNull String uniqueId) {
+        Island island = islandsById.remove(uniqueId);
+        if (island != null) {
+            removeFromLocations(island);
+            removeFromWorld(island);
+            // Only remove the grid entry if it is this island and not a duplicate with the same location
+            IslandGrid grid = grids.get(island.getWorld());
+            if (grid != null) {
+                Island gridIsland = grid.getIslandAt(island.getMinX(), island.getMinZ());
+                if (gridIsland != null && uniqueId.equals(gridIsland.getUniqueId())) {
+                    grid.removeFromGrid(island);
+                }
+            }
         }
+        removeFromIslandsByUUID(uniqueId);
     }
 
     /**
@@ -177,7 +246,7 @@ public class IslandCache {
         if (w == null) {
             return new HashSet<>();
         }
-        return islandsByUUID.computeIfAbsent(uuid, k -> new HashSet<>()).stream().filter(i -> world.equals(i.getWorld())).collect(Collectors.toSet());
+        return islandsByUUID.getOrDefault(uuid, Collections.emptySet()).stream().filter(i -> world.equals(i.getWorld())).collect(Collectors.toSet());
     }
 
     /**
@@ -207,6 +276,22 @@ public class IslandCache {
         return grids.get(w).getIslandAt(location.getBlockX(), location.getBlockZ());
     }
 
+    /**
+     * Works out how a chunk lies in relation to the protected areas of the islands in a world.
+     * Does not check if the islands have protected areas in this world.
+     * @param world - world
+     * @param chunkX - chunk x
+     * @param chunkZ - chunk z
+     * @return chunk status
+     * @since 2.0.0
+     */
+    @NonNull
+    public ChunkStatus getChunkStatus(@NonNull World world, int chunkX, int chunkZ) {
+        World w = Util.getWorld(world);
+        IslandGrid grid = w == null ? null : grids.get(w);
+        return grid == null ? ChunkStatus.OUTSIDE : grid.getChunkStatus(chunkX, chunkZ);
+    }
+
     /**
      * Returns an <strong>unmodifiable collection</strong> of all the islands (even those who may be unowned).
      * @return unmodifiable collection containing every island.
@@ -218,6 +303,7 @@ public class IslandCache {
 
     /**
      * Returns an <strong>unmodifiable collection</strong> of all the islands (even those who may be unowned) in the specified world.
+     * The collection is a live view, so it will reflect islands being added or removed.
      * @param world World of the gamemode.
      * @return unmodifiable collection containing all the islands in the specified world.
      * @since 1.7.0
@@ -228,9 +314,7 @@ public class IslandCache {
         if (overworld == null) {
             return Collections.emptyList();
         }
-        return islandsByLocation.entrySet().stream()
-                .filter(entry -> overworld.equals(Util.getWorld(entry.getKey().getWorld()))) // shouldn't make NPEs
-                .map(Map.Entry::getValue).toList();
+        return Collections.unmodifiableCollection(islandsByWorld.getOrDefault(overworld, Collections.emptySet()));
     }
 
     /**
@@ -281,7 +365,7 @@ public class IslandCache {
      * @param uuid player's UUID
      * @return list of islands player had or empty if none
      */
-    public Set<Island> removePlayer(@NonNull World world, @NonNull UUID uuid) {
+    public synchronized Set<Island> removePlayer(@NonNull World world, @NonNull UUID uuid) {
         World w = Util.getWorld(world);
         Set<Island> islandSet = islandsByUUID.get(uuid);
         if (w == null || islandSet == null) {
@@ -291,10 +375,15 @@ public class IslandCache {
         islandSet.forEach(island -> {
             if (uuid.equals(island.getOwner())) {
                 island.getMembers().clear();
+                island.setChanged();
                 island.setOwner(null);
             } else {
                 island.removeMember(uuid);
             }
+            Set<UUID> uuids = uuidsByIslandId.get(island.getUniqueId());
+            if (uuids != null) {
+                uuids.remove(uuid);
+            }
         });
 
         islandsByUUID.remove(uuid);
@@ -316,7 +405,11 @@ public class IslandCache {
      * @return the number of islands
      */
     public long size(World world) {
-        return this.islandsByLocation.keySet().stream().map(Location::getWorld).filter(world::equals).count();
+        World overworld = Util.getWorld(world);
+        if (overworld == null) {
+            return 0;
+        }
+        return islandsByWorld.getOrDefault(overworld, Collections.emptySet()).size();
     }
 
     /**
@@ -325,13 +418,14 @@ public class IslandCache {
      * @param island island
      * @param newOwnerUUID new owner
      */
-    public void setOwner(@NonNull Island island, @Nullable UUID newOwnerUUID) {
+    public synchronized void setOwner(@NonNull Island island, @Nullable UUID newOwnerUUID) {
         island.setOwner(newOwnerUUID);
         if (newOwnerUUID != null) {
-            islandsByUUID.computeIfAbsent(newOwnerUUID, k -> new HashSet<>()).add(island);
+            addPlayer(newOwnerUUID, island);
         }
         islandsByLocation.put(island.getCenter(), island);
         islandsById.put(island.getUniqueId(), island);
+        addToWorld(island);
     }
 
     /**
@@ -350,10 +444,13 @@ public class IslandCache {
      * @param island - island to remove
      * @since 1.3.0
      */
-    public void removeIsland(@NonNull Island island) {
-        islandsByLocation.values().removeIf(island::equals);
-        islandsById.values().removeIf(island::equals);
-        islandsByUUID.values().removeIf(island::equals);
+    public synchronized void removeIsland(@NonNull Island island) {
+        islandsById.remove(island.getUniqueId(), island);
+        if (island.getCenter() != null) {
+            islandsByLocation.remove(island.getCenter(), island);
+        }
+        removeFromIslandsByUUID(island.getUniqueId());
+        removeFromWorld(island);
         World w = Util.getWorld(island.getWorld());
         if (w == null) {
             return;
@@ -374,7 +471,7 @@ public class IslandCache {
         if (w == null) {
             return;
         }
-        islandsById.values().stream().filter(i -> i.getWorld().equals(w)).forEach(Island::setFlagsDefaults);
+        islandsByWorld.getOrDefault(w, Collections.emptySet()).forEach(Island::setFlagsDefaults);
     }
 
     /**
@@ -389,7 +486,7 @@ public class IslandCache {
             return;
         }
         int setting = BentoBox.getInstance().getIWM().getDefaultIslandFlags(w).getOrDefault(flag, flag.getDefaultRank());
-        islandsById.values().stream().filter(i -> i.getWorld().equals(w)).forEach(i -> i.setFlag(flag, setting));
+        islandsByWorld.getOrDefault(w, Collections.emptySet()).forEach(i -> i.setFlag(flag, setting));
     }
 
     /**
@@ -2,18 +2,63 @@ package world.bentobox.bentobox.managers.island;
 
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.locks.StampedLock;
+
+import org.bukkit.World;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.database.objects.Island;
+import world.bentobox.bentobox.util.LongHashMap;
 
 /**
  * Handles the island location grid for each world
+ * <p>
+ * Islands that sit on the world's island grid (island distance x 2 plus the x/z offsets) are found
+ * by working out which grid cell a coordinate is in and doing a single hash lookup.
+ * Islands that are off the grid, e.g., because the island distance was changed after they were made,
+ * are also kept in a sorted map and are found the slower way.
+ * <p>
+ * The grid is thread safe. Cell lookups use an optimistic read so they do not block.
  * @author tastybento
  *
  */
 class IslandGrid {
+    /**
+     * Every island keyed by its minimum x,z corner
+     */
+    private final LongHashMap<Island> islandsByCorner = new LongHashMap<>();
+    /**
+     * Islands that are not on the grid
+     */
     private final TreeMap<Integer, TreeMap<Integer, Island>> grid = new TreeMap<>();
     private final BentoBox plugin = BentoBox.getInstance();
+    private final StampedLock lock = new StampedLock();
+    /**
+     * Width of a grid cell. Zero if the grid is unknown, in which case every island is off-grid.
+     */
+    private final int cellSize;
+    private final int originX;
+    private final int originZ;
+    /**
+     * Width of the narrowest island that has been added. It is not made larger when islands are removed.
+     */
+    private volatile int minIslandWidth = Integer.MAX_VALUE;
+
+    /**
+     * @param world - the world this grid is for
+     */
+    public IslandGrid(World world) {
+        int distance = plugin.getIWM().getIslandDistance(world);
+        this.cellSize = Math.max(0, distance * 2);
+        if (cellSize > 0) {
+            // The min corner of the island at the start location
+            originX = Math.floorMod(plugin.getIWM().getIslandXOffset(world) + plugin.getIWM().getIslandStartX(world) - distance, cellSize);
+            originZ = Math.floorMod(plugin.getIWM().getIslandZOffset(world) + plugin.getIWM().getIslandStartZ(world) - distance, cellSize);
+        } else {
+            originX = 0;
+            originZ = 0;
+        }
+    }
 
     /**
      * Adds island to grid
@@ -21,55 +66,82 @@ class IslandGrid {
      * @return true if successfully added, false if island already exists, or there is an overlap
      */
     public boolean addToGrid(Island island) {
-        if (grid.containsKey(island.getMinX())) {
-            TreeMap<Integer, Island> zEntry = grid.get(island.getMinX());
-            if (zEntry.containsKey(island.getMinZ())) {
-                // There is an overlap or duplicate
-                plugin.logError("Cannot load island. Overlapping: " + island.getUniqueId());
-                plugin.logError("Location: " + island.getCenter());
-                // Get the previously loaded island
-                Island firstLoaded = zEntry.get(island.getMinZ());
-                if (firstLoaded.getOwner() == null && island.getOwner() != null) {
-                    // This looks fishy. We prefer to load islands that have an owner. Swap the two
-                    plugin.logError("Duplicate island has an owner, so using that one. " + island.getOwner());
-                    firstLoaded = new Island(island);
-                    zEntry.put(island.getMinZ(), firstLoaded);
-                } else if (firstLoaded.getOwner() != null && island.getOwner() != null) {
-                    // Check if the owners are the same - this is a true duplicate
-                    if (firstLoaded.getOwner().equals(island.getOwner())) {
-                        // Find out which one is the original
-                        if (firstLoaded.getCreatedDate() > island.getCreatedDate()) {
-                            plugin.logError("Same owner duplicate. Swapping based on creation date.");
-                            // FirstLoaded is the newer
-                            firstLoaded = new Island(island);
-                            zEntry.put(island.getMinZ(), firstLoaded);
-                        } else {
-                            plugin.logError("Same owner duplicate.");
-                        }
+        long stamp = lock.writeLock();
+        try {
+            return add(island);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private boolean add(Island island) {
+        long key = LongHashMap.key(island.getMinX(), island.getMinZ());
+        Island firstLoaded = islandsByCorner.get(key);
+        if (firstLoaded != null) {
+            // There is an overlap or duplicate
+            plugin.logError("Cannot load island. Overlapping: " + island.getUniqueId());
+            plugin.logError("Location: " + island.getCenter());
+            // Get the previously loaded island
+            if (firstLoaded.getOwner() == null && island.getOwner() != null) {
+                // This looks fishy. We prefer to load islands that have an owner. Swap the two
+                plugin.logError("Duplicate island has an owner, so using that one. " + island.getOwner());
+                replace(firstLoaded, new Island(island));
+            } else if (firstLoaded.getOwner() != null && island.getOwner() != null) {
+                // Check if the owners are the same - this is a true duplicate
+                if (firstLoaded.getOwner().equals(island.getOwner())) {
+                    // Find out which one is the original
+                    if (firstLoaded.getCreatedDate() > island.getCreatedDate()) {
+                        plugin.logError("Same owner duplicate. Swapping based on creation date.");
+                        // FirstLoaded is the newer
+                        replace(firstLoaded, new Island(island));
                     } else {
-                        plugin.logError("Duplicate but different owner. Keeping first loaded.");
-                        plugin.logError("This is serious!");
-                        plugin.logError("1st loaded ID: " + firstLoaded.getUniqueId());
-                        plugin.logError("1st loaded owner: " + firstLoaded.getOwner());
-                        plugin.logError("2nd loaded ID: " + island.getUniqueId());
-                        plugin.logError("2nd loaded owner: " + island.getOwner());
+                        plugin.logError("Same owner duplicate.");
                     }
+                } else {
+                    plugin.logError("Duplicate but different owner. Keeping first loaded.");
+                    plugin.logError("This is serious!");
+                    plugin.logError("1st loaded ID: " + firstLoaded.getUniqueId());
+                    plugin.logError("1st loaded owner: " + firstLoaded.getOwner());
+                    plugin.logError("2nd loaded ID: " + island.getUniqueId());
+                    plugin.logError("2nd loaded owner: " + island.getOwner());
                 }
-                return false;
-            } else {
-                // Add island
-                zEntry.put(island.getMinZ(), island);
-                grid.put(island.getMinX(), zEntry);
             }
-        } else {
-            // Add island
-            TreeMap<Integer, Island> zEntry = new TreeMap<>();
-            zEntry.put(island.getMinZ(), island);
-            grid.put(island.getMinX(), zEntry);
+            return false;
         }
+        // Add island
+        put(island);
         return true;
     }
 
+    /**
+     * Swaps an island in the grid for another with the same min corner
+     * @param oldIsland - island in the grid
+     * @param newIsland - island to put in its place
+     */
+    private void replace(Island oldIsland, Island newIsland) {
+        removeFromTree(oldIsland.getMinX(), oldIsland.getMinZ());
+        put(newIsland);
+    }
+
+    private void put(Island island) {
+        minIslandWidth = Math.min(minIslandWidth, island.getRange() * 2);
+        islandsByCorner.put(LongHashMap.key(island.getMinX(), island.getMinZ()), island);
+        if (!isOnGrid(island)) {
+            grid.computeIfAbsent(island.getMinX(), k -> new TreeMap<>()).put(island.getMinZ(), island);
+        }
+    }
+
+    /**
+     * Checks if this island fills exactly one grid cell
+     * @param island - island
+     * @return true if the island can be found by the cell lookup
+     */
+    private boolean isOnGrid(Island island) {
+        return cellSize > 0 && island.getRange() * 2 == cellSize
+                && Math.floorMod(island.getMinX() - originX, cellSize) == 0
+                && Math.floorMod(island.getMinZ() - originZ, cellSize) == 0;
+    }
+
     /**
      * Remove island from grid
      * @param island - the island to remove
@@ -80,19 +152,30 @@ class IslandGrid {
         if (island != null) {
             int x = island.getMinX();
             int z = island.getMinZ();
-            if (grid.containsKey(x)) {
-                TreeMap<Integer, Island> zEntry = grid.get(x);
-                if (zEntry.containsKey(z)) {
-                    // Island exists - delete it
-                    zEntry.remove(z);
-                    grid.put(x, zEntry);
+            long stamp = lock.writeLock();
+            try {
+                if (islandsByCorner.remove(LongHashMap.key(x, z)) != null) {
+                    // Island existed - delete it
+                    removeFromTree(x, z);
                     return true;
                 }
+            } finally {
+                lock.unlockWrite(stamp);
             }
         }
         return false;
     }
 
+    private void removeFromTree(int x, int z) {
+        TreeMap<Integer, Island> zEntry = grid.get(x);
+        if (zEntry != null) {
+            zEntry.remove(z);
+            if (zEntry.isEmpty()) {
+                grid.remove(x);
+            }
+        }
+    }
+
     /**
      * Returns the island at the x,z location or null if there is none.
      * This includes the full island space, not just the protected area.
@@ -102,6 +185,84 @@ class IslandGrid {
      * @return Island or null
      */
     public Island getIslandAt(int x, int z) {
+        long cellKey = 0;
+        if (cellSize > 0) {
+            // Work out the min corner of the grid cell this coordinate is in
+            long minX = originX + Math.floorDiv((long) x - originX, cellSize) * cellSize;
+            long minZ = originZ + Math.floorDiv((long) z - originZ, cellSize) * cellSize;
+            cellKey = LongHashMap.key((int) minX, (int) minZ);
+            long stamp = lock.tryOptimisticRead();
+            Island island = islandsByCorner.get(cellKey);
+            boolean offGrid = !grid.isEmpty();
+            if (lock.validate(stamp)) {
+                if (island != null && island.inIslandSpace(x, z)) {
+                    return island;
+                }
+                if (!offGrid) {
+                    return null;
+                }
+            }
+        }
+        long stamp = lock.readLock();
+        try {
+            if (cellSize > 0) {
+                Island island = islandsByCorner.get(cellKey);
+                if (island != null && island.inIslandSpace(x, z)) {
+                    return island;
+                }
+            }
+            return getOffGridIslandAt(x, z);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Works out how a chunk lies in relation to the protected areas of the islands.
+     * Does not check if the islands have protected areas in the chunk's world.
+     * @param chunkX - chunk x
+     * @param chunkZ - chunk z
+     * @return chunk status
+     */
+    public ChunkStatus getChunkStatus(int chunkX, int chunkZ) {
+        if (minIslandWidth < 16) {
+            // An island could be inside the chunk without touching its corners
+            return ChunkStatus.BOUNDARY;
+        }
+        int minX = chunkX << 4;
+        int minZ = chunkZ << 4;
+        int maxX = minX + 15;
+        int maxZ = minZ + 15;
+        // Islands are at least as wide as a chunk, so any island that overlaps the chunk is at one of its corners
+        Island[] corners = { getIslandAt(minX, minZ), getIslandAt(maxX, minZ), getIslandAt(minX, maxZ), getIslandAt(maxX, maxZ) };
+        Island inside = null;
+        boolean protectedBlocks = false;
+        for (Island island : corners) {
+            if (island == null || island == inside) {
+                continue;
+            }
+            int minPX = island.getMinProtectedX();
+            int minPZ = island.getMinProtectedZ();
+            int maxPX = minPX + island.getRawProtectionRange() * 2;
+            int maxPZ = minPZ + island.getRawProtectionRange() * 2;
+            if (minPX > maxX || maxPX <= minX || minPZ > maxZ || maxPZ <= minZ) {
+                // Protected area does not reach into the chunk
+                continue;
+            }
+            if (protectedBlocks || minPX > minX || maxPX <= maxX || minPZ > minZ || maxPZ <= maxZ) {
+                return ChunkStatus.BOUNDARY;
+            }
+            protectedBlocks = true;
+            inside = island;
+        }
+        return inside == null ? ChunkStatus.OUTSIDE : ChunkStatus.inside(inside);
+    }
+
+    private Island getOffGridIslandAt(int x, int z) {
+        if (grid.isEmpty()) {
+            return null;
+        }
+        // Fall back to a search of the off-grid islands
         Entry<Integer, TreeMap<Integer, Island>> en = grid.floorEntry(x);
         if (en != null) {
             Entry<Integer, Island> ent = en.getValue().floorEntry(z);
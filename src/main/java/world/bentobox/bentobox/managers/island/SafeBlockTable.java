@@ -0,0 +1,102 @@
+package world.bentobox.bentobox.managers.island;
+
+import org.bukkit.Material;
+import org.bukkit.Tag;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Classifies every material once for {@link world.bentobox.bentobox.managers.IslandsManager#checkIfSafe},
+ * so that checking a spot is a few array loads instead of many tag lookups.
+ * The table must be rebuilt if tags change, e.g. after a reload.
+ *
+ * @since 2.0.0
+ */
+public final class SafeBlockTable {
+
+    /**
+     * A player can stand on this block
+     */
+    private static final byte SAFE_GROUND = 1;
+    /**
+     * A player cannot stand in this block
+     */
+    private static final byte BLOCKS_SPACE = 2;
+    private static final byte FIRE = 4;
+    private static final byte WATER = 8;
+
+    private final byte[] table;
+
+    /**
+     * Builds the table from the current material tags
+     */
+    @SuppressWarnings("deprecation")
+    public SafeBlockTable() {
+        Material[] materials = Material.values();
+        table = new byte[materials.length];
+        for (Material m : materials) {
+            if (m.isLegacy()) {
+                // Never used by the server. Looking up their tags would start legacy material support.
+                table[m.ordinal()] = BLOCKS_SPACE;
+                continue;
+            }
+            boolean sign = Tag.SIGNS.isTagged(m);
+            boolean fire = Tag.FIRE.isTagged(m);
+            byte flags = 0;
+            if (m.isSolid() && !sign) {
+                flags |= BLOCKS_SPACE;
+            }
+            if (m == Material.LAVA || m == Material.END_PORTAL || m == Material.END_GATEWAY) {
+                flags |= BLOCKS_SPACE;
+            }
+            if (fire) {
+                flags |= FIRE;
+            }
+            if (m == Material.WATER) {
+                flags |= WATER;
+            }
+            if (m.isSolid() && !sign && !fire && isSafeGround(m)) {
+                flags |= SAFE_GROUND;
+            }
+            table[m.ordinal()] = flags;
+        }
+    }
+
+    private static boolean isSafeGround(Material m) {
+        if (Tag.TRAPDOORS.isTagged(m)
+                || Tag.BANNERS.isTagged(m)
+                || Tag.PRESSURE_PLATES.isTagged(m)
+                || Tag.FENCE_GATES.isTagged(m)
+                || Tag.DOORS.isTagged(m)
+                || Tag.FENCES.isTagged(m)
+                || Tag.BUTTONS.isTagged(m)
+                || Tag.ITEMS_BOATS.isTagged(m)
+                || Tag.ITEMS_CHEST_BOATS.isTagged(m)
+                || Tag.CAMPFIRES.isTagged(m)) {
+            return false;
+        }
+        // Known unsafe blocks
+        return switch (m) {
+        case LAVA, ANVIL, BARRIER, CACTUS, END_PORTAL, END_GATEWAY, END_ROD, FIRE, FLOWER_POT, LADDER, LEVER, TALL_GRASS,
+        PISTON_HEAD, MOVING_PISTON, TORCH, WALL_TORCH, TRIPWIRE, WATER, COBWEB, NETHER_PORTAL, MAGMA_BLOCK -> false;
+        default -> true;
+        };
+    }
+
+    /**
+     * Checks if a player can stand on ground with space1 and space2 above it.
+     * Standing in water is allowed, but being submerged is not. Worlds where water is not safe must
+     * also check that space1 is not water.
+     * @param ground - material of the ground block
+     * @param space1 - material of the block above the ground
+     * @param space2 - material of the block two above the ground
+     * @return true if the spot is safe
+     */
+    public boolean isSafe(@NonNull Material ground, @NonNull Material space1, @NonNull Material space2) {
+        byte s1 = table[space1.ordinal()];
+        byte s2 = table[space2.ordinal()];
+        return (table[ground.ordinal()] & SAFE_GROUND) != 0
+                && ((s1 | s2) & BLOCKS_SPACE) == 0
+                && (s1 & FIRE) == 0
+                && (s1 & s2 & WATER) == 0;
+    }
+}
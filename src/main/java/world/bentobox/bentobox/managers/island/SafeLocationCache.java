@@ -0,0 +1,124 @@
+package world.bentobox.bentobox.managers.island;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.eclipse.jdt.annotation.NonNull;
+
+/**
+ * Remembers locations that were recently found to be safe to teleport to, so that going to the same
+ * home, spawn or destination again does not need another safety search.
+ * <p>
+ * A location depends on the block below it, the block at it and the block above it. Changing any of those
+ * must call {@link #blockChanged(Block)}. Not every block change fires an event, so entries also expire
+ * after {@link #LIFETIME} nanoseconds.
+ *
+ * @since 2.0.0
+ */
+public class SafeLocationCache {
+
+    /**
+     * How long a location is remembered, in nanoseconds
+     */
+    static final long LIFETIME = TimeUnit.MINUTES.toNanos(1);
+    /**
+     * Number of locations remembered before old ones are removed
+     */
+    static final int MAX_SIZE = 1000;
+
+    private record Key(UUID world, int x, int y, int z) {}
+
+    private final Map<Key, Long> safe = new ConcurrentHashMap<>();
+
+    /**
+     * Remembers that a location is safe
+     * @param location - location that was checked, with a world
+     */
+    public void add(@NonNull Location location) {
+        Key key = key(location);
+        if (key == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (safe.size() >= MAX_SIZE) {
+            safe.values().removeIf(expiry -> expiry - now <= 0);
+            if (safe.size() >= MAX_SIZE) {
+                safe.clear();
+            }
+        }
+        safe.put(key, now + LIFETIME);
+    }
+
+    /**
+     * Checks if a location is known to be safe
+     * @param location - location
+     * @return true if the location was found to be safe recently and its blocks have not changed since
+     */
+    public boolean isSafe(@NonNull Location location) {
+        Key key = key(location);
+        if (key == null) {
+            return false;
+        }
+        Long expiry = safe.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - System.nanoTime() <= 0) {
+            safe.remove(key, expiry);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Forgets a location
+     * @param location - location
+     */
+    public void remove(@NonNull Location location) {
+        Key key = key(location);
+        if (key != null) {
+            safe.remove(key);
+        }
+    }
+
+    /**
+     * Forgets every location that depends on this block, i.e. the location at it, above it and below it
+     * @param block - block that has changed
+     */
+    public void blockChanged(@NonNull Block block) {
+        if (safe.isEmpty()) {
+            return;
+        }
+        UUID world = block.getWorld().getUID();
+        int x = block.getX();
+        int y = block.getY();
+        int z = block.getZ();
+        safe.remove(new Key(world, x, y + 1, z));
+        safe.remove(new Key(world, x, y, z));
+        safe.remove(new Key(world, x, y - 1, z));
+    }
+
+    /**
+     * Forgets all locations
+     */
+    public void clear() {
+        safe.clear();
+    }
+
+    /**
+     * @return number of locations remembered, including expired ones
+     */
+    public int size() {
+        return safe.size();
+    }
+
+    private static Key key(Location location) {
+        World world = location.getWorld();
+        return world == null ? null : new Key(world.getUID(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
+}
@@ -1,7 +1,11 @@
 package world.bentobox.bentobox.nms.v1_20_R1;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
@@ -11,6 +15,7 @@ import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.data.BlockData;
+import org.bukkit.block.sign.Side;
 import org.bukkit.craftbukkit.v1_20_R1.CraftWorld;
 import org.bukkit.craftbukkit.v1_20_R1.block.data.CraftBlockData;
 
@@ -22,22 +27,39 @@ import world.bentobox.bentobox.blueprints.dataobjects.BlueprintEntity;
 import world.bentobox.bentobox.database.objects.Island;
 import world.bentobox.bentobox.nms.PasteHandler;
 import world.bentobox.bentobox.util.DefaultPasteUtil;
+import world.bentobox.bentobox.util.LongHashMap;
 import world.bentobox.bentobox.util.Util;
 
 public class PasteHandlerImpl implements PasteHandler {
 
     protected static final IBlockData AIR = ((CraftBlockData) Bukkit.createBlockData(Material.AIR)).getState();
 
+    /**
+     * Pastes the blocks chunk by chunk. Each chunk is loaded once, its blocks are written straight into it,
+     * and then it is sent to players once.
+     */
     @Override
     public CompletableFuture<Void> pasteBlocks(Island island, World world, Map<Location, BlueprintBlock> blockMap) {
-        return blockMap.entrySet().stream()
-                .map(entry -> setBlock(island, entry.getKey(), entry.getValue()))
-                .collect(
-                        Collectors.collectingAndThen(
-                                Collectors.toList(),
-                                list -> CompletableFuture.allOf(list.toArray(new CompletableFuture[0]))
-                                )
-                        );
+        LongHashMap<Map<Location, BlueprintBlock>> chunks = new LongHashMap<>();
+        blockMap.forEach((location, bpBlock) -> {
+            long key = LongHashMap.key(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+            Map<Location, BlueprintBlock> blocks = chunks.get(key);
+            if (blocks == null) {
+                blocks = new HashMap<>();
+                chunks.put(key, blocks);
+            }
+            blocks.put(location, bpBlock);
+        });
+        // Block data is parsed once for each different block in the paste
+        Map<String, BlockData> blockData = new HashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        chunks.forEachValue(blocks -> {
+            Location first = blocks.keySet().iterator().next();
+            int chunkX = first.getBlockX() >> 4;
+            int chunkZ = first.getBlockZ() >> 4;
+            futures.add(Util.getChunkAtAsync(world, chunkX, chunkZ).thenRun(() -> setBlocks(island, world, chunkX, chunkZ, blocks, blockData)));
+        });
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
     }
 
     @Override
@@ -52,6 +74,58 @@ public class PasteHandlerImpl implements PasteHandler {
                         );
     }
 
+    /**
+     * Sets the blocks of one loaded chunk
+     *
+     * @param island    - island
+     * @param world     - world
+     * @param chunkX    - chunk x
+     * @param chunkZ    - chunk z
+     * @param blocks    - blueprint blocks in this chunk
+     * @param blockData - block data already parsed for this paste, by blueprint block data string
+     */
+    @SuppressWarnings("deprecation")
+    private static void setBlocks(Island island, World world, int chunkX, int chunkZ, Map<Location, BlueprintBlock> blocks,
+            Map<String, BlockData> blockData) {
+        Chunk nmsChunk = ((CraftWorld) world).getHandle().d(chunkX, chunkZ);
+        // Biomes are stored for each 4x4x4 cell, so each cell only needs setting once
+        Set<Integer> biomeCells = new HashSet<>();
+        blocks.forEach((location, bpBlock) -> {
+            // Set the block data - default is AIR
+            BlockData bd = blockData.computeIfAbsent(bpBlock.getBlockData(), k -> DefaultPasteUtil.createBlockData(bpBlock));
+            int x = location.getBlockX();
+            int y = location.getBlockY();
+            int z = location.getBlockZ();
+            BlockPosition bp = new BlockPosition(x, y, z);
+            // Setting the block to air before setting to another state prevents some console errors
+            nmsChunk.a(bp, AIR, false);
+            nmsChunk.a(bp, ((CraftBlockData) bd).getState(), false);
+            if (hasBlockState(bpBlock)) {
+                // Signs, chests, spawners and banners are filled in by Bukkit
+                Block block = world.getBlockAt(x, y, z);
+                DefaultPasteUtil.setBlockState(island, block, bpBlock);
+            }
+            // Set biome
+            if (bpBlock.getBiome() != null && biomeCells.add(((y >> 2) << 4) | (((x & 15) >> 2) << 2) | ((z & 15) >> 2))) {
+                world.setBiome(x, y, z, bpBlock.getBiome());
+            }
+        });
+        // Send the changes to players in one go
+        world.refreshChunk(chunkX, chunkZ);
+    }
+
+    /**
+     * @param bpBlock - blueprint block
+     * @return true if the blueprint has contents for the block's state, such as sign text or chest items
+     */
+    private static boolean hasBlockState(BlueprintBlock bpBlock) {
+        return !bpBlock.getInventory().isEmpty()
+                || bpBlock.getCreatureSpawner() != null
+                || bpBlock.getBannerPatterns() != null
+                || bpBlock.getSignLines(Side.FRONT) != null
+                || bpBlock.getSignLines(Side.BACK) != null;
+    }
+
     /**
      * Set the block to the location
      *
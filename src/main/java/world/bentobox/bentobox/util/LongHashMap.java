@@ -0,0 +1,238 @@
+package world.bentobox.bentobox.util;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A minimal open-addressing hash map keyed by primitive longs.
+ * Used for coordinate lookups, e.g. islands or chunks, where boxing the key
+ * on every probe would be wasteful.
+ * <p>
+ * Not thread safe, but {@link #get(long)} will not throw or loop if the map is changed
+ * while it runs, so it can be used with an optimistic read lock as long as the result is validated.
+ * Null values are not allowed.
+ * @since 2.0.0
+ *
+ * @param <V> the type of value
+ */
+public class LongHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5F;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    private int resizeAt;
+
+    public LongHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param expected - number of entries expected
+     */
+    public LongHashMap(int expected) {
+        allocate(tableSizeFor(expected));
+    }
+
+    /**
+     * Packs two ints, e.g. an x and z coordinate, into a long key
+     * @param x - x
+     * @param z - z
+     * @return key
+     */
+    public static long key(int x, int z) {
+        return ((long) x << 32) | (z & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Get the value for this key
+     * @param key - key
+     * @return value or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V get(long key) {
+        // Take local copies so a concurrent rehash cannot mix up tables
+        long[] k = keys;
+        Object[] vals = values;
+        if (k.length != vals.length) {
+            return null;
+        }
+        int m = vals.length - 1;
+        int i = slot(key, m);
+        Object v;
+        for (int probes = 0; probes < vals.length && (v = vals[i]) != null; probes++) {
+            if (k[i] == key) {
+                return (V) v;
+            }
+            i = (i + 1) & m;
+        }
+        return null;
+    }
+
+    /**
+     * @param key - key
+     * @return true if there is a value for this key
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Put a value into the map
+     * @param key - key
+     * @param value - value, not null
+     * @return the previous value or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("LongHashMap does not allow null values");
+        }
+        int i = slot(key);
+        Object v;
+        while ((v = values[i]) != null) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return (V) v;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size >= resizeAt) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Remove the value for this key
+     * @param key - key
+     * @return the removed value or null if there was none
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public V remove(long key) {
+        int i = slot(key);
+        Object v;
+        while ((v = values[i]) != null) {
+            if (keys[i] == key) {
+                shiftBack(i);
+                size--;
+                return (V) v;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * @return number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if there are no entries
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Runs the action on every value in the map
+     * @param action - action
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachValue(Consumer<? super V> action) {
+        for (Object v : values) {
+            if (v != null) {
+                action.accept((V) v);
+            }
+        }
+    }
+
+    /**
+     * Closes the gap left by a removal so that linear probing keeps finding entries further along
+     * @param gap - the slot that was emptied
+     */
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            if (values[i] == null) {
+                break;
+            }
+            int home = slot(keys[i]);
+            // Move the entry if its home slot is not between the gap and its current slot
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = null;
+    }
+
+    private int slot(long key) {
+        return slot(key, mask);
+    }
+
+    private static int slot(long key, int mask) {
+        // Murmur3 finalizer to spread coordinates that only differ in the high bits
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldValues.length; j++) {
+            if (oldValues[j] != null) {
+                int i = slot(oldKeys[j]);
+                while (values[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int tableSizeFor(int expected) {
+        int capacity = DEFAULT_CAPACITY;
+        while (capacity * LOAD_FACTOR <= expected) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
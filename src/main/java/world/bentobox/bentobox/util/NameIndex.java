@@ -0,0 +1,227 @@
+package world.bentobox.bentobox.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.eclipse.jdt.annotation.NonNull;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * A case-insensitive index of player names to UUIDs that can also list the names that start with
+ * some letters, e.g. for tab completion.
+ * <p>
+ * Most names are kept in sorted arrays, which take much less memory than a map when there are
+ * millions of them. Names that are added or removed go into a small sorted map first, which is
+ * merged into the arrays when it gets too big, so changes do not copy the arrays every time.
+ * Names keep the case they were added with.
+ * <p>
+ * Thread safe.
+ * @since 2.0.0
+ */
+public class NameIndex {
+
+    private static final Comparator<String> ORDER = String.CASE_INSENSITIVE_ORDER;
+    private static final int MIN_MERGE_SIZE = 1024;
+
+    /**
+     * Names in {@link #ORDER}
+     */
+    private String[] names = new String[0];
+    /**
+     * Most and least significant bits of each name's UUID
+     */
+    private long[] uuids = new long[0];
+    /**
+     * Changes that have not been merged into the arrays yet. A null value means the name was removed.
+     */
+    private final TreeMap<String, UUID> changes = new TreeMap<>(ORDER);
+
+    /**
+     * Gets the UUID of a name
+     * @param name - name, any case
+     * @return UUID or null if the name is not in the index
+     */
+    @Nullable
+    public synchronized UUID get(@NonNull String name) {
+        if (changes.containsKey(name)) {
+            return changes.get(name);
+        }
+        int i = Arrays.binarySearch(names, name, ORDER);
+        return i >= 0 ? new UUID(uuids[2 * i], uuids[2 * i + 1]) : null;
+    }
+
+    /**
+     * Adds a name, or changes its UUID or case if it is already in the index
+     * @param name - name
+     * @param uuid - UUID
+     */
+    public synchronized void put(@NonNull String name, @NonNull UUID uuid) {
+        // Remove first so the case of the name is updated
+        changes.remove(name);
+        int i = Arrays.binarySearch(names, name, ORDER);
+        if (i >= 0) {
+            names[i] = name;
+            uuids[2 * i] = uuid.getMostSignificantBits();
+            uuids[2 * i + 1] = uuid.getLeastSignificantBits();
+        } else {
+            changes.put(name, uuid);
+            mergeIfNeeded();
+        }
+    }
+
+    /**
+     * Removes a name if it belongs to this UUID. Names that have been taken by another player are kept.
+     * @param name - name
+     * @param uuid - UUID that the name must have
+     */
+    public synchronized void remove(@NonNull String name, @NonNull UUID uuid) {
+        if (!uuid.equals(get(name))) {
+            return;
+        }
+        if (Arrays.binarySearch(names, name, ORDER) >= 0) {
+            changes.put(name, null);
+            mergeIfNeeded();
+        } else {
+            changes.remove(name);
+        }
+    }
+
+    /**
+     * Adds names that are not in the index yet, e.g. when it is loaded from the database.
+     * Names that are already in the index keep their UUID, because they are newer.
+     * @param entries - names and UUIDs
+     */
+    public void addAll(@NonNull Map<String, UUID> entries) {
+        // Sort before locking, as there could be a lot
+        TreeMap<String, UUID> sorted = new TreeMap<>(ORDER);
+        entries.forEach((name, uuid) -> {
+            if (name != null && uuid != null) {
+                sorted.put(name, uuid);
+            }
+        });
+        synchronized (this) {
+            sorted.keySet().removeIf(changes::containsKey);
+            merge(sorted, false);
+        }
+    }
+
+    /**
+     * Lists the names that start with some letters, in alphabetical order ignoring case
+     * @param prefix - first letters, any case
+     * @param limit - maximum number of names to return
+     * @return names
+     */
+    @NonNull
+    public synchronized List<String> startingWith(@NonNull String prefix, int limit) {
+        List<String> result = new ArrayList<>();
+        int i = lowerBound(0, prefix);
+        Iterator<Map.Entry<String, UUID>> it = changes.tailMap(prefix, true).entrySet().iterator();
+        Map.Entry<String, UUID> change = it.hasNext() ? it.next() : null;
+        while (result.size() < limit) {
+            String name = i < names.length && startsWith(names[i], prefix) ? names[i] : null;
+            String changed = change != null && startsWith(change.getKey(), prefix) ? change.getKey() : null;
+            if (name == null && changed == null) {
+                break;
+            }
+            int c = name == null ? 1 : changed == null ? -1 : ORDER.compare(name, changed);
+            if (c < 0) {
+                result.add(name);
+                i++;
+            } else {
+                if (c == 0) {
+                    // The change replaces the name in the arrays
+                    i++;
+                }
+                if (change.getValue() != null) {
+                    result.add(changed);
+                }
+                change = it.hasNext() ? it.next() : null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return number of names in the index
+     */
+    public synchronized int size() {
+        int size = names.length;
+        for (Map.Entry<String, UUID> change : changes.entrySet()) {
+            boolean inArrays = Arrays.binarySearch(names, change.getKey(), ORDER) >= 0;
+            if (change.getValue() == null) {
+                size--;
+            } else if (!inArrays) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    private static boolean startsWith(String name, String prefix) {
+        return name.regionMatches(true, 0, prefix, 0, prefix.length());
+    }
+
+    private void mergeIfNeeded() {
+        if (changes.size() > Math.max(MIN_MERGE_SIZE, names.length >> 5)) {
+            merge(changes, true);
+            changes.clear();
+        }
+    }
+
+    /**
+     * Merges sorted changes into the arrays
+     * @param sorted - changes in {@link #ORDER}
+     * @param replace - true if the changes replace names in the arrays, false to keep the names in the arrays
+     */
+    private void merge(TreeMap<String, UUID> sorted, boolean replace) {
+        if (sorted.isEmpty()) {
+            return;
+        }
+        String[] newNames = new String[names.length + sorted.size()];
+        long[] newUuids = new long[newNames.length * 2];
+        int i = 0;
+        int n = 0;
+        for (Map.Entry<String, UUID> e : sorted.entrySet()) {
+            // Copy the names before this one
+            int end = lowerBound(i, e.getKey());
+            System.arraycopy(names, i, newNames, n, end - i);
+            System.arraycopy(uuids, 2 * i, newUuids, 2 * n, 2 * (end - i));
+            n += end - i;
+            i = end;
+            boolean same = i < names.length && ORDER.compare(names[i], e.getKey()) == 0;
+            if (same && !replace) {
+                continue;
+            }
+            if (same) {
+                i++;
+            }
+            if (e.getValue() != null) {
+                newNames[n] = e.getKey();
+                newUuids[2 * n] = e.getValue().getMostSignificantBits();
+                newUuids[2 * n + 1] = e.getValue().getLeastSignificantBits();
+                n++;
+            }
+        }
+        System.arraycopy(names, i, newNames, n, names.length - i);
+        System.arraycopy(uuids, 2 * i, newUuids, 2 * n, 2 * (names.length - i));
+        n += names.length - i;
+        names = n == newNames.length ? newNames : Arrays.copyOf(newNames, n);
+        uuids = n == newNames.length ? newUuids : Arrays.copyOf(newUuids, 2 * n);
+    }
+
+    /**
+     * @param from - index to start looking from
+     * @param key - key
+     * @return index of the first name that is not before the key
+     */
+    private int lowerBound(int from, String key) {
+        int i = Arrays.binarySearch(names, from, names.length, key, ORDER);
+        return i >= 0 ? i : -i - 1;
+    }
+}
@@ -46,6 +46,7 @@ import io.papermc.lib.PaperLib;
 import io.papermc.lib.features.blockstatesnapshot.BlockStateSnapshotResult;
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.user.User;
+import world.bentobox.bentobox.managers.IslandWorldManager;
 import world.bentobox.bentobox.nms.PasteHandler;
 import world.bentobox.bentobox.nms.WorldRegenerator;
 
@@ -247,7 +248,19 @@ public class Util {
         if (world == null) {
             return null;
         }
-        return world.getEnvironment().equals(Environment.NORMAL) ? world : Bukkit.getWorld(world.getName().replace(NETHER, "").replace(THE_END, ""));
+        if (world.getEnvironment().equals(Environment.NORMAL)) {
+            return world;
+        }
+        // Game mode worlds and worlds that have been looked up before are cached
+        IslandWorldManager iwm = plugin == null ? null : plugin.getIWM();
+        World overWorld = iwm == null ? null : iwm.getCachedOverWorld(world);
+        if (overWorld == null) {
+            overWorld = Bukkit.getWorld(world.getName().replace(NETHER, "").replace(THE_END, ""));
+            if (overWorld != null && iwm != null) {
+                iwm.cacheOverWorld(world, overWorld);
+            }
+        }
+        return overWorld;
     }
 
     /**
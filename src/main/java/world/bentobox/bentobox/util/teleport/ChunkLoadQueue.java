@@ -0,0 +1,156 @@
+package world.bentobox.bentobox.util.teleport;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+import org.eclipse.jdt.annotation.NonNull;
+
+import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.util.Util;
+
+/**
+ * Loads chunk snapshots for safe spot searches. Searches ask for all their chunks at once, so the number of
+ * chunk loads in flight is limited across the server. Loads over the limit wait their turn, so that lots of
+ * teleports at once, e.g. when everyone goes home after a restart, do not flood chunk loading.
+ * <p>
+ * Only Paper loads chunks asynchronously. Other servers load a chunk as soon as it is asked for, so there
+ * loads are started by a task, a few each tick.
+ * <p>
+ * Loads must be asked for on the main thread. Cancelling a future that is still waiting means its chunk is
+ * never loaded.
+ *
+ * @since 2.0.0
+ */
+final class ChunkLoadQueue {
+
+    /**
+     * Maximum number of chunk loads in flight at once
+     */
+    static final int MAX_LOADS = 16;
+    /**
+     * Number of chunk loads started each tick on servers that load chunks synchronously
+     */
+    static final int SYNC_LOADS_PER_TICK = 2;
+
+    private record Load(World world, int x, int z, CompletableFuture<ChunkSnapshot> future) {}
+
+    private static final Queue<Load> waiting = new ArrayDeque<>();
+    private static int loading;
+    private static BukkitTask ticker;
+
+    private ChunkLoadQueue() {}
+
+    /**
+     * Gets a snapshot of a chunk, loading it asynchronously when there is room
+     * @param world - world
+     * @param x - chunk x
+     * @param z - chunk z
+     * @return future snapshot
+     */
+    @NonNull
+    static CompletableFuture<ChunkSnapshot> getChunkSnapshot(@NonNull World world, int x, int z) {
+        CompletableFuture<ChunkSnapshot> future = new CompletableFuture<>();
+        synchronized (ChunkLoadQueue.class) {
+            waiting.add(new Load(world, x, z, future));
+        }
+        startLoads();
+        return future;
+    }
+
+    private static void startLoads() {
+        if (!Util.isPaper()) {
+            // Asking for the chunk now would load it straight away on this thread
+            startTicker();
+            return;
+        }
+        while (true) {
+            Load load;
+            synchronized (ChunkLoadQueue.class) {
+                if (loading >= MAX_LOADS || waiting.isEmpty()) {
+                    return;
+                }
+                load = waiting.poll();
+                if (load.future().isDone()) {
+                    // Not needed any more
+                    continue;
+                }
+                loading++;
+            }
+            load(load);
+        }
+    }
+
+    private static synchronized void startTicker() {
+        if (ticker == null && !waiting.isEmpty()) {
+            ticker = Bukkit.getScheduler().runTaskTimer(BentoBox.getInstance(), ChunkLoadQueue::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Starts the next few loads, and stops when there is nothing left to load
+     */
+    static void tick() {
+        int started = 0;
+        while (started < SYNC_LOADS_PER_TICK) {
+            Load load;
+            synchronized (ChunkLoadQueue.class) {
+                load = waiting.poll();
+                if (load == null) {
+                    if (ticker != null) {
+                        ticker.cancel();
+                        ticker = null;
+                    }
+                    return;
+                }
+                if (load.future().isDone()) {
+                    continue;
+                }
+                loading++;
+            }
+            load(load);
+            started++;
+        }
+    }
+
+    /**
+     * Loads a chunk. The load must already be counted in {@link #loading}.
+     */
+    private static void load(Load load) {
+        Util.getChunkAtAsync(load.world(), load.x(), load.z()).thenApply(Chunk::getChunkSnapshot).whenComplete((snapshot, e) -> {
+            synchronized (ChunkLoadQueue.class) {
+                loading--;
+            }
+            if (e != null) {
+                load.future().completeExceptionally(e);
+            } else {
+                load.future().complete(snapshot);
+            }
+            startLoads();
+        });
+    }
+
+    /**
+     * @return number of chunk loads in flight
+     */
+    static synchronized int getLoading() {
+        return loading;
+    }
+
+    /**
+     * Forgets all loads. Used for testing.
+     */
+    static synchronized void clear() {
+        waiting.clear();
+        loading = 0;
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
+    }
+}
@@ -9,16 +9,13 @@ package world.bentobox.bentobox.util.teleport;
 
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
 import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -27,7 +24,6 @@ import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.BoundingBox;
 import org.bukkit.util.Vector;
 import org.eclipse.jdt.annotation.Nullable;
@@ -60,6 +56,13 @@ public class ClosestSafeSpotTeleport
 
         this.cancelIfFail = builder.isCancelIfFail();
 
+        if (!this.portal && this.plugin.getIslandsManager().isKnownSafeLocation(this.location))
+        {
+            // Checked recently, so go there without looking again
+            this.teleportEntity(this.location);
+            return;
+        }
+
         // Try starting location
         Util.getChunkAtAsync(this.location).thenRun(this::checkLocation);
     }
@@ -101,59 +104,53 @@ public class ClosestSafeSpotTeleport
         // with all blocks, as the validation would not allow it.ss
         this.blockQueue = new PriorityQueue<>(this.range * 2, ClosestSafeSpotTeleport.POSITION_COMPARATOR);
 
-        // Get chunks to scan
-        this.chunksToScanIterator = this.getChunksToScan().iterator();
-
-        // Start a recurring task until done or cancelled
-        this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::gatherChunks, 0L, CHUNK_LOAD_SPEED);
+        // Load and scan the chunks
+        this.gatherChunks();
     }
 
 
     /**
-     * This method loads all chunks in async and populates blockQueue with all blocks.
+     * This method asks for all chunks at once and populates blockQueue with their blocks as they arrive.
+     * Chunks are scanned off the main thread one at a time, nearest first.
      */
     void gatherChunks()
     {
-        // Set a flag so this is only run if it's not already in progress
-        if (this.checking.get())
-        {
-            return;
-        }
+        List<CompletableFuture<ChunkSnapshot>> snapshots = this.getChunksToScan().stream().
+                map(chunkPair -> ChunkLoadQueue.getChunkSnapshot(this.world, chunkPair.x, chunkPair.z)).
+                toList();
 
-        this.checking.set(true);
+        CompletableFuture<Boolean> done = CompletableFuture.completedFuture(false);
 
-        if (!this.portal && !this.blockQueue.isEmpty() && this.blockQueue.peek().distance() < 5)
+        for (CompletableFuture<ChunkSnapshot> snapshot : snapshots)
         {
-            // Position is found? Well most likely (not in all situations) position in block queue is already
-            // the best position. The only bad situations could happen if position is on chunk borders.
-            this.finishTask();
-            return;
-        }
+            done = done.thenCombineAsync(snapshot.exceptionally(e -> null), (finished, chunkSnapshot) ->
+            {
+                if (finished)
+                {
+                    return true;
+                }
 
-        if (!this.chunksToScanIterator.hasNext())
-        {
-            // Chunk scanning has completed. Now check positions.
-            this.finishTask();
-            return;
-        }
+                if (chunkSnapshot != null)
+                {
+                    // Find best spot based on collected information chunks.
+                    this.scanAndPopulateBlockQueue(chunkSnapshot);
+                }
 
-        // Get the chunk
-        Pair<Integer, Integer> chunkPair = this.chunksToScanIterator.next();
-        this.chunksToScanIterator.remove();
+                if (!this.portal && !this.blockQueue.isEmpty() && this.blockQueue.peek().distance() < 5)
+                {
+                    // Position is found? Well most likely (not in all situations) position in block queue is already
+                    // the best position. The only bad situations could happen if position is on chunk borders.
+                    // The remaining chunks do not need to be loaded.
+                    snapshots.forEach(future -> future.cancel(false));
+                    return true;
+                }
 
-        // Get the chunk snapshot and scan it
-        Util.getChunkAtAsync(this.world, chunkPair.x, chunkPair.z).
-        thenApply(Chunk::getChunkSnapshot).
-        whenCompleteAsync((snapshot, e) ->
-        {
-            if (snapshot != null)
-            {
-                // Find best spot based on collected information chunks.
-                this.scanAndPopulateBlockQueue(snapshot);
-            }
+                return false;
+            });
+        }
 
-            this.checking.set(false);
-        });
+        // Chunk scanning has completed. Now check positions.
+        done.whenComplete((finished, e) -> this.finishTask());
     }
 
 
@@ -278,9 +275,7 @@ public class ClosestSafeSpotTeleport
     void finishTask()
     {
         // Still Async!
-        // Nothing left to check and still not canceled
-        this.task.cancel();
-
+        // Nothing left to check
         if (this.scanBlockQueue())
         {
             return;
@@ -725,11 +720,6 @@ public class ClosestSafeSpotTeleport
             thenComparingInt(position -> position.vector().getBlockZ()).
             thenComparingInt(position -> position.vector().getBlockY());
 
-    /**
-     * Stores chunk load speed.
-     */
-    private static final long CHUNK_LOAD_SPEED = 1;
-
     /**
      * Range to scan
      */
@@ -780,11 +770,6 @@ public class ClosestSafeSpotTeleport
      */
     private final boolean cancelIfFail;
 
-    /**
-     * Local variable that indicates if current process is running.
-     */
-    private final AtomicBoolean checking = new AtomicBoolean();
-
     /**
      * The distance from starting location in all directions where new position will be searched.
      */
@@ -795,11 +780,6 @@ public class ClosestSafeSpotTeleport
      */
     private Queue<PositionData> blockQueue;
 
-    /**
-     * List of chunks that will be scanned for positions.
-     */
-    private Iterator<Pair<Integer, Integer>> chunksToScanIterator;
-
     /**
      * BoundingBox where teleportation can happen. Areas outside are illegal.
      */
@@ -809,10 +789,5 @@ public class ClosestSafeSpotTeleport
      * This method returns first best available spot if portal was not found in search area.
      */
     private Location noPortalPosition;
-
-    /**
-     * Bukkit task that processes chunks.
-     */
-    private BukkitTask task;
 }
 
@@ -1,14 +1,12 @@
 package world.bentobox.bentobox.util.teleport;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
 import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
 import org.bukkit.Material;
@@ -17,7 +15,6 @@ import org.bukkit.World.Environment;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -35,7 +32,6 @@ import world.bentobox.bentobox.util.Util;
 public class SafeSpotTeleport {
 
     private static final int MAX_CHUNKS = 6;
-    private static final long SPEED = 1;
     private static final int MAX_RADIUS = 50;
     // Parameters
     private final Entity entity;
@@ -48,14 +44,10 @@ public class SafeSpotTeleport {
     private final String homeName;
     private final int maxHeight;
     private final World world;
-    private final AtomicBoolean checking = new AtomicBoolean();
-    private BukkitTask task;
     private boolean portal;
     private boolean cancelIfFail;
     // Locations
     private Location bestSpot;
-    private Iterator<Pair<Integer, Integer>> chunksToScanIterator;
-    private int checkedChunks = 0;
 
     /**
      * Teleports and entity to a safe spot on island
@@ -75,6 +67,11 @@ public class SafeSpotTeleport {
         this.world = Objects.requireNonNull(location.getWorld());
         this.maxHeight = world.getMaxHeight() - 20;
         this.cancelIfFail = builder.isCancelIfFail();
+        if (!portal && plugin.getIslands().isKnownSafeLocation(location)) {
+            // Checked recently, so go there without looking again
+            teleportToLocation();
+            return;
+        }
         // Try to go
         Util.getChunkAtAsync(location).thenRun(() -> tryToGo(builder.getFailureMessage()));
     }
@@ -86,58 +83,52 @@ public class SafeSpotTeleport {
                 bestSpot = location;
             } else {
                 // If this is not a portal teleport, then go to the safe location immediately
-                Util.teleportAsync(entity, location).thenRun(() -> {
-                    if (runnable != null) Bukkit.getScheduler().runTask(plugin, runnable);
-                    result.complete(true);
-                });
+                teleportToLocation();
                 return;
             }
         }
-        // Get chunks to scan
-        chunksToScanIterator = getChunksToScan().iterator();
+        gatherChunks(failureMessage);
+    }
 
-        // Start a recurring task until done or cancelled
-        task = Bukkit.getScheduler().runTaskTimer(plugin, () -> gatherChunks(failureMessage), 0L, SPEED);
+    private void teleportToLocation() {
+        Util.teleportAsync(entity, location).thenRun(() -> {
+            if (runnable != null) Bukkit.getScheduler().runTask(plugin, runnable);
+            result.complete(true);
+        });
     }
 
+    /**
+     * Asks for the nearest chunks all at once and scans them nearest first as they arrive, off the main thread,
+     * until a safe spot is found. Chunks that are still waiting to load when a spot is found are not loaded.
+     * @param failureMessage - message to send if no safe spot is found
+     * @return true if any chunks are being scanned, false if there were none and the teleport has failed
+     */
     boolean gatherChunks(String failureMessage) {
-        // Set a flag so this is only run if it's not already in progress
-        if (checking.get()) {
-            return false;
-        }
-        checking.set(true);
-        if (checkedChunks > MAX_CHUNKS || !chunksToScanIterator.hasNext()) {
-            // Nothing left
-            tidyUp(entity, failureMessage);
-            return false;
-        }
-
-        // Get the chunk
-        Pair<Integer, Integer> chunkPair = chunksToScanIterator.next();
-        chunksToScanIterator.remove();
-        checkedChunks++;
-        if (checkedChunks >= MAX_CHUNKS) {
-            checking.set(false);
-            return false;
+        List<Pair<Integer, Integer>> chunksToScan = getChunksToScan();
+        List<CompletableFuture<ChunkSnapshot>> snapshots = chunksToScan.subList(0, Math.min(MAX_CHUNKS, chunksToScan.size()))
+                .stream().map(c -> ChunkLoadQueue.getChunkSnapshot(world, c.x, c.z)).toList();
+        CompletableFuture<Boolean> found = CompletableFuture.completedFuture(false);
+        for (CompletableFuture<ChunkSnapshot> snapshot : snapshots) {
+            // Each chunk is scanned after the ones before it, so the nearest chunk with a safe spot wins
+            found = found.thenCombineAsync(snapshot.exceptionally(e -> null), (done, s) -> {
+                if (!done && s != null && scanChunk(s)) {
+                    snapshots.forEach(f -> f.cancel(false));
+                    return true;
+                }
+                return done;
+            });
         }
-
-        // Get the chunk snapshot and scan it
-        Util.getChunkAtAsync(world, chunkPair.x, chunkPair.z)
-        .thenApply(Chunk::getChunkSnapshot)
-        .whenCompleteAsync((snapshot, e) -> {
-            if (snapshot != null && scanChunk(snapshot)) {
-                task.cancel();
-            } else {
-                checking.set(false);
+        found.whenComplete((done, e) -> {
+            if (!Boolean.TRUE.equals(done)) {
+                tidyUp(entity, failureMessage);
             }
         });
-        return true;
+        return !snapshots.isEmpty();
     }
 
     void tidyUp(Entity entity, String failureMessage) {
         // Still Async!
-        // Nothing left to check and still not canceled
-        task.cancel();
+        // Nothing left to check
         // Check portal
         if (portal && bestSpot != null) {
             // Portals found, teleport to the best spot we found
@@ -221,9 +212,69 @@ public class SafeSpotTeleport {
      * @return true if a safe spot was found
      */
     boolean scanChunk(ChunkSnapshot chunk) {
+        // Portal searches keep going after finding safe spots, so they check every column one layer at a time
+        return portal ? scanLayers(chunk) : scanColumns(chunk);
+    }
+
+    /**
+     * Finds the safe spot nearest to the start height. Each column is searched from the start height outwards,
+     * upper before lower, but only for spots nearer than the best one found so far. This finds the same spot as
+     * {@link #scanLayers(ChunkSnapshot)}, but reads each block at most once and stops at the highest block of each
+     * column, because nothing above it can be ground.
+     * @param chunk - chunk snapshot
+     * @return true if a safe spot was found
+     */
+    private boolean scanColumns(ChunkSnapshot chunk) {
         int startY = location.getBlockY();
         int minY = world.getMinHeight();
-        int maxY = 60; // Just a dummy value
+        int maxY = getMaxY(chunk);
+        // Spots further away than this are out of range
+        int bestDistance = Math.max(plugin.getSettings().getSafeSpotSearchVerticalRange(), 0) + 1;
+        int bestX = 0;
+        int bestY = 0;
+        int bestZ = 0;
+        boolean found = false;
+        Material[] column = new Material[Math.max(world.getMaxHeight() - minY, 0)];
+        for (int x = 0; x < 16 && bestDistance > 0; x++) {
+            for (int z = 0; z < 16 && bestDistance > 0; z++) {
+                Arrays.fill(column, null);
+                int highest = chunk.getHighestBlockYAt(x, z);
+                int top = Math.min(maxY, highest);
+                for (int d = 0; d < bestDistance; d++) {
+                    int upperY = startY + d;
+                    int lowerY = startY - d;
+                    boolean checkUpper = d == 0 ? minY <= startY && startY <= highest : upperY <= top;
+                    boolean checkLower = d > 0 && lowerY >= minY;
+                    if (checkUpper && isSafe(chunk, column, x, upperY, z)) {
+                        bestY = upperY;
+                    } else if (checkLower && isSafe(chunk, column, x, lowerY, z)) {
+                        bestY = lowerY;
+                    } else {
+                        if (d > 0 && upperY >= top && lowerY <= minY) {
+                            // Nothing left in this column
+                            break;
+                        }
+                        continue;
+                    }
+                    bestDistance = d;
+                    bestX = x;
+                    bestZ = z;
+                    found = true;
+                }
+            }
+        }
+        return found && safe(chunk, bestX, bestY, bestZ, world);
+    }
+
+    /**
+     * Checks every column at the start height, then one layer above and one below, and so on
+     * @param chunk - chunk snapshot
+     * @return true if a safe spot was found
+     */
+    private boolean scanLayers(ChunkSnapshot chunk) {
+        int startY = location.getBlockY();
+        int minY = world.getMinHeight();
+        int maxY = getMaxY(chunk);
 
         // Check the safe spot at the current height
         for (int x = 0; x < 16; x++) {
@@ -231,10 +282,8 @@ public class SafeSpotTeleport {
                 if (minY <= startY && checkBlock(chunk, x, startY, z)) {
                     return true;
                 }
-                maxY = Math.max(chunk.getHighestBlockYAt(x, z), maxY);
             }
         }
-        maxY = Math.min(maxY, maxHeight);
 
         // Expand the height up and down until a safe spot is found
         int upperY = startY + 1;
@@ -272,11 +321,50 @@ public class SafeSpotTeleport {
         return false;
     }
 
+    /**
+     * @param chunk - chunk snapshot
+     * @return the highest y to search up to
+     */
+    private int getMaxY(ChunkSnapshot chunk) {
+        int maxY = 60; // Just a dummy value
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                maxY = Math.max(chunk.getHighestBlockYAt(x, z), maxY);
+            }
+        }
+        return Math.min(maxY, maxHeight);
+    }
+
+    /**
+     * Checks if a spot is safe, remembering the blocks read in this column
+     * @param chunk - chunk snapshot
+     * @param column - blocks read so far in this column, by y minus the world's minimum height
+     * @param x - x coordinate
+     * @param y - y coordinate of the ground
+     * @param z - z coordinate
+     * @return true if the spot is safe
+     */
+    private boolean isSafe(ChunkSnapshot chunk, Material[] column, int x, int y, int z) {
+        return plugin.getIslands().checkIfSafe(world, getBlockType(chunk, column, x, y, z),
+                getBlockType(chunk, column, x, Math.min(y + 1, maxHeight), z),
+                getBlockType(chunk, column, x, Math.min(y + 2, maxHeight), z));
+    }
+
+    private Material getBlockType(ChunkSnapshot chunk, Material[] column, int x, int y, int z) {
+        int i = y - world.getMinHeight();
+        if (i < 0 || i >= column.length) {
+            return chunk.getBlockType(x, y, z);
+        }
+        if (column[i] == null) {
+            column[i] = chunk.getBlockType(x, y, z);
+        }
+        return column[i];
+    }
+
     /**
      * Teleports entity to the safe spot
      */
     void teleportEntity(final Location loc) {
-        task.cancel();
         // Return to main thread and teleport the player
         Bukkit.getScheduler().runTask(plugin, () -> {
             if (!portal && entity instanceof Player && (homeNumber > 0 || !homeName.isEmpty())) {
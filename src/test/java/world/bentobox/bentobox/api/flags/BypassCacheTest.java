@@ -0,0 +1,65 @@
+package world.bentobox.bentobox.api.flags;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link BypassCache}
+ */
+public class BypassCacheTest {
+
+    private BypassCache cache;
+    private World world;
+    private Flag flag;
+    private Flag other;
+
+    @Before
+    public void setUp() throws Exception {
+        cache = new BypassCache();
+        world = mock(World.class);
+        flag = new Flag.Builder("BYPASS_CACHE_TEST", Material.STONE).build();
+        other = new Flag.Builder("BYPASS_CACHE_TEST_OTHER", Material.DIRT).build();
+    }
+
+    /**
+     * Test method for {@link BypassCache#get(World, Flag)}.
+     */
+    @Test
+    public void testGetAdd() {
+        assertEquals(0, cache.get(world, flag));
+        cache.add(flag, BypassCache.EVERYWHERE_KNOWN);
+        cache.add(flag, BypassCache.ISLAND_KNOWN | BypassCache.ISLAND);
+        assertEquals(BypassCache.EVERYWHERE_KNOWN | BypassCache.ISLAND_KNOWN | BypassCache.ISLAND, cache.get(world, flag));
+        assertEquals(0, cache.get(world, other));
+    }
+
+    /**
+     * Test method for {@link BypassCache#get(World, Flag)}.
+     */
+    @Test
+    public void testGetOtherWorld() {
+        cache.get(world, flag);
+        cache.add(flag, BypassCache.EVERYWHERE_KNOWN | BypassCache.EVERYWHERE);
+        // Permissions depend on the world
+        assertEquals(0, cache.get(mock(World.class), flag));
+        assertEquals(0, cache.get(world, flag));
+    }
+
+    /**
+     * Test method for {@link BypassCache#clear()}.
+     */
+    @Test
+    public void testClear() {
+        cache.get(world, flag);
+        cache.add(flag, BypassCache.EVERYWHERE_KNOWN | BypassCache.EVERYWHERE);
+        cache.clear();
+        assertEquals(0, cache.get(world, flag));
+        cache.add(flag, BypassCache.EVERYWHERE_KNOWN);
+        assertEquals(BypassCache.EVERYWHERE_KNOWN, cache.get(world, flag));
+    }
+}
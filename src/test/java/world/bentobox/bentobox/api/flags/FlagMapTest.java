@@ -0,0 +1,109 @@
+package world.bentobox.bentobox.api.flags;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.bukkit.Material;
+import org.junit.Before;
+import org.junit.Test;
+
+import world.bentobox.bentobox.managers.RanksManager;
+
+/**
+ * Tests for {@link FlagMap}
+ */
+public class FlagMapTest {
+
+    private FlagMap map;
+    private Flag flag;
+    private Flag other;
+
+    @Before
+    public void setUp() throws Exception {
+        map = new FlagMap();
+        flag = new Flag.Builder("FLAG_MAP_TEST", Material.STONE).defaultRank(RanksManager.MEMBER_RANK).build();
+        other = new Flag.Builder("FLAG_MAP_TEST_OTHER", Material.DIRT).defaultRank(RanksManager.VISITOR_RANK).build();
+    }
+
+    /**
+     * Test method for {@link FlagMap#getValue(Flag)}.
+     */
+    @Test
+    public void testGetValueDefault() {
+        assertEquals(RanksManager.MEMBER_RANK, map.getValue(flag));
+        assertEquals(RanksManager.VISITOR_RANK, map.getValue(other));
+        // Looking up a flag does not change the map
+        assertTrue(map.isEmpty());
+    }
+
+    /**
+     * Test method for {@link FlagMap#put(String, Integer)}.
+     */
+    @Test
+    public void testPut() {
+        assertEquals(RanksManager.MEMBER_RANK, map.getValue(flag));
+        assertNull(map.put(flag.getID(), RanksManager.OWNER_RANK));
+        assertEquals(RanksManager.OWNER_RANK, map.getValue(flag));
+        assertEquals(RanksManager.OWNER_RANK, map.get(flag.getID()).intValue());
+        assertEquals(RanksManager.VISITOR_RANK, map.getValue(other));
+    }
+
+    /**
+     * Test method for {@link FlagMap#remove(Object)}.
+     */
+    @Test
+    public void testRemove() {
+        map.put(flag.getID(), RanksManager.OWNER_RANK);
+        assertEquals(RanksManager.OWNER_RANK, map.getValue(flag));
+        map.remove(flag.getID());
+        assertEquals(RanksManager.MEMBER_RANK, map.getValue(flag));
+        assertFalse(map.containsKey(flag.getID()));
+    }
+
+    /**
+     * Test method for {@link FlagMap#entrySet()}.
+     */
+    @Test
+    public void testChangesThroughViews() {
+        map.put(flag.getID(), RanksManager.OWNER_RANK);
+        map.put(other.getID(), RanksManager.OWNER_RANK);
+        assertEquals(RanksManager.OWNER_RANK, map.getValue(flag));
+        assertEquals(RanksManager.OWNER_RANK, map.getValue(other));
+        map.keySet().removeIf(flag.getID()::equals);
+        assertEquals(RanksManager.MEMBER_RANK, map.getValue(flag));
+        map.entrySet().forEach(e -> e.setValue(RanksManager.TRUSTED_RANK));
+        assertEquals(RanksManager.TRUSTED_RANK, map.getValue(other));
+        assertEquals(RanksManager.TRUSTED_RANK, map.get(other.getID()).intValue());
+        map.values().clear();
+        assertEquals(RanksManager.VISITOR_RANK, map.getValue(other));
+    }
+
+    /**
+     * Test method for {@link FlagMap#FlagMap(Map)}.
+     */
+    @Test
+    public void testCopy() {
+        FlagMap copy = new FlagMap(Map.of(flag.getID(), RanksManager.OWNER_RANK, "UNKNOWN_FLAG", 1));
+        assertEquals(RanksManager.OWNER_RANK, copy.getValue(flag));
+        assertEquals(2, copy.size());
+        assertEquals(Map.of(flag.getID(), RanksManager.OWNER_RANK, "UNKNOWN_FLAG", 1), copy);
+    }
+
+    /**
+     * Test method for {@link FlagMap#getValue(Flag)}.
+     */
+    @Test
+    public void testFlagMadeAfterLookup() {
+        map.put("FLAG_MAP_TEST_LATE", RanksManager.OWNER_RANK);
+        assertEquals(RanksManager.MEMBER_RANK, map.getValue(flag));
+        // A flag that was made after the array was sized
+        Flag late = new Flag.Builder("FLAG_MAP_TEST_LATE", Material.STONE).build();
+        assertEquals(RanksManager.OWNER_RANK, map.getValue(late));
+        map.put(late.getID(), RanksManager.COOP_RANK);
+        assertEquals(RanksManager.COOP_RANK, map.getValue(late));
+    }
+}
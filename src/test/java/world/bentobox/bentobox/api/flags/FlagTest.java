@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -130,6 +131,35 @@ public class FlagTest {
         assertFalse(flag1.hashCode() == flag3.hashCode());
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.api.flags.Flag#getOrdinal()}.
+     */
+    @Test
+    public void testGetOrdinal() {
+        Flag flag1 = new Flag.Builder("ordinal", Material.ACACIA_BOAT).build();
+        Flag flag2 = new Flag.Builder("ordinal", Material.ACACIA_BOAT).type(Flag.Type.SETTING).build();
+        Flag flag3 = new Flag.Builder("ordinal2", Material.ACACIA_BUTTON).build();
+        assertEquals(flag1.getOrdinal(), flag2.getOrdinal());
+        assertNotEquals(flag1.getOrdinal(), flag3.getOrdinal());
+        assertEquals(flag1.getOrdinal(), Flag.findOrdinal("ordinal"));
+        assertEquals(-1, Flag.findOrdinal("never made"));
+        assertTrue(Flag.getOrdinalCount() > flag3.getOrdinal());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.api.flags.Flag#getBypassPermissions(String)}.
+     */
+    @Test
+    public void testGetBypassPermissions() {
+        Flag.BypassPermissions perms = f.getBypassPermissions("bskyblock.");
+        assertEquals("bskyblock.mod.bypassprotect", perms.all());
+        assertEquals("bskyblock.mod.bypass.flagID.everywhere", perms.everywhere());
+        assertEquals("bskyblock.mod.bypass.flagID.island", perms.island());
+        // Made once
+        assertSame(perms, f.getBypassPermissions("bskyblock."));
+        assertEquals("acidisland.mod.bypass.flagID.island", f.getBypassPermissions("acidisland.").island());
+    }
+
     /**
      * Test method for .
      */
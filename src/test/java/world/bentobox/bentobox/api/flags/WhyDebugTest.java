@@ -0,0 +1,84 @@
+package world.bentobox.bentobox.api.flags;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link WhyDebug}
+ */
+public class WhyDebugTest {
+
+    private UUID uuid;
+    private UUID issuer;
+
+    @Before
+    public void setUp() throws Exception {
+        WhyDebug.clear();
+        uuid = UUID.randomUUID();
+        issuer = UUID.randomUUID();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        WhyDebug.clear();
+    }
+
+    /**
+     * Test method for {@link WhyDebug#start(UUID, String, UUID)}.
+     */
+    @Test
+    public void testStartStop() {
+        assertFalse(WhyDebug.isActive());
+        assertNull(WhyDebug.getSession(uuid, "world"));
+        WhyDebug.start(uuid, "world", issuer);
+        WhyDebug.start(uuid, "world_nether", null);
+        assertTrue(WhyDebug.isActive());
+        assertEquals(issuer, WhyDebug.getSession(uuid, "world").issuer());
+        assertNull(WhyDebug.getSession(uuid, "world_nether").issuer());
+        assertNull(WhyDebug.getSession(uuid, "world_the_end"));
+        assertNull(WhyDebug.getSession(issuer, "world"));
+        WhyDebug.stop(uuid, "world");
+        assertNull(WhyDebug.getSession(uuid, "world"));
+        assertTrue(WhyDebug.isActive());
+        WhyDebug.stop(uuid, "world_nether");
+        assertFalse(WhyDebug.isActive());
+    }
+
+    /**
+     * Test method for {@link WhyDebug#stop(UUID)}.
+     */
+    @Test
+    public void testStopAllWorlds() {
+        WhyDebug.start(uuid, "world", issuer);
+        WhyDebug.start(uuid, "world_nether", issuer);
+        WhyDebug.stop(uuid);
+        assertFalse(WhyDebug.isActive());
+        assertNull(WhyDebug.getSession(uuid, "world_nether"));
+    }
+
+    /**
+     * Test method for {@link WhyDebug#trace(WhyDebug.Trace)}.
+     */
+    @Test
+    public void testTrace() {
+        assertTrue(WhyDebug.getTrace().isEmpty());
+        for (int i = 0; i < WhyDebug.TRACE_SIZE + 10; i++) {
+            WhyDebug.trace(new WhyDebug.Trace(0L, "tastybento", "BREAK_BLOCKS", "RANK_ALLOWED", "BlockBreakEvent", "world", i, 64, 0));
+        }
+        List<WhyDebug.Trace> trace = WhyDebug.getTrace();
+        assertEquals(WhyDebug.TRACE_SIZE, trace.size());
+        // Oldest first
+        assertEquals(10, trace.get(0).x());
+        assertEquals(WhyDebug.TRACE_SIZE + 9, trace.get(trace.size() - 1).x());
+        assertTrue(trace.get(0).toString().endsWith("tastybento BREAK_BLOCKS - RANK_ALLOWED (BlockBreakEvent in world world at 10,64,0)"));
+    }
+}
@@ -267,6 +267,38 @@ public class UserTest {
         assertTrue(user.hasPermission("perm"));
     }
 
+    /**
+     * Test method for {@link User#hasPermission(String)}.
+     */
+    @Test
+    public void testHasPermissionCached() {
+        when(player.hasPermission("perm")).thenReturn(true);
+        assertTrue(user.hasPermission("perm"));
+        when(player.hasPermission("perm")).thenReturn(false);
+        // Remembered
+        assertTrue(user.hasPermission("perm"));
+        verify(player).hasPermission("perm");
+        // Changing permissions clears the cache
+        user.removePerm("other.perm");
+        assertFalse(user.hasPermission("perm"));
+        when(player.hasPermission("perm")).thenReturn(true);
+        user.clearPermissionCache();
+        assertTrue(user.hasPermission("perm"));
+    }
+
+    /**
+     * Test method for {@link User#hasPermission(String)}.
+     */
+    @Test
+    public void testHasPermissionChangeWorld() {
+        when(player.getWorld()).thenReturn(mock(World.class));
+        when(player.hasPermission("perm")).thenReturn(true);
+        assertTrue(user.hasPermission("perm"));
+        when(player.hasPermission("perm")).thenReturn(false);
+        when(player.getWorld()).thenReturn(mock(World.class));
+        assertFalse(user.hasPermission("perm"));
+    }
+
     /**
      * Asserts that {@link User#hasPermission(String)} returns true when the user is op.
      * @since 1.3.0
@@ -615,6 +647,27 @@ public class UserTest {
         assertEquals(3, u.getPermissionValue("bskyblock.max", 22));
     }
 
+    /**
+     * Test for {@link User#getPermissionValue(String, int)}
+     */
+    @Test
+    public void testGetPermissionValueCached() {
+        User.clearUsers();
+        PermissionAttachmentInfo pai = mock(PermissionAttachmentInfo.class);
+        when(pai.getPermission()).thenReturn("bskyblock.max.3");
+        when(pai.getValue()).thenReturn(true);
+        when(player.getEffectivePermissions()).thenReturn(Collections.singleton(pai));
+        User u = User.getInstance(player);
+        assertEquals(3, u.getPermissionValue("bskyblock.max", 22));
+        when(pai.getPermission()).thenReturn("bskyblock.max.*");
+        assertEquals(3, u.getPermissionValue("bskyblock.max", 22));
+        // Adding a permission clears the cache
+        u.addPerm("bskyblock.max.*");
+        assertEquals(22, u.getPermissionValue("bskyblock.max", 22));
+        assertEquals(5, u.getPermissionValue("bskyblock.max", 5));
+        verify(player, times(2)).getEffectivePermissions();
+    }
+
     @Test
     public void testMetaData() {
         User u = User.getInstance(player);
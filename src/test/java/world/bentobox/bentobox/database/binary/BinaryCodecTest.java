@@ -0,0 +1,220 @@
+package world.bentobox.bentobox.database.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * Tests for {@link BinaryCodec}
+ */
+public class BinaryCodecTest {
+
+    private static final Set<String> FIELDS = Set.of("uniqueId", "center", "range", "protectionRange", "world", "gameMode", "name",
+            "createdDate", "purgeProtected", "members", "flags", "spawnPoint", "history", "metaData");
+    /**
+     * Field names, flag IDs and the world name of {@link #island(int)}
+     */
+    private static final Predicate<String> VOCABULARY = s -> FIELDS.contains(s) || s.startsWith("SOME_PROTECTION_FLAG_")
+            || s.equals("bskyblock_world");
+
+    private File folder;
+    private StringDictionary dictionary;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("bentobox-binary").toFile();
+        dictionary = new StringDictionary(new File(folder, "dictionary.dic"));
+    }
+
+    @After
+    public void tearDown() {
+        File[] files = folder.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        folder.delete();
+    }
+
+    /**
+     * A JSON tree shaped like an island with the default settings
+     */
+    private static JsonObject island(int n) {
+        JsonObject island = new JsonObject();
+        island.addProperty("uniqueId", "BSkyBlock" + new UUID(n, n));
+        island.add("center", location("bskyblock_world", n * 400D, 120D, 0D));
+        island.addProperty("range", 200);
+        island.addProperty("protectionRange", 100);
+        island.addProperty("world", "bskyblock_world");
+        island.addProperty("gameMode", "BSkyBlock");
+        island.addProperty("name", "An island with quite a long name number " + n);
+        island.addProperty("createdDate", 1_700_000_000_000L + n);
+        island.addProperty("purgeProtected", false);
+        JsonObject members = new JsonObject();
+        members.addProperty(new UUID(n, 1).toString(), 1000);
+        members.addProperty(new UUID(n, 2).toString(), 500);
+        island.add("members", members);
+        JsonObject flags = new JsonObject();
+        for (int i = 0; i < 80; i++) {
+            flags.addProperty("SOME_PROTECTION_FLAG_" + i, i % 3 == 0 ? 500 : 0);
+        }
+        island.add("flags", flags);
+        JsonArray spawn = new JsonArray();
+        JsonArray pair = new JsonArray();
+        pair.add("NORMAL");
+        pair.add(location("bskyblock_world", n * 400.5, 121D, 0.5));
+        spawn.add(pair);
+        island.add("spawnPoint", spawn);
+        island.add("history", new JsonArray());
+        island.add("metaData", JsonNull.INSTANCE);
+        return island;
+    }
+
+    private static JsonArray location(String world, double x, double y, double z) {
+        JsonArray location = new JsonArray();
+        location.add(world);
+        location.add(x);
+        location.add(y);
+        location.add(z);
+        location.add(90D);
+        location.add(-12.5D);
+        return location;
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#encode(JsonElement, StringDictionary, Predicate)}.
+     */
+    @Test
+    public void testRoundTrip() throws IOException {
+        JsonObject island = island(7);
+        assertEquals(island, BinaryCodec.decode(BinaryCodec.encode(island, dictionary, VOCABULARY), dictionary));
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#encode(JsonElement, StringDictionary, Predicate)}.
+     */
+    @Test
+    public void testRoundTripParsedJson() throws IOException {
+        String json = "{\"a\":1,\"b\":-2.5,\"c\":0.1,\"d\":12345678901234567890123,\"e\":1.00000000000000000001,\"f\":-0.0,\"g\":true,\"h\":\"\u00e9\u4e2d\"}";
+        JsonElement decoded = BinaryCodec.decode(BinaryCodec.encode(JsonParser.parseString(json), dictionary, VOCABULARY), dictionary);
+        JsonObject object = decoded.getAsJsonObject();
+        assertEquals(1, object.get("a").getAsInt());
+        assertEquals(-2.5, object.get("b").getAsDouble(), 0D);
+        assertEquals(0.1, object.get("c").getAsDouble(), 0D);
+        assertEquals(new BigDecimal("12345678901234567890123"), object.get("d").getAsBigDecimal());
+        assertEquals(new BigDecimal("1.00000000000000000001"), object.get("e").getAsBigDecimal());
+        assertEquals(Double.doubleToRawLongBits(-0D), Double.doubleToRawLongBits(object.get("f").getAsDouble()));
+        assertTrue(object.get("g").getAsBoolean());
+        assertEquals("\u00e9\u4e2d", object.get("h").getAsString());
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#encode(JsonElement, StringDictionary, Predicate)}.
+     */
+    @Test
+    public void testDictionaryShared() {
+        BinaryCodec.encode(island(1), dictionary, VOCABULARY);
+        int size = dictionary.size();
+        BinaryCodec.encode(island(2), dictionary, VOCABULARY);
+        // Flag IDs, field names and the world name are only added once
+        assertEquals(size, dictionary.size());
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#encode(JsonElement, StringDictionary, Predicate)}.
+     */
+    @Test
+    public void testFreeTextNotInDictionary() throws IOException {
+        JsonObject object = new JsonObject();
+        object.addProperty("name", "Bob");
+        JsonObject homes = new JsonObject();
+        homes.add("my base", location("bskyblock_world", 1D, 2D, 3D));
+        object.add("homes", homes);
+        assertEquals(object, BinaryCodec.decode(BinaryCodec.encode(object, dictionary, VOCABULARY), dictionary));
+        // Only the field name and the world name
+        assertEquals(2, dictionary.size());
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#isUUID(String)}.
+     */
+    @Test
+    public void testIsUUID() {
+        assertTrue(BinaryCodec.isUUID(UUID.randomUUID().toString()));
+        assertFalse(BinaryCodec.isUUID(UUID.randomUUID().toString().toUpperCase()));
+        assertFalse(BinaryCodec.isUUID("BSkyBlock" + UUID.randomUUID()));
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#decode(byte[], StringDictionary)}.
+     */
+    @Test(expected = IOException.class)
+    public void testDecodeTruncated() throws IOException {
+        byte[] record = BinaryCodec.encode(island(1), dictionary, VOCABULARY);
+        BinaryCodec.decode(Arrays.copyOf(record, record.length - 3), dictionary);
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#decode(byte[], StringDictionary)}.
+     */
+    @Test(expected = IOException.class)
+    public void testDecodeNewerVersion() throws IOException {
+        byte[] record = BinaryCodec.encode(island(1), dictionary, VOCABULARY);
+        record[4] = (byte) (BinaryCodec.VERSION + 1);
+        BinaryCodec.decode(record, dictionary);
+    }
+
+    /**
+     * Test method for {@link BinaryCodec#decode(byte[], StringDictionary)}.
+     */
+    @Test
+    public void testDictionaryReload() throws IOException {
+        JsonObject island = island(3);
+        byte[] record = BinaryCodec.encode(island, dictionary, VOCABULARY);
+        dictionary.flush();
+        StringDictionary reloaded = new StringDictionary(new File(folder, "dictionary.dic"));
+        reloaded.load();
+        assertEquals(island, BinaryCodec.decode(record, reloaded));
+    }
+
+    /**
+     * Compares the disk size with pretty printed JSON, which is how the JSON database stores objects.
+     */
+    @Test
+    public void testSmallerThanJson() throws IOException {
+        Gson gson = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+        int count = 2000;
+        long jsonBytes = 0;
+        long binaryBytes = 0;
+        for (int i = 0; i < count; i++) {
+            jsonBytes += gson.toJson(island(i)).getBytes(StandardCharsets.UTF_8).length;
+            binaryBytes += BinaryCodec.encode(island(i), dictionary, VOCABULARY).length;
+        }
+        dictionary.flush();
+        binaryBytes += new File(folder, "dictionary.dic").length();
+        assertTrue("binary " + binaryBytes + " json " + jsonBytes, binaryBytes * 4 < jsonBytes);
+    }
+}
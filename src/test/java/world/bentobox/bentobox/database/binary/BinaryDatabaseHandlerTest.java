@@ -0,0 +1,132 @@
+package world.bentobox.bentobox.database.binary;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+import com.google.gson.JsonObject;
+import com.google.gson.annotations.Expose;
+
+import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.database.DatabaseConnector;
+import world.bentobox.bentobox.database.objects.DataObject;
+
+/**
+ * Tests for {@link BinaryDatabaseHandler}
+ */
+@RunWith(PowerMockRunner.class)
+public class BinaryDatabaseHandlerTest {
+
+    @Mock
+    private BentoBox plugin;
+    @Mock
+    private DatabaseConnector connector;
+
+    private File folder;
+
+    public static class TestObject implements DataObject {
+        @Expose
+        private String uniqueId;
+        @Expose
+        private String text;
+
+        public TestObject() {}
+
+        TestObject(String uniqueId, String text) {
+            this.uniqueId = uniqueId;
+            this.text = text;
+        }
+
+        @Override
+        public String getUniqueId() {
+            return uniqueId;
+        }
+
+        @Override
+        public void setUniqueId(String uniqueId) {
+            this.uniqueId = uniqueId;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("bentobox-binary").toFile();
+        when(plugin.getDataFolder()).thenReturn(folder);
+        // Disabled, so saves are written straight away
+        when(plugin.isEnabled()).thenReturn(false);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder.toPath())) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+        Mockito.framework().clearInlineMocks();
+    }
+
+    /**
+     * Test method for {@link BinaryDatabaseHandler#saveObject(Object)}.
+     * Two handlers on the same table must not give out the same dictionary index for different strings.
+     */
+    @Test
+    public void testTwoHandlersOneTable() throws Exception {
+        BinaryDatabaseHandler<TestObject> first = new BinaryDatabaseHandler<>(plugin, TestObject.class, connector);
+        BinaryDatabaseHandler<TestObject> second = new BinaryDatabaseHandler<>(plugin, TestObject.class, connector);
+        assertTrue(first.saveObject(new TestObject("one", "alpha")).get());
+        assertTrue(second.saveObject(new TestObject("two", "beta")).get());
+        assertTrue(first.saveObject(new TestObject("three", "gamma")).get());
+
+        // Read the files back with a dictionary loaded from disk
+        File table = new File(new File(folder, "database"), TestObject.class.getSimpleName());
+        StringDictionary dictionary = new StringDictionary(new File(table, "dictionary.dic"));
+        dictionary.load();
+        assertText(table, dictionary, "one", "alpha");
+        assertText(table, dictionary, "two", "beta");
+        assertText(table, dictionary, "three", "gamma");
+        // Only the field names are in the dictionary, the values are in the records
+        assertEquals(2, dictionary.size());
+        // And through the handlers
+        assertEquals("beta", first.loadObject("two").getText());
+        assertEquals("gamma", second.loadObject("three").getText());
+    }
+
+    /**
+     * Test method for {@link StringDictionary#open(File)}.
+     */
+    @Test
+    public void testOpenSameFile() {
+        File file = new File(folder, "dictionary.dic");
+        assertSame(StringDictionary.open(file), StringDictionary.open(new File(new File(folder, "."), "dictionary.dic")));
+    }
+
+    private void assertText(File table, StringDictionary dictionary, String uniqueId, String text) throws IOException {
+        JsonObject object = BinaryCodec.decode(Files.readAllBytes(new File(table, uniqueId + BinaryDatabaseHandler.BIN).toPath()), dictionary)
+                .getAsJsonObject();
+        assertEquals(uniqueId, object.get("uniqueId").getAsString());
+        assertEquals(text, object.get("text").getAsString());
+    }
+}
@@ -0,0 +1,117 @@
+package world.bentobox.bentobox.database.binary;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StringDictionary}
+ */
+public class StringDictionaryTest {
+
+    private File folder;
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("bentobox-dictionary").toFile();
+        file = new File(folder, "dictionary.dic");
+    }
+
+    @After
+    public void tearDown() {
+        file.delete();
+        folder.delete();
+    }
+
+    /**
+     * Test method for {@link StringDictionary#intern(String)}.
+     */
+    @Test
+    public void testIntern() throws IOException {
+        StringDictionary dictionary = new StringDictionary(file);
+        assertEquals(0, dictionary.intern("world"));
+        assertEquals(1, dictionary.intern("PVP_OVERWORLD"));
+        assertEquals(0, dictionary.intern("world"));
+        assertEquals("PVP_OVERWORLD", dictionary.get(1));
+        assertEquals(2, dictionary.size());
+    }
+
+    /**
+     * Test method for {@link StringDictionary#get(int)}.
+     */
+    @Test(expected = IOException.class)
+    public void testGetUnknown() throws IOException {
+        new StringDictionary(file).get(0);
+    }
+
+    /**
+     * Test method for {@link StringDictionary#flush()}.
+     */
+    @Test
+    public void testFlushAndLoad() throws IOException {
+        StringDictionary dictionary = new StringDictionary(file);
+        for (int i = 0; i < 200; i++) {
+            dictionary.intern("entry" + i);
+        }
+        dictionary.flush();
+        dictionary.intern("more");
+        dictionary.flush();
+
+        StringDictionary loaded = new StringDictionary(file);
+        loaded.load();
+        assertEquals(201, loaded.size());
+        assertEquals("entry150", loaded.get(150));
+        assertEquals(200, loaded.intern("more"));
+    }
+
+    /**
+     * Test method for {@link StringDictionary#load()}.
+     */
+    @Test
+    public void testLoadPartlyWritten() throws IOException {
+        StringDictionary dictionary = new StringDictionary(file);
+        dictionary.intern("a");
+        dictionary.intern("b");
+        dictionary.flush();
+        long length = file.length();
+        // An entry that says it is 10 bytes long, but is cut off
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[] {10, 'c', 'd'});
+        }
+
+        StringDictionary loaded = new StringDictionary(file);
+        loaded.load();
+        assertEquals(2, loaded.size());
+        assertEquals(length, file.length());
+        // New entries start after the last whole entry
+        loaded.intern("c");
+        loaded.flush();
+        StringDictionary reloaded = new StringDictionary(file);
+        reloaded.load();
+        assertEquals("c", reloaded.get(2));
+    }
+
+    /**
+     * Test method for {@link StringDictionary#flush()}.
+     */
+    @Test(expected = IOException.class)
+    public void testNoFlushAfterFailedLoad() throws IOException {
+        Files.write(file.toPath(), new byte[] {1, 2, 3, 4, 5, 6});
+        StringDictionary dictionary = new StringDictionary(file);
+        try {
+            dictionary.load();
+        } catch (IOException e) {
+            // Expected
+        }
+        dictionary.intern("a");
+        dictionary.flush();
+    }
+}
@@ -0,0 +1,125 @@
+package world.bentobox.bentobox.database.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ParallelLoader}
+ */
+public class ParallelLoaderTest {
+
+    private static List<Callable<Integer>> tasks(int count) {
+        return IntStream.range(0, count).<Callable<Integer>>mapToObj(i -> () -> {
+            // Make the tasks finish out of order
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+            return i;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Test method for {@link ParallelLoader#next()}.
+     */
+    @Test
+    public void testInOrder() {
+        List<Integer> result = new ArrayList<>();
+        try (ParallelLoader<Integer> loader = new ParallelLoader<>(tasks(500).iterator(), 4)) {
+            loader.forEachRemaining(result::add);
+        }
+        assertEquals(IntStream.range(0, 500).boxed().collect(Collectors.toList()), result);
+    }
+
+    /**
+     * Test method for {@link ParallelLoader#next()}.
+     */
+    @Test
+    public void testSkipsNulls() {
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        tasks.add(() -> null);
+        tasks.add(() -> 1);
+        tasks.add(() -> null);
+        tasks.add(() -> 2);
+        tasks.add(() -> null);
+        List<Integer> result = new ArrayList<>();
+        try (ParallelLoader<Integer> loader = new ParallelLoader<>(tasks.iterator(), 2)) {
+            loader.forEachRemaining(result::add);
+        }
+        assertEquals(List.of(1, 2), result);
+    }
+
+    /**
+     * Test method for {@link ParallelLoader#hasNext()}.
+     */
+    @Test
+    public void testEmpty() {
+        try (ParallelLoader<Integer> loader = new ParallelLoader<>(new ArrayList<Callable<Integer>>().iterator(), 2)) {
+            assertFalse(loader.hasNext());
+        }
+    }
+
+    /**
+     * Test method for {@link ParallelLoader#next()}.
+     */
+    @Test
+    public void testBoundedReadAhead() {
+        AtomicInteger taken = new AtomicInteger();
+        Iterator<Callable<Integer>> source = tasks(1000).iterator();
+        Iterator<Callable<Integer>> counting = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public Callable<Integer> next() {
+                taken.incrementAndGet();
+                return source.next();
+            }
+        };
+        try (ParallelLoader<Integer> loader = new ParallelLoader<>(counting, 2)) {
+            assertEquals(0, loader.next().intValue());
+            // Only a window of tasks is read ahead of the caller
+            assertTrue(taken.get() < 100);
+        }
+    }
+
+    /**
+     * Test method for {@link ParallelLoader#close()}.
+     */
+    @Test
+    public void testClose() {
+        ParallelLoader<Integer> loader = new ParallelLoader<>(tasks(100).iterator(), 2);
+        assertTrue(loader.hasNext());
+        loader.close();
+        loader.next();
+        assertFalse(loader.hasNext());
+    }
+
+    /**
+     * Test method for {@link ParallelLoader#close()}.
+     */
+    @Test
+    public void testCloseLeavesOtherLoaders() {
+        List<Integer> result = new ArrayList<>();
+        try (ParallelLoader<Integer> loader = new ParallelLoader<>(tasks(200).iterator(), 2)) {
+            assertEquals(0, loader.next().intValue());
+            // Closing one loader must not stop the shared threads
+            ParallelLoader<Integer> other = new ParallelLoader<>(tasks(100).iterator(), 2);
+            assertTrue(other.hasNext());
+            other.close();
+            loader.forEachRemaining(result::add);
+        }
+        assertEquals(IntStream.range(1, 200).boxed().collect(Collectors.toList()), result);
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
@@ -33,12 +34,18 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.api.flags.Flag;
 import world.bentobox.bentobox.api.flags.Flag.Type;
 import world.bentobox.bentobox.api.logs.LogEntry;
 import world.bentobox.bentobox.api.metadata.MetaDataValue;
 import world.bentobox.bentobox.api.user.User;
+import world.bentobox.bentobox.database.json.BentoboxTypeAdapterFactory;
 import world.bentobox.bentobox.lists.Flags;
 import world.bentobox.bentobox.managers.CommandsManager;
 import world.bentobox.bentobox.managers.FlagsManager;
@@ -133,6 +140,56 @@ public class IslandTest {
         assertEquals(DISTANCE, i.getRange());
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.objects.Island#snapshot()}.
+     */
+    @Test
+    public void testSnapshot() {
+        i.addMember(m);
+        i.setPrimary(true);
+        i.log(new LogEntry.Builder("TEST").build());
+        Island snapshot = i.snapshot();
+        assertEquals(i.getUniqueId(), snapshot.getUniqueId());
+        assertEquals(i.getCenter(), snapshot.getCenter());
+        assertTrue(snapshot.isPrimary());
+        assertTrue(snapshot.getMemberSet().contains(m));
+        assertEquals(1, snapshot.getHistory().size());
+        // Changes to the island do not change the snapshot
+        UUID other = UUID.randomUUID();
+        i.addMember(other);
+        i.log(new LogEntry.Builder("TEST2").build());
+        i.setSpawnPoint(Environment.NORMAL, location);
+        assertFalse(snapshot.getMemberSet().contains(other));
+        assertEquals(1, snapshot.getHistory().size());
+        assertTrue(snapshot.getSpawnPoint().isEmpty());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.objects.Island#snapshot()}.
+     * Saving and loading the island must not add the bonus ranges to the stored protection range.
+     */
+    @Test
+    public void testSnapshotKeepsRawProtectionRange() {
+        Gson gson = new GsonBuilder().excludeFieldsWithoutExposeAnnotation().enableComplexMapKeySerialization()
+                .registerTypeAdapterFactory(new BentoboxTypeAdapterFactory(plugin)).create();
+        i.addBonusRange("test", 50, "bonus");
+        assertEquals(150, i.getProtectionRange());
+        i.setChanged(false);
+        Island loaded = i;
+        for (int n = 0; n < 2; n++) {
+            String json = gson.toJson(loaded.snapshot());
+            JsonObject object = JsonParser.parseString(json).getAsJsonObject();
+            assertEquals(100, object.get("protectionRange").getAsInt());
+            assertEquals(150, object.get("maxEverProtectionRange").getAsInt());
+            loaded = gson.fromJson(json, Island.class);
+            assertEquals(100, loaded.getRawProtectionRange());
+            assertEquals(150, loaded.getProtectionRange());
+            assertEquals(1, loaded.getBonusRanges().size());
+        }
+        // Taking the snapshot does not change the island
+        assertFalse(i.isChanged());
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.database.objects.Island#addMember(java.util.UUID)}.
      */
@@ -196,6 +253,24 @@ public class IslandTest {
         assertEquals(500, i.getFlag(Flags.BREAK_BLOCKS));
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.objects.Island#getFlag(world.bentobox.bentobox.api.flags.Flag)}.
+     */
+    @Test
+    public void testGetFlagSetFlag() {
+        i.setChanged(false);
+        assertEquals(500, i.getFlag(Flags.BREAK_BLOCKS));
+        // Reading a flag does not change the island
+        assertTrue(i.getFlags().isEmpty());
+        assertFalse(i.isChanged());
+        i.setFlag(Flags.BREAK_BLOCKS, 1000, false);
+        assertEquals(1000, i.getFlag(Flags.BREAK_BLOCKS));
+        i.getFlags().remove(Flags.BREAK_BLOCKS.getID());
+        assertEquals(500, i.getFlag(Flags.BREAK_BLOCKS));
+        i.setFlags(Map.of(Flags.BREAK_BLOCKS.getID(), 0));
+        assertEquals(0, i.getFlag(Flags.BREAK_BLOCKS));
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.database.objects.Island#getFlags()}.
      */
@@ -554,6 +629,44 @@ public class IslandTest {
         assertTrue(i.onIsland(location));
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.objects.Island#onIsland(World, int, int)}.
+     */
+    @Test
+    public void testOnIslandWorldXZ() {
+        i.setWorld(world);
+        assertTrue(i.onIsland(world, -100, -100));
+        assertTrue(i.onIsland(world, 99, 99));
+        assertFalse(i.onIsland(world, 100, 0));
+        assertFalse(i.onIsland(world, 0, -101));
+        // Nether
+        World nether = mock(World.class);
+        when(nether.getName()).thenReturn("bskyblock_world_nether");
+        when(nether.getEnvironment()).thenReturn(Environment.NETHER);
+        assertFalse(i.onIsland(nether, 0, 0));
+        when(iwm.isIslandNether(nether)).thenReturn(true);
+        assertTrue(i.onIsland(nether, 0, 0));
+        // Other world
+        World other = mock(World.class);
+        when(other.getName()).thenReturn("world");
+        when(other.getEnvironment()).thenReturn(Environment.NORMAL);
+        assertFalse(i.onIsland(other, 0, 0));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.objects.Island#setProtectionRange(int)}.
+     */
+    @Test
+    public void testSetProtectionRangeUpdatesProtectedArea() {
+        i.setWorld(world);
+        assertEquals(-100, i.getMinProtectedX());
+        i.setProtectionRange(50);
+        assertEquals(-50, i.getMinProtectedX());
+        assertEquals(50, i.getMaxProtectedZ());
+        assertFalse(i.onIsland(world, 50, 0));
+        assertTrue(i.onIsland(world, 49, 0));
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.database.objects.Island#getProtectionBoundingBox()}.
      */
@@ -17,6 +17,11 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
 
 import org.bukkit.Bukkit;
 import org.bukkit.plugin.PluginManager;
@@ -26,6 +31,7 @@ import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
@@ -35,7 +41,9 @@ import org.powermock.reflect.Whitebox;
 
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.Settings;
+import world.bentobox.bentobox.database.DatabaseQuery;
 import world.bentobox.bentobox.database.objects.Island;
+import world.bentobox.bentobox.database.objects.IslandIndexes;
 import world.bentobox.bentobox.util.Util;
 
 /**
@@ -76,6 +84,8 @@ public class MySQLDatabaseHandlerTest {
     @Mock
     private PluginManager pluginManager;
     @Mock
+    private DataSource dataSource;
+    @Mock
     private Connection connection;
     @Mock
     private PreparedStatement ps;
@@ -102,7 +112,8 @@ public class MySQLDatabaseHandlerTest {
         when(Bukkit.getPluginManager()).thenReturn(pluginManager);
 
         // MySQLDatabaseConnector
-        when(dbConn.createConnection(any())).thenReturn(connection);
+        when(dbConn.createConnection(any())).thenReturn(dataSource);
+        when(dataSource.getConnection()).thenReturn(connection);
 
         // Queries
         when(connection.prepareStatement(Mockito.anyString())).thenReturn(ps);
@@ -204,6 +215,62 @@ public class MySQLDatabaseHandlerTest {
 
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.sql.SQLDatabaseHandler#streamObjects()}.
+     */
+    @Test
+    public void testStreamObjects() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(any())).thenReturn(JSON);
+        // Three islands
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(ps.executeQuery(Mockito.anyString())).thenReturn(resultSet);
+        List<Island> objects;
+        try (Stream<Island> stream = handler.streamObjects()) {
+            objects = stream.collect(Collectors.toList());
+        }
+        verify(ps).executeQuery("SELECT `json` FROM `Islands`");
+        assertEquals(3, objects.size());
+        assertEquals("xyz", objects.get(2).getUniqueId());
+        // The connection is released when the stream is closed
+        verify(connection).close();
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.sql.SQLDatabaseHandler#query(DatabaseQuery)}.
+     */
+    @Test
+    public void testQuery() throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString(any())).thenReturn(JSON);
+        when(resultSet.next()).thenReturn(true, false);
+        when(ps.executeQuery()).thenReturn(resultSet);
+        DatabaseQuery<Island> query = DatabaseQuery.where(IslandIndexes.WORLD, "bskyblock_world")
+                .and(IslandIndexes.DELETED, false).after("abc").limit(10);
+        try (Stream<Island> stream = handler.query(query)) {
+            assertEquals(1, stream.count());
+        }
+        verify(connection).prepareStatement("SELECT `json` FROM `Islands` WHERE json->>'$.world' = ? AND json->>'$.deleted' = ?"
+                + " AND uniqueId > ? ORDER BY uniqueId LIMIT 10");
+        verify(ps).setObject(1, "bskyblock_world");
+        verify(ps).setObject(2, "false");
+        verify(ps).setObject(3, "\"abc\"");
+        verify(connection).close();
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.sql.SQLDatabaseHandler#query(DatabaseQuery)}.
+     */
+    @Test
+    public void testQueryArrayPath() throws SQLException {
+        DatabaseQuery<Island> query = DatabaseQuery.where(IslandIndexes.CENTER_X, 400D);
+        try (Stream<Island> stream = handler.query(query)) {
+            assertEquals(0, stream.count());
+        }
+        verify(connection).prepareStatement("SELECT `json` FROM `Islands` WHERE json->>'$.center[1]' = ? ORDER BY uniqueId");
+        verify(ps).setObject(1, 400D);
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.database.sql.mysql.MySQLDatabaseHandler#loadObject(java.lang.String)}.
      */
@@ -330,6 +397,77 @@ public class MySQLDatabaseHandlerTest {
 
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.sql.mysql.MySQLDatabaseHandler#saveObject(java.lang.Object)}.
+     */
+    @Test
+    public void testSaveObjectCoalesced() throws SQLException {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(sch).runTaskTimerAsynchronously(eq(plugin), task.capture(), eq(0L), eq(1L));
+        CompletableFuture<Boolean> first = handler.saveObject(instance);
+        CompletableFuture<Boolean> second = handler.saveObject(instance);
+        // Nothing is written until the queue is processed
+        assertFalse(first.isDone());
+        task.getValue().run();
+        // Both saves are written as one row in one transaction
+        verify(ps).addBatch();
+        verify(ps).executeBatch();
+        verify(connection).commit();
+        assertTrue(first.join());
+        assertTrue(second.join());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.sql.mysql.MySQLDatabaseHandler#saveObject(java.lang.Object)}.
+     */
+    @Test
+    public void testSaveObjectBatchFails() throws SQLException {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(sch).runTaskTimerAsynchronously(eq(plugin), task.capture(), eq(0L), eq(1L));
+        when(ps.executeBatch()).thenThrow(new SQLException("fail!"));
+        Island other = new Island();
+        other.setUniqueId("abc");
+        CompletableFuture<Boolean> first = handler.saveObject(instance);
+        CompletableFuture<Boolean> second = handler.saveObject(other);
+        task.getValue().run();
+        verify(connection).rollback();
+        // Schema creation plus one write for each object
+        verify(ps, Mockito.times(3)).execute();
+        assertTrue(first.join());
+        assertTrue(second.join());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.sql.mysql.MySQLDatabaseHandler#saveObject(java.lang.Object)}.
+     */
+    @Test
+    public void testSaveObjectBatchThrows() throws SQLException {
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(sch).runTaskTimerAsynchronously(eq(plugin), task.capture(), eq(0L), eq(1L));
+        when(ps.executeBatch()).thenThrow(new IllegalStateException("broken")).thenReturn(new int[0]);
+        CompletableFuture<Boolean> first = handler.saveObject(instance);
+        task.getValue().run();
+        // The save fails instead of being left waiting
+        assertFalse(first.join());
+        verify(plugin).logError("Could not write 1 Island objects broken");
+        // Later saves are still written
+        CompletableFuture<Boolean> second = handler.saveObject(instance);
+        task.getValue().run();
+        assertTrue(second.join());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.database.sql.SQLDatabaseHandler#close()}.
+     */
+    @Test
+    public void testCloseWritesQueuedSaves() throws SQLException {
+        CompletableFuture<Boolean> future = handler.saveObject(instance);
+        assertFalse(future.isDone());
+        handler.close();
+        verify(ps).executeBatch();
+        assertTrue(future.join());
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.database.sql.mysql.MySQLDatabaseHandler#deleteObject(java.lang.Object)}.
      */
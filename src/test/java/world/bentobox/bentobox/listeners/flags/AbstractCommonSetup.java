@@ -5,7 +5,6 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,8 +17,6 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemFactory;
 import org.bukkit.inventory.PlayerInventory;
-import org.bukkit.metadata.FixedMetadataValue;
-import org.bukkit.metadata.MetadataValue;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.util.Vector;
 import org.eclipse.jdt.annotation.Nullable;
@@ -37,6 +34,7 @@ import com.google.common.collect.ImmutableSet;
 import world.bentobox.bentobox.BentoBox;
 import world.bentobox.bentobox.Settings;
 import world.bentobox.bentobox.api.configuration.WorldSettings;
+import world.bentobox.bentobox.api.flags.WhyDebug;
 import world.bentobox.bentobox.api.user.Notifier;
 import world.bentobox.bentobox.api.user.User;
 import world.bentobox.bentobox.database.objects.Island;
@@ -149,8 +147,8 @@ public abstract class AbstractCommonSetup {
         when(island.getMemberSet()).thenReturn(ImmutableSet.of(uuid));
 
         // Enable reporting from Flags class
-        MetadataValue mdv = new FixedMetadataValue(plugin, "_why_debug");
-        when(player.getMetadata(anyString())).thenReturn(Collections.singletonList(mdv));
+        when(world.getName()).thenReturn("world");
+        WhyDebug.start(uuid, "world", null);
 
         // Locales & Placeholders
         LocalesManager lm = mock(LocalesManager.class);
@@ -203,6 +201,7 @@ public abstract class AbstractCommonSetup {
     @After
     public void tearDown() throws Exception {
         User.clearUsers();
+        WhyDebug.clear();
         Mockito.framework().clearInlineMocks();
     }
 
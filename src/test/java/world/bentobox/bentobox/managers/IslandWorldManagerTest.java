@@ -149,6 +149,48 @@ public class IslandWorldManagerTest {
         assertFalse(iwm.inWorld((World)null));
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.IslandWorldManager#inWorld(org.bukkit.World)}.
+     */
+    @Test
+    public void testInWorldNetherEnd() {
+        when(netherWorld.getEnvironment()).thenReturn(World.Environment.NETHER);
+        when(endWorld.getEnvironment()).thenReturn(World.Environment.THE_END);
+        when(ws.isNetherGenerate()).thenReturn(true);
+        when(ws.isEndGenerate()).thenReturn(true);
+        iwm.addGameMode(gm);
+        // Not island worlds
+        assertFalse(iwm.inWorld(netherWorld));
+        assertFalse(iwm.inWorld(endWorld));
+        when(ws.isNetherIslands()).thenReturn(true);
+        when(ws.isEndIslands()).thenReturn(true);
+        assertTrue(iwm.inWorld(netherWorld));
+        assertTrue(iwm.inWorld(endWorld));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.IslandWorldManager#getCachedOverWorld(org.bukkit.World)}.
+     */
+    @Test
+    public void testGetCachedOverWorld() {
+        when(ws.isNetherGenerate()).thenReturn(true);
+        when(ws.isEndGenerate()).thenReturn(true);
+        iwm.addGameMode(gm);
+        assertEquals(world, iwm.getCachedOverWorld(world));
+        assertEquals(world, iwm.getCachedOverWorld(netherWorld));
+        assertEquals(world, iwm.getCachedOverWorld(endWorld));
+        // Other worlds
+        World other = mock(World.class);
+        World otherNether = mock(World.class);
+        assertNull(iwm.getCachedOverWorld(otherNether));
+        iwm.cacheOverWorld(otherNether, other);
+        assertEquals(other, iwm.getCachedOverWorld(otherNether));
+        // Clearing the cache keeps the game mode worlds
+        iwm.clearOverWorldCache();
+        assertNull(iwm.getCachedOverWorld(otherNether));
+        assertEquals(world, iwm.getCachedOverWorld(netherWorld));
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.managers.IslandWorldManager#getWorlds()}.
      */
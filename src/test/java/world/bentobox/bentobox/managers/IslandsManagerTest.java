@@ -6,6 +6,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -24,10 +25,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
@@ -362,6 +365,40 @@ public class IslandsManagerTest extends AbstractCommonSetup {
         assertTrue(im.isSafeLocation(location));
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.IslandsManager#isKnownSafeLocation(org.bukkit.Location)}.
+     */
+    @Test
+    public void testIsKnownSafeLocation() {
+        assertFalse(im.isKnownSafeLocation(location));
+        when(ground.getType()).thenReturn(Material.WATER);
+        assertFalse(im.isSafeLocation(location));
+        assertFalse(im.isKnownSafeLocation(location));
+        when(ground.getType()).thenReturn(Material.STONE);
+        assertTrue(im.isSafeLocation(location));
+        assertTrue(im.isKnownSafeLocation(location));
+        im.getSafeLocationCache().clear();
+        assertFalse(im.isKnownSafeLocation(location));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.IslandsManager#isKnownSafeLocation(org.bukkit.Location)}.
+     */
+    @Test
+    public void testIsKnownSafeLocationChunkLoaded() {
+        assertTrue(im.isSafeLocation(location));
+        // Lava poured without any event being seen
+        when(space1.getType()).thenReturn(Material.LAVA);
+        // Not loaded, so the blocks are not looked at
+        when(world.isChunkLoaded(anyInt(), anyInt())).thenReturn(false);
+        assertTrue(im.isKnownSafeLocation(location));
+        // Loaded, so the blocks are checked again
+        when(world.isChunkLoaded(anyInt(), anyInt())).thenReturn(true);
+        assertFalse(im.isKnownSafeLocation(location));
+        when(space1.getType()).thenReturn(Material.AIR);
+        assertFalse(im.isKnownSafeLocation(location));
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.managers.IslandsManager#isSafeLocation(org.bukkit.Location)}.
      */
@@ -391,6 +428,23 @@ public class IslandsManagerTest extends AbstractCommonSetup {
         assertFalse(im.isSafeLocation(location));
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.IslandsManager#checkIfSafe(World, Material, Material, Material)}.
+     */
+    @Test
+    public void testCheckIfSafeWater() {
+        assertTrue(im.checkIfSafe(world, Material.STONE, Material.WATER, Material.AIR));
+        assertFalse(im.checkIfSafe(world, Material.STONE, Material.WATER, Material.WATER));
+        assertTrue(im.checkIfSafe(world, Material.STONE, Material.AIR, Material.WATER));
+        when(iwm.isWaterNotSafe(world)).thenReturn(true);
+        assertFalse(im.checkIfSafe(world, Material.STONE, Material.WATER, Material.AIR));
+        assertTrue(im.checkIfSafe(world, Material.STONE, Material.AIR, Material.WATER));
+        // Rebuilding the table gives the same answers
+        im.rebuildSafeBlockTable();
+        assertFalse(im.checkIfSafe(world, Material.STONE, Material.WATER, Material.AIR));
+        assertTrue(im.checkIfSafe(world, Material.STONE, Material.AIR, Material.AIR));
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void testCheckIfSafeTrapdoor() {
@@ -1070,6 +1124,29 @@ public class IslandsManagerTest extends AbstractCommonSetup {
         assertEquals(13, members.size());
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.IslandsManager#clearRank(int, UUID)}.
+     */
+    @Test
+    public void testClearRankSaved() {
+        Island island = new Island();
+        UUID coopUUID = UUID.randomUUID();
+        island.getMembers().put(coopUUID, RanksManager.COOP_RANK);
+        when(islandCache.getIslands()).thenReturn(List.of(island));
+        im.setIslandCache(islandCache);
+        im.setHandler(db);
+        when(db.saveObjectAsync(any())).thenReturn(CompletableFuture.completedFuture(true));
+        // Nothing removed, so nothing to save
+        im.clearRank(RanksManager.COOP_RANK, UUID.randomUUID());
+        im.saveAll();
+        verify(db, never()).saveObjectAsync(island);
+        // The removal must be written
+        im.clearRank(RanksManager.COOP_RANK, coopUUID);
+        assertTrue(island.getMembers().isEmpty());
+        im.saveAll();
+        verify(db).saveObjectAsync(island);
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.managers.IslandsManager#clearArea(Location)}.
      */
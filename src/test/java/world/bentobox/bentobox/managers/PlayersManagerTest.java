@@ -9,6 +9,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -19,6 +20,7 @@ import java.lang.reflect.InvocationTargetException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -26,6 +28,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -61,6 +64,7 @@ import world.bentobox.bentobox.database.DatabaseSetup;
 import world.bentobox.bentobox.database.DatabaseSetup.DatabaseType;
 import world.bentobox.bentobox.database.objects.Island;
 import world.bentobox.bentobox.database.objects.Players;
+import world.bentobox.bentobox.database.objects.Names;
 import world.bentobox.bentobox.hooks.VaultHook;
 import world.bentobox.bentobox.util.Util;
 
@@ -223,6 +227,7 @@ public class PlayersManagerTest {
 
         // Database
         db = mock(Database.class);
+        when(db.saveObjectAsync(any())).thenReturn(CompletableFuture.completedFuture(true));
 
         // Leave commands
         when(iwm.getOnLeaveCommands(any())).thenReturn(Collections.emptyList());
@@ -509,6 +514,120 @@ public class PlayersManagerTest {
         assertEquals(uuid,pm.getUUID(uuid.toString()));
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#getUUID(java.lang.String)}.
+     */
+    @Test
+    public void testGetUUIDIgnoresCase() {
+        pm.addPlayer(uuid);
+        assertEquals(uuid, pm.getUUID("TastyBento"));
+        when(user.getName()).thenReturn("newName");
+        pm.setPlayerName(user);
+        assertEquals(uuid, pm.getUUID("NEWNAME"));
+        assertNull(pm.getUUID("tastybento"));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#getNames(java.lang.String, int)}.
+     */
+    @Test
+    public void testGetNames() {
+        pm.setPlayerName(user);
+        // Players whose name is not known are not listed
+        when(Bukkit.getOfflinePlayer(notUUID)).thenReturn(mock(OfflinePlayer.class));
+        pm.addPlayer(notUUID);
+        assertEquals(List.of("tastybento"), pm.getNames("TAS", 10));
+        assertEquals(List.of("tastybento"), pm.getNames("", 10));
+        assertTrue(pm.getNames("x", 10).isEmpty());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#loadNames()}.
+     */
+    @Test
+    public void testLoadNames() throws Exception {
+        UUID other = UUID.randomUUID();
+        when(h.streamObjects()).thenReturn(Stream.<Object>of(new Names("BONNe", other), new Names("tastybento", uuid)));
+        pm.loadNames();
+        assertEquals(other, pm.getUUID("bonne"));
+        assertEquals(List.of("BONNe"), pm.getNames("b", 10));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#addPlayer(java.util.UUID)}.
+     */
+    @Test
+    public void testAddPlayerEvictsOfflinePlayers() {
+        when(plugin.getSettings().getPlayerCacheSize()).thenReturn(2);
+        pm.setHandler(db);
+        UUID online = UUID.randomUUID();
+        when(Bukkit.getPlayer(online)).thenReturn(p);
+        pm.addPlayer(online);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        pm.addPlayer(first);
+        pm.addPlayer(second);
+        // New players are only removed after they have been saved
+        pm.saveAll();
+        // Use the first player again
+        pm.addPlayer(first);
+        UUID third = UUID.randomUUID();
+        pm.addPlayer(third);
+        Collection<Players> cached = pm.getPlayers();
+        assertEquals(3, cached.size());
+        assertTrue(cached.stream().anyMatch(pl -> pl.getPlayerUUID().equals(online)));
+        assertTrue(cached.stream().anyMatch(pl -> pl.getPlayerUUID().equals(first)));
+        assertTrue(cached.stream().anyMatch(pl -> pl.getPlayerUUID().equals(third)));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#addPlayer(java.util.UUID)}.
+     */
+    @Test
+    public void testAddPlayerKeepsChangedPlayers() {
+        when(plugin.getSettings().getPlayerCacheSize()).thenReturn(1);
+        pm.setHandler(db);
+        for (int i = 0; i < 5; i++) {
+            pm.addPlayer(UUID.randomUUID());
+        }
+        // None of them have been saved
+        assertEquals(5, pm.getPlayers().size());
+        pm.saveAll();
+        UUID unsaved = UUID.randomUUID();
+        pm.addPlayer(unsaved);
+        UUID last = UUID.randomUUID();
+        pm.addPlayer(last);
+        // Only the new players, which have not been saved, are left
+        assertEquals(2, pm.getPlayers().size());
+        assertTrue(pm.getPlayers().stream().anyMatch(pl -> pl.getPlayerUUID().equals(unsaved)));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#addPlayer(java.util.UUID)}.
+     */
+    @Test
+    public void testAddPlayerKeepsPlayersUntilSaveWritten() {
+        when(plugin.getSettings().getPlayerCacheSize()).thenReturn(1);
+        pm.setHandler(db);
+        CompletableFuture<Boolean> write = new CompletableFuture<>();
+        when(db.saveObjectAsync(any())).thenReturn(write);
+        for (int i = 0; i < 5; i++) {
+            pm.addPlayer(UUID.randomUUID());
+        }
+        pm.saveAll();
+        // The saves have been queued but not written
+        pm.addPlayer(UUID.randomUUID());
+        pm.addPlayer(UUID.randomUUID());
+        assertEquals(7, pm.getPlayers().size());
+        write.complete(true);
+        pm.addPlayer(UUID.randomUUID());
+        UUID last = UUID.randomUUID();
+        pm.addPlayer(last);
+        // Only the saved players are removed
+        assertEquals(4, pm.getPlayers().size());
+        assertTrue(pm.getPlayers().stream().anyMatch(pl -> pl.getPlayerUUID().equals(last)));
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#isInTeleport(java.util.UUID)}.
      */
@@ -588,6 +707,36 @@ public class PlayersManagerTest {
         verify(db).saveObjectAsync(any());
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#saveAll()}.
+     */
+    @Test
+    public void testSaveAllOnlyChanged() {
+        pm.setHandler(db);
+        pm.addPlayer(uuid);
+        pm.saveAll();
+        // Nothing has changed since the last save
+        pm.saveAll();
+        verify(db).saveObjectAsync(any());
+        pm.setResets(world, uuid, 3);
+        pm.saveAll();
+        verify(db, times(2)).saveObjectAsync(any());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#saveAll()}.
+     */
+    @Test
+    public void testSaveAllFailed() {
+        when(db.saveObjectAsync(any())).thenReturn(CompletableFuture.completedFuture(false));
+        pm.setHandler(db);
+        pm.addPlayer(uuid);
+        pm.saveAll();
+        // The save failed, so try again
+        pm.saveAll();
+        verify(db, times(2)).saveObjectAsync(any());
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.managers.PlayersManager#saveAll(boolean)}.
      */
@@ -11,8 +11,15 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -291,6 +298,87 @@ public class IslandCacheTest {
         assertEquals(1, ic.size());
     }
 
+    /**
+     * Test for {@link IslandCache#size(World)}
+     */
+    @Test
+    public void testSizeWorld() {
+        assertEquals(0, ic.size(world));
+        ic.addIsland(island);
+        assertEquals(1, ic.size(world));
+        ic.deleteIslandFromCache(island);
+        assertEquals(0, ic.size(world));
+    }
+
+    /**
+     * Test for {@link IslandCache#getIslands(World)}
+     */
+    @Test
+    public void testGetIslandsWorld() {
+        assertTrue(ic.getIslands(world).isEmpty());
+        ic.addIsland(island);
+        assertEquals(1, ic.getIslands(world).size());
+        assertTrue(ic.getIslands(world).contains(island));
+        ic.deleteIslandFromCache(island.getUniqueId());
+        assertTrue(ic.getIslands(world).isEmpty());
+    }
+
+    /**
+     * Test for {@link IslandCache#deleteIslandFromCache(Island)} and {@link IslandCache#deleteIslandFromCache(String)}
+     * when purging many islands with teams
+     */
+    @Test
+    public void testPurgeWithTeams() {
+        when(iwm.getIslandDistance(any())).thenReturn(100);
+        ic = new IslandCache();
+        List<Island> islands = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Island is = new Island(new Location(world, (i % 50) * 200D, 0, (i / 50) * 200D), UUID.randomUUID(), 50);
+            is.addMember(UUID.randomUUID());
+            is.addMember(UUID.randomUUID());
+            islands.add(is);
+            assertTrue(ic.addIsland(is));
+        }
+        // Purge every other island
+        for (int i = 0; i < islands.size(); i += 2) {
+            Island is = islands.get(i);
+            if (i % 4 == 0) {
+                assertTrue(ic.deleteIslandFromCache(is));
+            } else {
+                ic.deleteIslandFromCache(is.getUniqueId());
+            }
+        }
+        assertEquals(1000, ic.size());
+        assertEquals(1000, ic.size(world));
+        for (int i = 0; i < islands.size(); i++) {
+            Island is = islands.get(i);
+            if (i % 2 == 0) {
+                assertNull(ic.getIslandById(is.getUniqueId()));
+                assertNull(ic.get(world, is.getOwner()));
+                is.getMemberSet().forEach(uuid -> assertTrue(ic.getIslands(world, uuid).isEmpty()));
+                assertNull(ic.getIslandAt(is.getCenter()));
+            } else {
+                assertEquals(is, ic.getIslandById(is.getUniqueId()));
+                assertEquals(is, ic.get(world, is.getOwner()));
+                is.getMemberSet().forEach(uuid -> assertEquals(is, ic.get(world, uuid)));
+                assertEquals(is, ic.getIslandAt(is.getCenter()));
+            }
+        }
+    }
+
+    /**
+     * Test for {@link IslandCache#removeIsland(Island)}
+     */
+    @Test
+    public void testRemoveIsland() {
+        ic.addIsland(island);
+        ic.removeIsland(island);
+        assertNull(ic.get(world, owner));
+        assertNull(ic.get(location));
+        assertNull(ic.getIslandById(island.getUniqueId()));
+        assertEquals(0, ic.size());
+    }
+
     /**
      * Test for {@link IslandCache#setOwner(Island, UUID)}
      */
@@ -324,4 +412,70 @@ public class IslandCacheTest {
         ic.resetAllFlags(world);
         verify(island).setFlagsDefaults();
     }
+
+    /**
+     * Reads from several threads while other threads create, re-own and delete islands.
+     * The islands that are not touched must always be found and no read may throw.
+     */
+    @Test
+    public void testConcurrentReadsWithChurn() throws Exception {
+        when(iwm.getIslandDistance(any())).thenReturn(100);
+        ic = new IslandCache();
+        List<Island> fixed = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Island is = new Island(new Location(world, i * 200D, 0, 0), UUID.randomUUID(), 50);
+            fixed.add(is);
+            assertTrue(ic.addIsland(is));
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+        // Writers
+        for (int t = 0; t < 2; t++) {
+            final int row = (t + 1) * 200;
+            futures.add(pool.submit(() -> {
+                for (int n = 0; n < 2000; n++) {
+                    Island is = new Island(new Location(world, (n % 100) * 200D, 0, row), UUID.randomUUID(), 50);
+                    if (ic.addIsland(is)) {
+                        ic.setOwner(is, UUID.randomUUID());
+                        if (n % 2 == 0) {
+                            ic.deleteIslandFromCache(is);
+                        } else {
+                            ic.deleteIslandFromCache(is.getUniqueId());
+                            ic.removeIsland(is);
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        // Readers
+        for (int t = 0; t < 4; t++) {
+            futures.add(pool.submit(() -> {
+                while (running.get()) {
+                    for (Island is : fixed) {
+                        assertEquals(is, ic.getIslandAt(is.getCenter()));
+                        assertEquals(is, ic.get(is.getCenter()));
+                        assertEquals(is, ic.getIslandById(is.getUniqueId()));
+                        assertEquals(is, ic.get(world, is.getOwner()));
+                    }
+                    ic.getIslands().forEach(Island::getUniqueId);
+                    ic.getIslands(world).forEach(Island::getUniqueId);
+                    ic.size(world);
+                }
+                return null;
+            }));
+        }
+        // Wait for the writers to finish then stop the readers
+        futures.get(0).get(60, TimeUnit.SECONDS);
+        futures.get(1).get(60, TimeUnit.SECONDS);
+        running.set(false);
+        for (Future<?> f : futures) {
+            // Rethrows any assertion failure from the threads
+            f.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        assertEquals(100, ic.size());
+        assertEquals(100, ic.getIslands(world).size());
+    }
 }
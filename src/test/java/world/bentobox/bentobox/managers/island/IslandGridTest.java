@@ -0,0 +1,208 @@
+package world.bentobox.bentobox.managers.island;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.powermock.reflect.Whitebox;
+
+import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.database.objects.Island;
+import world.bentobox.bentobox.managers.IslandWorldManager;
+
+/**
+ * @author tastybento
+ *
+ */
+@RunWith(PowerMockRunner.class)
+public class IslandGridTest {
+
+    private static final int DISTANCE = 100;
+
+    @Mock
+    private BentoBox plugin;
+    @Mock
+    private World world;
+    @Mock
+    private IslandWorldManager iwm;
+
+    private IslandGrid ig;
+
+    @Before
+    public void setUp() throws Exception {
+        Whitebox.setInternalState(BentoBox.class, "instance", plugin);
+        when(plugin.getIWM()).thenReturn(iwm);
+        when(iwm.getIslandDistance(any())).thenReturn(DISTANCE);
+        when(iwm.getIslandXOffset(any())).thenReturn(0);
+        when(iwm.getIslandZOffset(any())).thenReturn(0);
+        when(iwm.getIslandStartX(any())).thenReturn(0);
+        when(iwm.getIslandStartZ(any())).thenReturn(0);
+        ig = new IslandGrid(world);
+    }
+
+    @After
+    public void tearDown() {
+        Mockito.framework().clearInlineMocks();
+    }
+
+    private Island makeIsland(int x, int z, UUID owner) {
+        return new Island(new Location(world, x, 0, z), owner, 50);
+    }
+
+    /**
+     * Test method for {@link IslandGrid#addToGrid(Island)}.
+     */
+    @Test
+    public void testAddToGrid() {
+        Island island = makeIsland(0, 0, UUID.randomUUID());
+        assertTrue(ig.addToGrid(island));
+        assertEquals(island, ig.getIslandAt(0, 0));
+    }
+
+    /**
+     * Test method for {@link IslandGrid#addToGrid(Island)}.
+     */
+    @Test
+    public void testAddToGridDuplicate() {
+        UUID owner = UUID.randomUUID();
+        Island island = makeIsland(0, 0, owner);
+        assertTrue(ig.addToGrid(island));
+        Island dupe = makeIsland(0, 0, UUID.randomUUID());
+        assertFalse(ig.addToGrid(dupe));
+        // First loaded is kept because the owners are different
+        assertEquals(island, ig.getIslandAt(0, 0));
+        Mockito.verify(plugin).logError("Duplicate but different owner. Keeping first loaded.");
+    }
+
+    /**
+     * Test method for {@link IslandGrid#addToGrid(Island)}.
+     */
+    @Test
+    public void testAddToGridDuplicateUnowned() {
+        Island island = makeIsland(0, 0, null);
+        assertTrue(ig.addToGrid(island));
+        UUID owner = UUID.randomUUID();
+        Island dupe = makeIsland(0, 0, owner);
+        assertFalse(ig.addToGrid(dupe));
+        // The owned island is swapped in
+        assertEquals(owner, ig.getIslandAt(0, 0).getOwner());
+    }
+
+    /**
+     * Test method for {@link IslandGrid#getIslandAt(int, int)}.
+     */
+    @Test
+    public void testGetIslandAtGrid() {
+        Island island = makeIsland(400, -600, UUID.randomUUID());
+        ig.addToGrid(island);
+        // Corners of the island space
+        assertEquals(island, ig.getIslandAt(300, -700));
+        assertEquals(island, ig.getIslandAt(499, -501));
+        // Just outside
+        assertNull(ig.getIslandAt(299, -700));
+        assertNull(ig.getIslandAt(500, -600));
+        assertNull(ig.getIslandAt(400, -500));
+        assertNull(ig.getIslandAt(0, 0));
+    }
+
+    /**
+     * Test method for {@link IslandGrid#getIslandAt(int, int)}.
+     */
+    @Test
+    public void testGetIslandAtOffGrid() {
+        // Not on a multiple of the island distance
+        Island island = makeIsland(1050, 1050, UUID.randomUUID());
+        ig.addToGrid(island);
+        Island onGrid = makeIsland(800, 800, UUID.randomUUID());
+        ig.addToGrid(onGrid);
+        assertEquals(island, ig.getIslandAt(1050, 1050));
+        assertEquals(island, ig.getIslandAt(950, 950));
+        assertNull(ig.getIslandAt(949, 1050));
+        assertEquals(onGrid, ig.getIslandAt(800, 800));
+    }
+
+    /**
+     * Test method for {@link IslandGrid#getIslandAt(int, int)}.
+     */
+    @Test
+    public void testGetIslandAtNoGrid() {
+        // Unknown island distance for this world
+        when(iwm.getIslandDistance(any())).thenReturn(0);
+        ig = new IslandGrid(world);
+        Island island = makeIsland(0, 0, UUID.randomUUID());
+        ig.addToGrid(island);
+        assertEquals(island, ig.getIslandAt(10, 10));
+        assertNull(ig.getIslandAt(100, 100));
+    }
+
+    /**
+     * Test method for {@link IslandGrid#removeFromGrid(Island)}.
+     */
+    @Test
+    public void testRemoveFromGrid() {
+        Island island = makeIsland(0, 0, UUID.randomUUID());
+        Island offGrid = makeIsland(1050, 1050, UUID.randomUUID());
+        ig.addToGrid(island);
+        ig.addToGrid(offGrid);
+        assertTrue(ig.removeFromGrid(island));
+        assertTrue(ig.removeFromGrid(offGrid));
+        assertFalse(ig.removeFromGrid(island));
+        assertFalse(ig.removeFromGrid(null));
+        assertNull(ig.getIslandAt(0, 0));
+        assertNull(ig.getIslandAt(1050, 1050));
+    }
+
+    /**
+     * Test method for {@link IslandGrid#getChunkStatus(int, int)}.
+     */
+    @Test
+    public void testGetChunkStatus() {
+        // Island space is -100 to 99 and protected area is -50 to 49
+        Island island = makeIsland(0, 0, UUID.randomUUID());
+        ig.addToGrid(island);
+        assertEquals(ChunkStatus.inside(island), ig.getChunkStatus(0, 0));
+        assertEquals(ChunkStatus.inside(island), ig.getChunkStatus(-3, -3));
+        assertEquals(ChunkStatus.BOUNDARY, ig.getChunkStatus(3, 0));
+        assertEquals(ChunkStatus.BOUNDARY, ig.getChunkStatus(-4, -4));
+        // In the island space but not protected
+        assertEquals(ChunkStatus.OUTSIDE, ig.getChunkStatus(5, 0));
+        // No island
+        assertEquals(ChunkStatus.OUTSIDE, ig.getChunkStatus(20, 0));
+        // Neighbor that is protected right up to its edge
+        Island neighbor = makeIsland(200, 0, UUID.randomUUID());
+        neighbor.setProtectionRange(DISTANCE);
+        ig.addToGrid(neighbor);
+        assertEquals(ChunkStatus.BOUNDARY, ig.getChunkStatus(6, 0));
+        assertEquals(ChunkStatus.inside(neighbor), ig.getChunkStatus(7, 0));
+        // Protection range changes are seen straight away
+        neighbor.setProtectionRange(50);
+        assertEquals(ChunkStatus.OUTSIDE, ig.getChunkStatus(7, 0));
+    }
+
+    /**
+     * Test method for {@link IslandGrid#getChunkStatus(int, int)}.
+     */
+    @Test
+    public void testGetChunkStatusSmallIslands() {
+        when(iwm.getIslandDistance(any())).thenReturn(4);
+        ig = new IslandGrid(world);
+        ig.addToGrid(makeIsland(0, 0, UUID.randomUUID()));
+        // Islands smaller than a chunk must be checked block by block
+        assertEquals(ChunkStatus.BOUNDARY, ig.getChunkStatus(0, 0));
+        assertEquals(ChunkStatus.BOUNDARY, ig.getChunkStatus(10, 10));
+    }
+}
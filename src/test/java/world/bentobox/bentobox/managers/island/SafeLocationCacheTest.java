@@ -0,0 +1,128 @@
+package world.bentobox.bentobox.managers.island;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.powermock.modules.junit4.PowerMockRunner;
+
+/**
+ * Tests for {@link SafeLocationCache}
+ */
+@RunWith(PowerMockRunner.class)
+public class SafeLocationCacheTest {
+
+    @Mock
+    private World world;
+    @Mock
+    private World otherWorld;
+    @Mock
+    private Block block;
+
+    private SafeLocationCache cache;
+    private Location location;
+
+    @Before
+    public void setUp() throws Exception {
+        when(world.getUID()).thenReturn(UUID.randomUUID());
+        when(otherWorld.getUID()).thenReturn(UUID.randomUUID());
+        when(block.getWorld()).thenReturn(world);
+        location = new Location(world, 10.5, 64, -20.5);
+        cache = new SafeLocationCache();
+    }
+
+    @After
+    public void tearDown() {
+        Mockito.framework().clearInlineMocks();
+    }
+
+    /**
+     * Test method for {@link SafeLocationCache#add(Location)}.
+     */
+    @Test
+    public void testAddIsSafe() {
+        assertFalse(cache.isSafe(location));
+        cache.add(location);
+        assertTrue(cache.isSafe(location));
+        // Same block
+        assertTrue(cache.isSafe(new Location(world, 10.1, 64.9, -20.9)));
+        assertFalse(cache.isSafe(new Location(world, 10.5, 65, -20.5)));
+        assertFalse(cache.isSafe(new Location(otherWorld, 10.5, 64, -20.5)));
+        assertFalse(cache.isSafe(new Location(null, 10.5, 64, -20.5)));
+    }
+
+    /**
+     * Test method for {@link SafeLocationCache#add(Location)}.
+     */
+    @Test
+    public void testAddNullWorld() {
+        cache.add(new Location(null, 0, 0, 0));
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Test method for {@link SafeLocationCache#blockChanged(Block)}.
+     */
+    @Test
+    public void testBlockChanged() {
+        // Ground, feet and head of the location
+        for (int y = 63; y <= 65; y++) {
+            cache.add(location);
+            when(block.getX()).thenReturn(10);
+            when(block.getY()).thenReturn(y);
+            when(block.getZ()).thenReturn(-21);
+            cache.blockChanged(block);
+            assertFalse(cache.isSafe(location));
+        }
+        // Further away
+        cache.add(location);
+        when(block.getY()).thenReturn(66);
+        cache.blockChanged(block);
+        when(block.getY()).thenReturn(64);
+        when(block.getX()).thenReturn(11);
+        cache.blockChanged(block);
+        assertTrue(cache.isSafe(location));
+        // Other world
+        when(block.getX()).thenReturn(10);
+        when(block.getWorld()).thenReturn(otherWorld);
+        cache.blockChanged(block);
+        assertTrue(cache.isSafe(location));
+    }
+
+    /**
+     * Test method for {@link SafeLocationCache#remove(Location)} and {@link SafeLocationCache#clear()}.
+     */
+    @Test
+    public void testRemoveClear() {
+        cache.add(location);
+        cache.remove(location);
+        assertFalse(cache.isSafe(location));
+        cache.add(location);
+        cache.clear();
+        assertFalse(cache.isSafe(location));
+    }
+
+    /**
+     * Test method for {@link SafeLocationCache#add(Location)}.
+     */
+    @Test
+    public void testAddMaxSize() {
+        for (int i = 0; i < SafeLocationCache.MAX_SIZE + 10; i++) {
+            cache.add(new Location(world, i, 64, 0));
+        }
+        assertTrue(cache.size() <= SafeLocationCache.MAX_SIZE);
+        assertTrue(cache.isSafe(new Location(world, SafeLocationCache.MAX_SIZE + 9, 64, 0)));
+    }
+}
@@ -0,0 +1,93 @@
+package world.bentobox.bentobox.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class LongHashMapTest {
+
+    private LongHashMap<String> map;
+
+    @Before
+    public void setUp() throws Exception {
+        map = new LongHashMap<>();
+    }
+
+    @Test
+    public void testKey() {
+        assertEquals(0L, LongHashMap.key(0, 0));
+        assertTrue(LongHashMap.key(-1, 0) != LongHashMap.key(0, -1));
+        assertEquals(0xFFFFFFFFL, LongHashMap.key(0, -1));
+    }
+
+    @Test
+    public void testPutGet() {
+        assertNull(map.put(LongHashMap.key(1, 2), "a"));
+        assertEquals("a", map.get(LongHashMap.key(1, 2)));
+        assertNull(map.get(LongHashMap.key(2, 1)));
+        assertEquals("a", map.put(LongHashMap.key(1, 2), "b"));
+        assertEquals("b", map.get(LongHashMap.key(1, 2)));
+        assertEquals(1, map.size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPutNull() {
+        map.put(1L, null);
+    }
+
+    @Test
+    public void testRemove() {
+        map.put(1L, "a");
+        assertTrue(map.containsKey(1L));
+        assertEquals("a", map.remove(1L));
+        assertFalse(map.containsKey(1L));
+        assertNull(map.remove(1L));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testClear() {
+        map.put(1L, "a");
+        map.put(2L, "b");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1L));
+    }
+
+    @Test
+    public void testForEachValue() {
+        map.put(1L, "a");
+        map.put(2L, "b");
+        StringBuilder sb = new StringBuilder();
+        map.forEachValue(sb::append);
+        assertEquals(2, sb.length());
+    }
+
+    /**
+     * Random churn compared against a HashMap to check growth and removal do not lose entries
+     */
+    @Test
+    public void testAgainstHashMap() {
+        Map<Long, String> expected = new HashMap<>();
+        Random random = new Random(1);
+        for (int i = 0; i < 100000; i++) {
+            long key = LongHashMap.key(random.nextInt(200) - 100, random.nextInt(200) - 100);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                String value = String.valueOf(i);
+                assertEquals(expected.put(key, value), map.put(key, value));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        expected.forEach((k, v) -> assertEquals(v, map.get(k)));
+    }
+}
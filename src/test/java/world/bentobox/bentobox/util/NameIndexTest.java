@@ -0,0 +1,143 @@
+package world.bentobox.bentobox.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class NameIndexTest {
+
+    private NameIndex index;
+    private UUID uuid;
+    private UUID uuid2;
+
+    @Before
+    public void setUp() throws Exception {
+        index = new NameIndex();
+        uuid = UUID.randomUUID();
+        uuid2 = UUID.randomUUID();
+    }
+
+    @Test
+    public void testPutGet() {
+        index.put("tastybento", uuid);
+        assertEquals(uuid, index.get("tastybento"));
+        assertEquals(uuid, index.get("TastyBento"));
+        assertNull(index.get("tasty"));
+        index.put("TASTYBENTO", uuid2);
+        assertEquals(uuid2, index.get("tastybento"));
+        assertEquals(1, index.size());
+        // Case of the name is updated
+        assertEquals(List.of("TASTYBENTO"), index.startingWith("t", 10));
+    }
+
+    @Test
+    public void testRemove() {
+        index.put("Poslovitch", uuid);
+        // Only removed if it belongs to the UUID
+        index.remove("poslovitch", uuid2);
+        assertEquals(uuid, index.get("Poslovitch"));
+        index.remove("poslovitch", uuid);
+        assertNull(index.get("Poslovitch"));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void testAddAll() {
+        index.put("BONNe", uuid);
+        Map<String, UUID> loaded = new HashMap<>();
+        loaded.put("bonne", uuid2);
+        loaded.put("Florian", uuid2);
+        index.addAll(loaded);
+        // Names already in the index are newer than the loaded ones
+        assertEquals(uuid, index.get("BONNe"));
+        assertEquals(uuid2, index.get("florian"));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    public void testRemoveAfterAddAll() {
+        index.addAll(Map.of("tastybento", uuid, "tastyfood", uuid2));
+        index.remove("tastybento", uuid);
+        assertNull(index.get("tastybento"));
+        assertEquals(List.of("tastyfood"), index.startingWith("tasty", 10));
+        assertEquals(1, index.size());
+        index.put("TastyBento", uuid);
+        assertEquals(List.of("TastyBento", "tastyfood"), index.startingWith("TASTY", 10));
+    }
+
+    @Test
+    public void testStartingWith() {
+        index.addAll(Map.of("Alice", uuid, "alfred", uuid, "Bob", uuid));
+        index.put("ALBERT", uuid2);
+        index.put("Zed", uuid2);
+        assertEquals(List.of("ALBERT", "alfred", "Alice"), index.startingWith("al", 10));
+        assertEquals(List.of("ALBERT", "alfred"), index.startingWith("Al", 2));
+        assertEquals(List.of("Bob"), index.startingWith("b", 10));
+        assertEquals(5, index.startingWith("", 10).size());
+        assertTrue(index.startingWith("x", 10).isEmpty());
+    }
+
+    @Test
+    public void testManyChanges() {
+        // Compare with a sorted map while changes are merged into the arrays
+        Random random = new Random(1);
+        TreeMap<String, UUID> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, UUID> loaded = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            String name = randomName(random);
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            loaded.put(name, id);
+        }
+        index.addAll(loaded);
+        // Names that only differ in case are added in the same order
+        expected.putAll(loaded);
+        List<String> names = new ArrayList<>(expected.keySet());
+        for (int i = 0; i < 20000; i++) {
+            if (random.nextInt(4) == 0) {
+                String name = names.get(random.nextInt(names.size()));
+                UUID id = expected.get(name);
+                if (id != null) {
+                    index.remove(name, id);
+                    expected.remove(name);
+                }
+            } else {
+                String name = randomName(random);
+                UUID id = new UUID(random.nextLong(), random.nextLong());
+                index.put(name, id);
+                expected.remove(name);
+                expected.put(name, id);
+                names.add(name);
+            }
+        }
+        assertEquals(expected.size(), index.size());
+        for (Map.Entry<String, UUID> e : expected.entrySet()) {
+            assertEquals(e.getValue(), index.get(e.getKey().toUpperCase()));
+        }
+        for (String prefix : List.of("", "a", "Ab", "zz", "m_", "Q3")) {
+            List<String> matches = expected.keySet().stream()
+                    .filter(n -> n.regionMatches(true, 0, prefix, 0, prefix.length())).limit(100).toList();
+            assertEquals(matches, index.startingWith(prefix, 100));
+        }
+    }
+
+    private static String randomName(Random random) {
+        String chars = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789_";
+        StringBuilder sb = new StringBuilder();
+        int length = 3 + random.nextInt(8);
+        for (int i = 0; i < length; i++) {
+            sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
+}
@@ -301,6 +301,23 @@ public class UtilTest {
         assertEquals("End", world, Util.getWorld(end));
     }
 
+    /**
+     * Test method for {@link world.bentobox.bentobox.util.Util#getWorld(org.bukkit.World)}.
+     */
+    @Test
+    public void testGetWorldCached() {
+        World nether = mock(World.class);
+        when(nether.getEnvironment()).thenReturn(Environment.NETHER);
+        when(nether.getName()).thenReturn("world_name_nether");
+        // Not cached yet
+        assertEquals(world, Util.getWorld(nether));
+        verify(iwm).cacheOverWorld(nether, world);
+        // Cached
+        World overWorld = mock(World.class);
+        when(iwm.getCachedOverWorld(nether)).thenReturn(overWorld);
+        assertEquals(overWorld, Util.getWorld(nether));
+    }
+
     /**
      * Test method for {@link world.bentobox.bentobox.util.Util#blockFaceToFloat(org.bukkit.block.BlockFace)}.
      */
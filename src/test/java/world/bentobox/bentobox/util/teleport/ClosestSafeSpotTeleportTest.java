@@ -5,7 +5,6 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -28,7 +27,6 @@ import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitScheduler;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 import org.eclipse.jdt.annotation.NonNull;
 import org.junit.After;
@@ -90,8 +88,6 @@ public class ClosestSafeSpotTeleportTest {
     @Mock
     private IslandWorldManager iwm;
 
-    @Mock
-    private BukkitTask task;
     @Mock
     private ChunkSnapshot chunkSnapshot;
     @Mock
@@ -102,6 +98,7 @@ public class ClosestSafeSpotTeleportTest {
      */
     @Before
     public void setUp() throws Exception {
+        ChunkLoadQueue.clear();
         // Setup instance
         Whitebox.setInternalState(BentoBox.class, "instance", plugin);
         // IWM
@@ -115,6 +112,8 @@ public class ClosestSafeSpotTeleportTest {
         // Mock static Util
         PowerMockito.mockStatic(Util.class, Mockito.RETURNS_MOCKS);
         when(Util.getChunkAtAsync(any(Location.class))).thenReturn(cfChunk);
+        // Chunks load asynchronously
+        when(Util.isPaper()).thenReturn(true);
         // Same world
         when(Util.sameWorld(any(), any())).thenReturn(true);
         // Set up builder
@@ -143,7 +142,6 @@ public class ClosestSafeSpotTeleportTest {
         when(plugin.getIslands()).thenReturn(im);
 
         // Bukkit scheduler
-        when(scheduler.runTaskTimer(eq(plugin), any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
         PowerMockito.mockStatic(Bukkit.class, Mockito.RETURNS_MOCKS);
         when(Bukkit.getScheduler()).thenReturn(scheduler);
 
@@ -175,8 +173,9 @@ public class ClosestSafeSpotTeleportTest {
     @Test
     public void testCheckLocation() {
         csst.checkLocation();
-        PowerMockito.verifyStatic(Bukkit.class, VerificationModeFactory.times(1));
-        Bukkit.getScheduler();
+        // All the chunks are asked for at once
+        PowerMockito.verifyStatic(Util.class, VerificationModeFactory.times(16));
+        Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
         verify(im, times(17)).getIslandAt(location);
     }
 
@@ -202,8 +201,10 @@ public class ClosestSafeSpotTeleportTest {
     public void testGatherChunks() {
         csst.checkLocation();
         csst.gatherChunks();
-        PowerMockito.verifyStatic(Util.class, VerificationModeFactory.times(1));
+        // The second search waits for the first one's chunks to load
+        PowerMockito.verifyStatic(Util.class, VerificationModeFactory.times(ChunkLoadQueue.MAX_LOADS));
         Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
+        assertEquals(ChunkLoadQueue.MAX_LOADS, ChunkLoadQueue.getLoading());
     }
 
     /**
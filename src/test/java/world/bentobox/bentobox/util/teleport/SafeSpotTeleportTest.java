@@ -7,6 +7,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,7 +21,9 @@ import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Location;
+import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Entity;
 import org.bukkit.scheduler.BukkitScheduler;
@@ -27,6 +33,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
@@ -35,6 +42,7 @@ import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
 
 import world.bentobox.bentobox.BentoBox;
+import world.bentobox.bentobox.Settings;
 import world.bentobox.bentobox.database.objects.Island;
 import world.bentobox.bentobox.managers.IslandWorldManager;
 import world.bentobox.bentobox.managers.IslandsManager;
@@ -85,13 +93,11 @@ public class SafeSpotTeleportTest {
     private Island island;
     @Mock
     private IslandWorldManager iwm;
-
-    @Mock
-    private BukkitTask task;
     /**
      */
     @Before
     public void setUp() throws Exception {
+        ChunkLoadQueue.clear();
         // Setup instance
         Whitebox.setInternalState(BentoBox.class, "instance", plugin);
         // IWM
@@ -102,6 +108,8 @@ public class SafeSpotTeleportTest {
         // Mock static Util
         PowerMockito.mockStatic(Util.class, Mockito.RETURNS_MOCKS);
         when(Util.getChunkAtAsync(any(Location.class))).thenReturn(cfChunk);
+        // Chunks load asynchronously
+        when(Util.isPaper()).thenReturn(true);
         // Same world
         when(Util.sameWorld(any(), any())).thenReturn(true);
         // Set up a mock builder
@@ -130,7 +138,6 @@ public class SafeSpotTeleportTest {
         when(plugin.getIslands()).thenReturn(im);
 
         // Bukkit scheduler
-        when(scheduler.runTaskTimer(eq(plugin), any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
         PowerMockito.mockStatic(Bukkit.class, Mockito.RETURNS_MOCKS);
         when(Bukkit.getScheduler()).thenReturn(scheduler);
     }
@@ -183,7 +190,9 @@ public class SafeSpotTeleportTest {
         // Set up fields
         testSafeSpotTeleport();
         sst.tryToGo("failure message");
-        verify(scheduler).runTaskTimer(eq(plugin), any(Runnable.class), eq(0L), eq(1L));
+        // Chunks are loaded straight away
+        PowerMockito.verifyStatic(Util.class, times(6));
+        Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
     }
 
     /**
@@ -191,14 +200,54 @@ public class SafeSpotTeleportTest {
      */
     @Test
     public void testGatherChunks() {
-        // Setup fields
-        testTryToGoUnsafe();
-        // run test
+        testSafeSpotTeleport();
         assertTrue(sst.gatherChunks("failure message"));
-        PowerMockito.verifyStatic(Util.class);
+        PowerMockito.verifyStatic(Util.class, times(6));
+        Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
+        assertEquals(6, ChunkLoadQueue.getLoading());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.util.teleport.SafeSpotTeleport#gatherChunks(java.lang.String)}.
+     */
+    @Test
+    public void testGatherChunksLimit() {
+        testSafeSpotTeleport();
+        // Lots of teleports at once
+        for (int i = 0; i < 5; i++) {
+            assertTrue(sst.gatherChunks("failure message"));
+        }
+        // The loads over the limit wait
+        PowerMockito.verifyStatic(Util.class, times(ChunkLoadQueue.MAX_LOADS));
+        Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
+        assertEquals(ChunkLoadQueue.MAX_LOADS, ChunkLoadQueue.getLoading());
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.util.teleport.SafeSpotTeleport#gatherChunks(java.lang.String)}.
+     */
+    @Test
+    public void testGatherChunksNotPaper() {
+        when(Util.isPaper()).thenReturn(false);
+        BukkitTask task = mock(BukkitTask.class);
+        when(scheduler.runTaskTimer(eq(plugin), any(Runnable.class), anyLong(), anyLong())).thenReturn(task);
+        testSafeSpotTeleport();
+        assertTrue(sst.gatherChunks("failure message"));
+        // Chunks would load straight away, so none are asked for until the next tick
+        PowerMockito.verifyStatic(Util.class, never());
         Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
-        // run test again - should be blocked because of atomic boolean
-        assertFalse(sst.gatherChunks("failure message"));
+        ArgumentCaptor<Runnable> ticker = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).runTaskTimer(eq(plugin), ticker.capture(), anyLong(), anyLong());
+        ticker.getValue().run();
+        PowerMockito.verifyStatic(Util.class, times(ChunkLoadQueue.SYNC_LOADS_PER_TICK));
+        Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
+        // Run until the queue is empty
+        for (int i = 0; i < 6; i++) {
+            ticker.getValue().run();
+        }
+        PowerMockito.verifyStatic(Util.class, times(6));
+        Util.getChunkAtAsync(eq(world), anyInt(), anyInt());
+        verify(task).cancel();
     }
 
     /**
@@ -210,7 +259,6 @@ public class SafeSpotTeleportTest {
         sst = new SafeSpotTeleport(builder);
         sst.tryToGo("failure message");
         sst.tidyUp(entity, "failure note");
-        verify(task).cancel();
         verify(scheduler).runTask(plugin, failRunnable);
     }
 
@@ -223,7 +271,6 @@ public class SafeSpotTeleportTest {
         sst = new SafeSpotTeleport(builder);
         sst.tryToGo("failure message");
         sst.tidyUp(entity, "failure note");
-        verify(task).cancel();
         verify(scheduler).runTask(plugin, failRunnable);
     }
 
@@ -250,7 +297,51 @@ public class SafeSpotTeleportTest {
      */
     @Test
     public void testScanChunk() {
-        //fail("Not yet implemented"); // TODO
+        when(world.getMinHeight()).thenReturn(-64);
+        when(world.getMaxHeight()).thenReturn(320);
+        when(location.getBlockY()).thenReturn(20);
+        Settings settings = mock(Settings.class);
+        when(settings.getSafeSpotSearchVerticalRange()).thenReturn(400);
+        when(plugin.getSettings()).thenReturn(settings);
+        when(im.checkIfSafe(any(), eq(Material.STONE), eq(Material.AIR), eq(Material.AIR))).thenReturn(true);
+        // Two pillars. The one at 10,10 is checked later but is nearer to the start height.
+        ChunkSnapshot chunk = mock(ChunkSnapshot.class);
+        when(chunk.getHighestBlockYAt(anyInt(), anyInt())).thenReturn(-64);
+        when(chunk.getHighestBlockYAt(3, 5)).thenReturn(50);
+        when(chunk.getHighestBlockYAt(10, 10)).thenReturn(40);
+        when(chunk.getBlockType(anyInt(), anyInt(), anyInt())).thenAnswer(i -> {
+            int x = i.getArgument(0);
+            int y = i.getArgument(1);
+            int z = i.getArgument(2);
+            return (x == 3 && z == 5 && y <= 50) || (x == 10 && z == 10 && y <= 40) ? Material.STONE : Material.AIR;
+        });
+        testTryToGoUnsafe();
+        assertTrue(sst.scanChunk(chunk));
+        // Empty columns are not read above the start height
+        verify(chunk, never()).getBlockType(eq(0), intThat(y -> y > 22), eq(0));
+        ArgumentCaptor<Runnable> teleport = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).runTask(eq(plugin), teleport.capture());
+        teleport.getValue().run();
+        PowerMockito.verifyStatic(Util.class);
+        Util.teleportAsync(eq(entity), eq(new Location(world, 10.5D, 41D, 10.5D)));
+    }
+
+    /**
+     * Test method for {@link world.bentobox.bentobox.util.teleport.SafeSpotTeleport#scanChunk(org.bukkit.ChunkSnapshot)}.
+     */
+    @Test
+    public void testScanChunkNoSafeSpot() {
+        when(world.getMinHeight()).thenReturn(-64);
+        when(world.getMaxHeight()).thenReturn(320);
+        when(location.getBlockY()).thenReturn(64);
+        Settings settings = mock(Settings.class);
+        when(settings.getSafeSpotSearchVerticalRange()).thenReturn(400);
+        when(plugin.getSettings()).thenReturn(settings);
+        ChunkSnapshot chunk = mock(ChunkSnapshot.class);
+        when(chunk.getBlockType(anyInt(), anyInt(), anyInt())).thenReturn(Material.AIR);
+        testTryToGoUnsafe();
+        assertFalse(sst.scanChunk(chunk));
+        verify(scheduler, never()).runTask(eq(plugin), any(Runnable.class));
     }
 
     /**